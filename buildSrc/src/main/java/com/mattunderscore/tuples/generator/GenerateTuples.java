@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Task that generates the tuples with an arity greater than four.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public class GenerateTuples extends DefaultTask {
+    private File outputDir;
+
+    /**
+     * @return the root of the source tree to generate into
+     */
+    @OutputDirectory
+    public File getOutputDir() {
+        return outputDir;
+    }
+
+    /**
+     * @param outputDir the root of the source tree to generate into
+     */
+    public void setOutputDir(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Generate the sources.
+     */
+    @TaskAction
+    public void generate() {
+        getProject().delete(outputDir);
+        try {
+            new TupleGenerator(outputDir.toPath()).generate();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
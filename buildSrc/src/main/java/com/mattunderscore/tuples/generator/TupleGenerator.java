@@ -0,0 +1,355 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generator for the tuples with an arity greater than four.
+ * <p>
+ * The tuples follow the pattern of {@code Quad}. The value interfaces {@code V4} and above are also generated, with
+ * a factory that creates the tuple of the arity of an array of values.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleGenerator {
+    /**
+     * The smallest arity generated.
+     */
+    public static final int MIN_ARITY = 5;
+    /**
+     * The largest arity generated.
+     */
+    public static final int MAX_ARITY = 16;
+    private static final String PACKAGE = "com.mattunderscore.tuples";
+    private static final String[] NAMES = {
+        "Quint",
+        "Sext",
+        "Sept",
+        "Oct",
+        "Non",
+        "Dec",
+        "Undec",
+        "Duodec",
+        "Tredec",
+        "Quattuordec",
+        "Quindec",
+        "Sexdec"
+    };
+
+    private final Path outputDirectory;
+
+    /**
+     * Constructor.
+     *
+     * @param outputDirectory the root of the source tree to generate into
+     */
+    public TupleGenerator(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Generate the tuples, value interfaces and factory.
+     *
+     * @throws IOException if the sources cannot be written
+     */
+    public void generate() throws IOException {
+        final Path packageDirectory = outputDirectory.resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+        for (int i = 4; i < MAX_ARITY; i++) {
+            write(packageDirectory, "V" + i, valueInterface(i));
+        }
+        for (int n = MIN_ARITY; n <= MAX_ARITY; n++) {
+            write(packageDirectory, name(n), tuple(n));
+        }
+        write(packageDirectory, "GeneratedTuples", factory());
+    }
+
+    /**
+     * @return the name of the tuple class of arity {@code n}
+     */
+    public static String name(int n) {
+        return NAMES[n - MIN_ARITY];
+    }
+
+    private static void write(Path directory, String name, String source) throws IOException {
+        Files.write(directory.resolve(name + ".java"), source.getBytes(UTF_8));
+    }
+
+    private static String valueInterface(int i) {
+        final StringBuilder builder = header();
+        builder
+            .append("import java.util.function.Consumer;\n")
+            .append("import java.util.function.Function;\n\n")
+            .append("/**\n")
+            .append(" * Interface for accessing value ").append(i).append(".\n")
+            .append(" *\n")
+            .append(" * @param <T").append(i).append("> the type of value ").append(i).append('\n')
+            .append(" */\n")
+            .append("public interface V").append(i).append("<T").append(i).append("> {\n")
+            .append("    /**\n")
+            .append("     * @return value ").append(i).append('\n')
+            .append("     */\n")
+            .append("    T").append(i).append(" v").append(i).append("();\n\n")
+            .append("    /**\n")
+            .append("     * Pass value ").append(i).append(" to {@code consumer}.\n")
+            .append("     */\n")
+            .append("    void acceptV").append(i).append("(Consumer<? super T").append(i).append("> consumer);\n\n")
+            .append("    /**\n")
+            .append("     * Apply {@code function} to value ").append(i).append(" and return the result.\n")
+            .append("     */\n")
+            .append("    <U> U applyV").append(i).append("(Function<? super T").append(i).append(", U> function);\n")
+            .append("}\n");
+        return builder.toString();
+    }
+
+    private static String tuple(int n) {
+        final String name = name(n);
+        final String word = name.toLowerCase();
+        final StringBuilder builder = header();
+        builder
+            .append("import net.jcip.annotations.Immutable;\n\n")
+            .append("import java.util.Objects;\n")
+            .append("import java.util.function.Consumer;\n")
+            .append("import java.util.function.Function;\n\n")
+            .append("/**\n")
+            .append(" * A ").append(n).append("-tuple.\n")
+            .append(" *\n");
+        for (int i = 0; i < n; i++) {
+            builder.append(" * @param <T").append(i).append("> the type of value ").append(i).append('\n');
+        }
+        builder
+            .append(" */\n")
+            .append("@Immutable\n")
+            .append("public final class ").append(name).append('<').append(list("T", n)).append("> extends Tuple implements ");
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "" : ", ").append('V').append(i).append("<T").append(i).append('>');
+        }
+        builder.append(" {\n");
+        for (int i = 0; i < n; i++) {
+            builder.append("    private final T").append(i).append(" v").append(i).append(";\n");
+        }
+        builder.append("\n    /*package*/ ").append(name).append('(');
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "" : ", ").append('T').append(i).append(" v").append(i);
+        }
+        builder.append(") {\n");
+        for (int i = 0; i < n; i++) {
+            builder.append("        this.v").append(i).append(" = v").append(i).append(";\n");
+        }
+        builder.append("    }\n");
+
+        for (int i = 0; i < n; i++) {
+            builder
+                .append("\n    @Override\n")
+                .append("    public T").append(i).append(" v").append(i).append("() {\n")
+                .append("        return v").append(i).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void acceptV").append(i).append("(Consumer<? super T").append(i).append("> consumer) {\n")
+                .append("        consumer.accept(v").append(i).append(");\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public <U> U applyV").append(i).append("(Function<? super T").append(i).append(", U> function) {\n")
+                .append("        return function.apply(v").append(i).append(");\n")
+                .append("    }\n\n")
+                .append("    /**\n")
+                .append("     * Map value ").append(i).append(" to new ").append(word).append(".\n")
+                .append("     *\n")
+                .append("     * @param function function to apply to value ").append(i).append('\n')
+                .append("     * @param <U> the new type of value ").append(i).append('\n')
+                .append("     * @return the new ").append(word).append('\n')
+                .append("     */\n")
+                .append("    public <U> ").append(name).append('<');
+            for (int j = 0; j < n; j++) {
+                builder.append(j == 0 ? "" : ", ").append(j == i ? "U" : "T" + j);
+            }
+            builder
+                .append("> mapV").append(i).append("(Function<? super T").append(i).append(", U> function) {\n")
+                .append("        return new ").append(name).append("<>(");
+            for (int j = 0; j < n; j++) {
+                builder.append(j == 0 ? "" : ", ").append(j == i ? "function.apply(v" + j + ")" : "v" + j);
+            }
+            builder.append(");\n    }\n");
+        }
+
+        builder
+            .append("\n    /**\n")
+            .append("     * Map all values to new ").append(word).append(".\n")
+            .append("     *\n");
+        for (int i = 0; i < n; i++) {
+            builder.append("     * @param function").append(i).append(" function to apply to value ").append(i).append('\n');
+        }
+        for (int i = 0; i < n; i++) {
+            builder.append("     * @param <U").append(i).append("> the new type of value ").append(i).append('\n');
+        }
+        builder
+            .append("     * @return the new ").append(word).append('\n')
+            .append("     */\n")
+            .append("    public <").append(list("U", n)).append("> ").append(name).append('<').append(list("U", n)).append("> map(");
+        for (int i = 0; i < n; i++) {
+            builder
+                .append(i == 0 ? "\n" : ",\n")
+                .append("            Function<? super T").append(i).append(", U").append(i).append("> function").append(i);
+        }
+        builder.append(") {\n        return new ").append(name).append("<>(");
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "\n" : ",\n").append("            function").append(i).append(".apply(v").append(i).append(')');
+        }
+        builder.append(");\n    }\n");
+
+        builder
+            .append("\n    @Override\n")
+            .append("    public int arity() {\n")
+            .append("        return ").append(n).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Object get(int i) {\n")
+            .append("        switch (Objects.checkIndex(i, ").append(n).append(")) {\n");
+        for (int i = 0; i < n - 1; i++) {
+            builder
+                .append("            case ").append(i).append(":\n")
+                .append("                return v").append(i).append(";\n");
+        }
+        builder
+            .append("            default:\n")
+            .append("                return v").append(n - 1).append(";\n")
+            .append("        }\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Object[] toArray() {\n")
+            .append("        return new Object[] {").append(list("v", n)).append("};\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void forEach(Consumer<Object> consumer) {\n");
+        for (int i = 0; i < n; i++) {
+            builder.append("        consumer.accept(v").append(i).append(");\n");
+        }
+        builder
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public NTuple toNTuple() {\n")
+            .append("        return NTuple.wrap(toArray());\n")
+            .append("    }\n");
+
+        builder
+            .append("\n    @Override\n")
+            .append("    public boolean equals(Object o) {\n")
+            .append("        if (this == o) {\n")
+            .append("            return true;\n")
+            .append("        }\n")
+            .append("        if (o == null || getClass() != o.getClass()) {\n")
+            .append("            return false;\n")
+            .append("        }\n\n")
+            .append("        final ").append(name).append('<').append(wildcards(n)).append("> ").append(word)
+            .append(" = (").append(name).append('<').append(wildcards(n)).append(">) o;\n")
+            .append("        return ");
+        for (int i = 0; i < n; i++) {
+            builder
+                .append(i == 0 ? "" : " &&\n            ")
+                .append("Objects.equals(v").append(i).append(", ").append(word).append(".v").append(i).append(')');
+        }
+        builder
+            .append(";\n    }\n\n")
+            .append("    @Override\n")
+            .append("    public int hashCode() {\n")
+            .append("        int hash = TupleHash.SEED;\n");
+        for (int i = 0; i < n; i++) {
+            builder.append("        hash = TupleHash.combine(hash, Objects.hashCode(v").append(i).append("));\n");
+        }
+        builder
+            .append("        return TupleHash.finish(hash, ").append(n).append(");\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public String toString() {\n")
+            .append("        return \"[\" + ");
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "" : " + \", \" + ").append('v').append(i);
+        }
+        builder
+            .append(" + \"]\";\n")
+            .append("    }\n\n")
+            .append("    /**\n")
+            .append("     * @return a new ").append(word).append('\n')
+            .append("     */\n")
+            .append("    public static <").append(list("T", n));
+        for (int i = 0; i < n; i++) {
+            builder.append(", U").append(i).append(" extends T").append(i);
+        }
+        builder.append(">\n            ").append(name).append('<').append(list("T", n)).append("> of(");
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "" : ", ").append('U').append(i).append(" v").append(i);
+        }
+        builder
+            .append(") {\n")
+            .append("        return new ").append(name).append("<>(").append(list("v", n)).append(");\n")
+            .append("    }\n")
+            .append("}\n");
+        return builder.toString();
+    }
+
+    private static String factory() {
+        final StringBuilder builder = header();
+        builder
+            .append("/**\n")
+            .append(" * Factory of the generated tuples.\n")
+            .append(" */\n")
+            .append("/*package*/ final class GeneratedTuples {\n")
+            .append("    private GeneratedTuples() {\n")
+            .append("    }\n\n")
+            .append("    /**\n")
+            .append("     * @param values the values, the array is not copied and must not be modified\n")
+            .append("     * @return the generated tuple of the arity of the values or a n-tuple if none is generated\n")
+            .append("     */\n")
+            .append("    /*package*/ static Tuple of(Object[] values) {\n")
+            .append("        switch (values.length) {\n");
+        for (int n = MIN_ARITY; n <= MAX_ARITY; n++) {
+            builder
+                .append("            case ").append(n).append(":\n")
+                .append("                return new ").append(name(n)).append("<>(");
+            for (int i = 0; i < n; i++) {
+                builder.append(i == 0 ? "\n" : ",\n").append("                    values[").append(i).append(']');
+            }
+            builder.append(");\n");
+        }
+        builder
+            .append("            default:\n")
+            .append("                return new NTuple(values);\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+        return builder.toString();
+    }
+
+    private static StringBuilder header() {
+        return new StringBuilder()
+            .append("/*\n")
+            .append(" * Copyright © 2026 Matt Champion\n")
+            .append(" *\n")
+            .append(" * Generated by TupleGenerator, do not edit.\n")
+            .append(" */\n\n")
+            .append("package ").append(PACKAGE).append(";\n\n");
+    }
+
+    private static String list(String prefix, int n) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "" : ", ").append(prefix).append(i);
+        }
+        return builder.toString();
+    }
+
+    private static String wildcards(int n) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            builder.append(i == 0 ? "?" : ", ?");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+/**
+ * Component values for the benchmarks.
+ * <p>
+ * Values outside of the {@link Integer} cache and non-interned strings are used so that equal tuples do not share
+ * components and equality has to compare the values.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+/*package*/ final class Components {
+    private Components() {
+    }
+
+    /**
+     * Create a component value.
+     *
+     * @param type the type of component, either {@code string} or {@code integer}
+     * @param seed the seed of the value, equal seeds create equal values
+     * @return a new component value
+     * @throws IllegalArgumentException if the type is not known
+     */
+    /*package*/ static Object create(String type, int seed) {
+        switch (type) {
+            case "string":
+                return "component-" + seed;
+            case "integer":
+                return Integer.valueOf(1000 + seed);
+            default:
+                throw new IllegalArgumentException("Unknown component type " + type);
+        }
+    }
+}
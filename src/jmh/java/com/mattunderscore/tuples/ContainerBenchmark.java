@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Container}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContainerBenchmark {
+    /**
+     * The type of the components.
+     */
+    @Param({"string", "integer"})
+    public String componentType;
+
+    private final Function<Object, Object> function = Function.identity();
+    private Object v0;
+    private Container<Object> container;
+    private Container<Object> equalContainer;
+    private Container<Object> differentContainer;
+
+    /**
+     * Create the tuples.
+     */
+    @Setup
+    public void setUp() {
+        v0 = Components.create(componentType, 0);
+        container = Container.of(v0);
+        equalContainer = Container.of(Components.create(componentType, 0));
+        differentContainer = Container.of(Components.create(componentType, 1));
+    }
+
+    /**
+     * Benchmark construction.
+     */
+    @Benchmark
+    public Container<Object> of() {
+        return Container.of(v0);
+    }
+
+    /**
+     * Benchmark value access.
+     */
+    @Benchmark
+    public Object v0() {
+        return container.v0();
+    }
+
+    /**
+     * Benchmark comparing equal tuples.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return container.equals(equalContainer);
+    }
+
+    /**
+     * Benchmark comparing different tuples.
+     */
+    @Benchmark
+    public boolean equalsDifferent() {
+        return container.equals(differentContainer);
+    }
+
+    /**
+     * Benchmark hashing.
+     */
+    @Benchmark
+    public int hash() {
+        return container.hashCode();
+    }
+
+    /**
+     * Benchmark mapping value 0.
+     */
+    @Benchmark
+    public Container<Object> mapV0() {
+        return container.mapV0(function);
+    }
+
+    /**
+     * Benchmark mapping all values.
+     */
+    @Benchmark
+    public Container<Object> map() {
+        return container.map(function);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link PairMap} lookups over a grid of small integer keys with each {@link HashStrategy}.
+ * <p>
+ * The distribution of the keys over the slots of the map is printed when the map is created. Polynomial hashing of
+ * the grid produces few distinct hash codes and long probe chains, mixing spreads the keys over the slots.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HashBenchmark {
+    /**
+     * The hash strategy.
+     */
+    @Param({"polynomial", "mixed"})
+    public String strategy;
+
+    /**
+     * The width of the grid of keys.
+     */
+    @Param({"64"})
+    public int width;
+
+    private PairMap<Integer, Integer, Integer> map;
+    private Integer[] values;
+    private int index;
+
+    /**
+     * Create the map and print the distribution of the keys.
+     */
+    @Setup
+    public void setUp() {
+        final HashStrategy hashStrategy = "mixed".equals(strategy) ? HashStrategy.mixed() : HashStrategy.polynomial();
+        final int size = width * width;
+        map = PairMap.create(size, hashStrategy);
+        values = new Integer[width];
+        for (int i = 0; i < width; i++) {
+            values[i] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            map.put(values[i / width], values[i % width], i);
+        }
+
+        final int slots = TupleKeyMap.capacityFor(size);
+        final int[] slotSizes = new int[slots];
+        final Set<Integer> hashes = new HashSet<>();
+        int longest = 0;
+        int used = 0;
+        for (int i = 0; i < size; i++) {
+            final int hash = TupleKeyMap.spread(hash(hashStrategy, values[i / width], values[i % width]));
+            hashes.add(hash);
+            final int slot = hash & (slots - 1);
+            if (slotSizes[slot] == 0) {
+                used++;
+            }
+            slotSizes[slot]++;
+            longest = Math.max(longest, slotSizes[slot]);
+        }
+        System.out.printf(
+            "%n%s: %d keys, %d distinct hash codes, %d of %d home slots used, most keys in a slot %d%n",
+            strategy,
+            size,
+            hashes.size(),
+            used,
+            slots,
+            longest);
+    }
+
+    private static int hash(HashStrategy strategy, Object k0, Object k1) {
+        return strategy.hash(k0.hashCode(), k1.hashCode());
+    }
+
+    /**
+     * Benchmark looking up a key of the grid.
+     */
+    @Benchmark
+    public Integer get() {
+        final int i = index;
+        index = (i + 1) % (width * width);
+        return map.get(values[i / width], values[i % width]);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of hash map lookups using {@link Pair} and {@link PairKey} keys.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KeyBenchmark {
+    /**
+     * The type of the components.
+     */
+    @Param({"string", "integer"})
+    public String componentType;
+
+    private final Map<Pair<Object, Object>, Object> pairMap = new HashMap<>();
+    private final Map<PairKey<Object, Object>, Object> keyMap = new HashMap<>();
+    private Pair<Object, Object> pair;
+    private PairKey<Object, Object> key;
+
+    /**
+     * Create the maps.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 64; i++) {
+            final Object v0 = Components.create(componentType, i);
+            final Object v1 = Components.create(componentType, i + 1);
+            pairMap.put(Pair.of(v0, v1), v0);
+            keyMap.put(PairKey.of(v0, v1), v0);
+        }
+        pair = Pair.of(Components.create(componentType, 7), Components.create(componentType, 8));
+        key = PairKey.from(pair);
+    }
+
+    /**
+     * Benchmark looking up a pair.
+     */
+    @Benchmark
+    public Object pairLookup() {
+        return pairMap.get(pair);
+    }
+
+    /**
+     * Benchmark looking up a key.
+     */
+    @Benchmark
+    public Object keyLookup() {
+        return keyMap.get(key);
+    }
+}
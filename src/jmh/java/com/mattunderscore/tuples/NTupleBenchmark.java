@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link NTuple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NTupleBenchmark {
+    /**
+     * The type of the components.
+     */
+    @Param({"string", "integer"})
+    public String componentType;
+
+    /**
+     * The arity of the tuples.
+     */
+    @Param({"2", "4", "8"})
+    public int arity;
+
+    private final Function<Object, Object> function = Function.identity();
+    private Object[] values;
+    private NTuple tuple;
+    private NTuple equalTuple;
+    private NTuple differentTuple;
+
+    /**
+     * Create the tuples.
+     */
+    @Setup
+    public void setUp() {
+        values = new Object[arity];
+        final Object[] equalValues = new Object[arity];
+        final Object[] differentValues = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            values[i] = Components.create(componentType, i);
+            equalValues[i] = Components.create(componentType, i);
+            differentValues[i] = Components.create(componentType, i);
+        }
+        differentValues[arity - 1] = Components.create(componentType, arity);
+        tuple = NTuple.of(values);
+        equalTuple = NTuple.of(equalValues);
+        differentTuple = NTuple.of(differentValues);
+    }
+
+    /**
+     * Benchmark construction.
+     */
+    @Benchmark
+    public NTuple of() {
+        return NTuple.of(values);
+    }
+
+    /**
+     * Benchmark value access.
+     */
+    @Benchmark
+    public Object v0() {
+        return tuple.v(0);
+    }
+
+    /**
+     * Benchmark comparing equal tuples.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return tuple.equals(equalTuple);
+    }
+
+    /**
+     * Benchmark comparing tuples that differ in the last value.
+     */
+    @Benchmark
+    public boolean equalsDifferent() {
+        return tuple.equals(differentTuple);
+    }
+
+    /**
+     * Benchmark hashing.
+     */
+    @Benchmark
+    public int hash() {
+        return tuple.hashCode();
+    }
+
+    /**
+     * Benchmark mapping value 0.
+     */
+    @Benchmark
+    public NTuple mapV0() {
+        return tuple.mapV(0, function);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Pair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PairBenchmark {
+    /**
+     * The type of the components.
+     */
+    @Param({"string", "integer"})
+    public String componentType;
+
+    private final Function<Object, Object> function = Function.identity();
+    private Object v0;
+    private Object v1;
+    private Pair<Object, Object> pair;
+    private Pair<Object, Object> equalPair;
+    private Pair<Object, Object> differentPair;
+
+    /**
+     * Create the tuples.
+     */
+    @Setup
+    public void setUp() {
+        v0 = Components.create(componentType, 0);
+        v1 = Components.create(componentType, 1);
+        pair = Pair.of(v0, v1);
+        equalPair = Pair.of(Components.create(componentType, 0), Components.create(componentType, 1));
+        differentPair = Pair.of(Components.create(componentType, 0), Components.create(componentType, 2));
+    }
+
+    /**
+     * Benchmark construction.
+     */
+    @Benchmark
+    public Pair<Object, Object> of() {
+        return Pair.of(v0, v1);
+    }
+
+    /**
+     * Benchmark value access.
+     */
+    @Benchmark
+    public Object v0() {
+        return pair.v0();
+    }
+
+    /**
+     * Benchmark comparing equal tuples.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return pair.equals(equalPair);
+    }
+
+    /**
+     * Benchmark comparing tuples that differ in the last value.
+     */
+    @Benchmark
+    public boolean equalsDifferent() {
+        return pair.equals(differentPair);
+    }
+
+    /**
+     * Benchmark hashing.
+     */
+    @Benchmark
+    public int hash() {
+        return pair.hashCode();
+    }
+
+    /**
+     * Benchmark mapping value 0.
+     */
+    @Benchmark
+    public Pair<Object, Object> mapV0() {
+        return pair.mapV0(function);
+    }
+
+    /**
+     * Benchmark mapping all values.
+     */
+    @Benchmark
+    public Pair<Object, Object> map() {
+        return pair.map(function, function);
+    }
+}
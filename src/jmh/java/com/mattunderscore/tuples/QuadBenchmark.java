@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Quad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QuadBenchmark {
+    /**
+     * The type of the components.
+     */
+    @Param({"string", "integer"})
+    public String componentType;
+
+    private final Function<Object, Object> function = Function.identity();
+    private Object v0;
+    private Object v1;
+    private Object v2;
+    private Object v3;
+    private Quad<Object, Object, Object, Object> quad;
+    private Quad<Object, Object, Object, Object> equalQuad;
+    private Quad<Object, Object, Object, Object> differentQuad;
+
+    /**
+     * Create the tuples.
+     */
+    @Setup
+    public void setUp() {
+        v0 = Components.create(componentType, 0);
+        v1 = Components.create(componentType, 1);
+        v2 = Components.create(componentType, 2);
+        v3 = Components.create(componentType, 3);
+        quad = Quad.of(v0, v1, v2, v3);
+        equalQuad = Quad.of(
+            Components.create(componentType, 0),
+            Components.create(componentType, 1),
+            Components.create(componentType, 2),
+            Components.create(componentType, 3));
+        differentQuad = Quad.of(
+            Components.create(componentType, 0),
+            Components.create(componentType, 1),
+            Components.create(componentType, 2),
+            Components.create(componentType, 4));
+    }
+
+    /**
+     * Benchmark construction.
+     */
+    @Benchmark
+    public Quad<Object, Object, Object, Object> of() {
+        return Quad.of(v0, v1, v2, v3);
+    }
+
+    /**
+     * Benchmark value access.
+     */
+    @Benchmark
+    public Object v0() {
+        return quad.v0();
+    }
+
+    /**
+     * Benchmark comparing equal tuples.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return quad.equals(equalQuad);
+    }
+
+    /**
+     * Benchmark comparing tuples that differ in the last value.
+     */
+    @Benchmark
+    public boolean equalsDifferent() {
+        return quad.equals(differentQuad);
+    }
+
+    /**
+     * Benchmark hashing.
+     */
+    @Benchmark
+    public int hash() {
+        return quad.hashCode();
+    }
+
+    /**
+     * Benchmark mapping value 0.
+     */
+    @Benchmark
+    public Quad<Object, Object, Object, Object> mapV0() {
+        return quad.mapV0(function);
+    }
+
+    /**
+     * Benchmark mapping all values.
+     */
+    @Benchmark
+    public Quad<Object, Object, Object, Object> map() {
+        return quad.map(function, function, function, function);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Triple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TripleBenchmark {
+    /**
+     * The type of the components.
+     */
+    @Param({"string", "integer"})
+    public String componentType;
+
+    private final Function<Object, Object> function = Function.identity();
+    private Object v0;
+    private Object v1;
+    private Object v2;
+    private Triple<Object, Object, Object> triple;
+    private Triple<Object, Object, Object> equalTriple;
+    private Triple<Object, Object, Object> differentTriple;
+
+    /**
+     * Create the tuples.
+     */
+    @Setup
+    public void setUp() {
+        v0 = Components.create(componentType, 0);
+        v1 = Components.create(componentType, 1);
+        v2 = Components.create(componentType, 2);
+        triple = Triple.of(v0, v1, v2);
+        equalTriple = Triple.of(
+            Components.create(componentType, 0),
+            Components.create(componentType, 1),
+            Components.create(componentType, 2));
+        differentTriple = Triple.of(
+            Components.create(componentType, 0),
+            Components.create(componentType, 1),
+            Components.create(componentType, 3));
+    }
+
+    /**
+     * Benchmark construction.
+     */
+    @Benchmark
+    public Triple<Object, Object, Object> of() {
+        return Triple.of(v0, v1, v2);
+    }
+
+    /**
+     * Benchmark value access.
+     */
+    @Benchmark
+    public Object v0() {
+        return triple.v0();
+    }
+
+    /**
+     * Benchmark comparing equal tuples.
+     */
+    @Benchmark
+    public boolean equalsEqual() {
+        return triple.equals(equalTriple);
+    }
+
+    /**
+     * Benchmark comparing tuples that differ in the last value.
+     */
+    @Benchmark
+    public boolean equalsDifferent() {
+        return triple.equals(differentTriple);
+    }
+
+    /**
+     * Benchmark hashing.
+     */
+    @Benchmark
+    public int hash() {
+        return triple.hashCode();
+    }
+
+    /**
+     * Benchmark mapping value 0.
+     */
+    @Benchmark
+    public Triple<Object, Object, Object> mapV0() {
+        return triple.mapV0(function);
+    }
+
+    /**
+     * Benchmark mapping all values.
+     */
+    @Benchmark
+    public Triple<Object, Object, Object> map() {
+        return triple.map(function, function, function);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.checkIndex;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongBinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A pair of {@code long} values that are updated atomically.
+ * <p>
+ * The values are guarded by a sequence lock. The sequence is odd while the values are being written. Readers read the
+ * values between two reads of the sequence and retry if it changed, so reads neither block nor allocate. Writers
+ * claim the sequence with compare and set from the even value they read the current values at, an update that
+ * fails to claim it is recomputed.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class AtomicLongPair {
+    private static final VarHandle SEQUENCE;
+    private static final VarHandle V0;
+    private static final VarHandle V1;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SEQUENCE = lookup.findVarHandle(AtomicLongPair.class, "sequence", long.class);
+            V0 = lookup.findVarHandle(AtomicLongPair.class, "v0", long.class);
+            V1 = lookup.findVarHandle(AtomicLongPair.class, "v1", long.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long sequence;
+    /**
+     * Accessed through {@link #V0}, opaque access prevents tearing.
+     */
+    private long v0;
+    /**
+     * Accessed through {@link #V1}, opaque access prevents tearing.
+     */
+    private long v1;
+
+    private AtomicLongPair(long v0, long v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * @return the current value 0
+     */
+    public long v0() {
+        return (long) V0.getVolatile(this);
+    }
+
+    /**
+     * @return the current value 1
+     */
+    public long v1() {
+        return (long) V1.getVolatile(this);
+    }
+
+    /**
+     * @return a new pair of the current values
+     */
+    public LongPair get() {
+        final long[] values = new long[2];
+        get(values);
+        return LongPair.of(values[0], values[1]);
+    }
+
+    /**
+     * Copy the current values into the first two elements of an array.
+     *
+     * @throws IndexOutOfBoundsException if the array is too short
+     */
+    public void get(long[] values) {
+        checkIndex(1, values.length);
+        while (true) {
+            final long stamp = stableSequence();
+            final long value0 = (long) V0.getOpaque(this);
+            final long value1 = (long) V1.getOpaque(this);
+            if (validate(stamp)) {
+                values[0] = value0;
+                values[1] = value1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Apply a function to the current values.
+     *
+     * @return the result of the function
+     */
+    public long applyAsLong(LongBinaryOperator function) {
+        while (true) {
+            final long stamp = stableSequence();
+            final long value0 = (long) V0.getOpaque(this);
+            final long value1 = (long) V1.getOpaque(this);
+            if (validate(stamp)) {
+                return function.applyAsLong(value0, value1);
+            }
+        }
+    }
+
+    /**
+     * Set the values.
+     */
+    public void set(long new0, long new1) {
+        while (true) {
+            final long stamp = stableSequence();
+            if (SEQUENCE.compareAndSet(this, stamp, stamp + 1)) {
+                write(stamp, new0, new1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Set the values if the current values are the expected values.
+     *
+     * @return if the values were set
+     */
+    public boolean compareAndSet(long expected0, long expected1, long new0, long new1) {
+        while (true) {
+            final long stamp = stableSequence();
+            final long value0 = (long) V0.getOpaque(this);
+            final long value1 = (long) V1.getOpaque(this);
+            if (validate(stamp)) {
+                if (value0 != expected0 || value1 != expected1) {
+                    return false;
+                }
+                else if (SEQUENCE.compareAndSet(this, stamp, stamp + 1)) {
+                    write(stamp, new0, new1);
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Update each value with the result of a function of the current value and the corresponding value of
+     * {@code x}. The functions may be applied more than once if other threads update the values, they should be free
+     * of side effects.
+     *
+     * @return the updated values
+     */
+    public LongPair accumulateAndGet(long x0, long x1, LongBinaryOperator function0, LongBinaryOperator function1) {
+        while (true) {
+            final long stamp = stableSequence();
+            final long value0 = (long) V0.getOpaque(this);
+            final long value1 = (long) V1.getOpaque(this);
+            if (validate(stamp)) {
+                final long new0 = function0.applyAsLong(value0, x0);
+                final long new1 = function1.applyAsLong(value1, x1);
+                if (SEQUENCE.compareAndSet(this, stamp, stamp + 1)) {
+                    write(stamp, new0, new1);
+                    return LongPair.of(new0, new1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update the values with the result of a function. The function may be applied more than once if other threads
+     * update the values, it should be free of side effects.
+     *
+     * @return the updated values
+     */
+    public LongPair updateAndGet(UnaryOperator<LongPair> function) {
+        while (true) {
+            final long stamp = stableSequence();
+            final long value0 = (long) V0.getOpaque(this);
+            final long value1 = (long) V1.getOpaque(this);
+            if (validate(stamp)) {
+                final LongPair next = function.apply(LongPair.of(value0, value1));
+                if (SEQUENCE.compareAndSet(this, stamp, stamp + 1)) {
+                    write(stamp, next.v0(), next.v1());
+                    return next;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return get().toString();
+    }
+
+    /**
+     * @return an even sequence read with acquire semantics, waiting for a writer to finish if necessary
+     */
+    private long stableSequence() {
+        while (true) {
+            final long stamp = (long) SEQUENCE.getAcquire(this);
+            if ((stamp & 1L) == 0L) {
+                return stamp;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return if the values read since the sequence was read are consistent
+     */
+    private boolean validate(long stamp) {
+        VarHandle.loadLoadFence();
+        return sequence == stamp;
+    }
+
+    /**
+     * Write the values after claiming the sequence and release it. The fence orders the writes of the values after
+     * the write of the odd sequence.
+     */
+    private void write(long stamp, long new0, long new1) {
+        VarHandle.storeStoreFence();
+        V0.setOpaque(this, new0);
+        V1.setOpaque(this, new1);
+        SEQUENCE.setRelease(this, stamp + 2);
+    }
+
+    /**
+     * @return a new atomic pair of the values
+     */
+    public static AtomicLongPair of(long v0, long v1) {
+        return new AtomicLongPair(v0, v1);
+    }
+}
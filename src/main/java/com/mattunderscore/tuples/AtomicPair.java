@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A pair of values that are updated atomically.
+ * <p>
+ * The values are held in an immutable {@link Pair} that is replaced by compare and exchange. Values are compared by
+ * identity, as {@link java.util.concurrent.atomic.AtomicReference} does. A new pair is only created when the expected
+ * values match and an update is only recomputed when another thread changed the values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class AtomicPair<T0, T1> {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicPair.class, "value", Pair.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Pair<T0, T1> value;
+
+    private AtomicPair(Pair<T0, T1> value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the current values
+     */
+    public Pair<T0, T1> get() {
+        return value;
+    }
+
+    /**
+     * @return the current value 0
+     */
+    public T0 v0() {
+        return value.v0();
+    }
+
+    /**
+     * @return the current value 1
+     */
+    public T1 v1() {
+        return value.v1();
+    }
+
+    /**
+     * Set the values.
+     */
+    public void set(T0 v0, T1 v1) {
+        value = Pair.of(v0, v1);
+    }
+
+    /**
+     * Set the values.
+     *
+     * @return the previous values
+     */
+    @SuppressWarnings("unchecked")
+    public Pair<T0, T1> getAndSet(T0 v0, T1 v1) {
+        return (Pair<T0, T1>) VALUE.getAndSet(this, Pair.of(v0, v1));
+    }
+
+    /**
+     * Set the values if the current values are the expected values.
+     *
+     * @return if the values were set
+     */
+    @SuppressWarnings("unchecked")
+    public boolean compareAndSet(T0 expected0, T1 expected1, T0 new0, T1 new1) {
+        Pair<T0, T1> current = value;
+        if (current.v0() != expected0 || current.v1() != expected1) {
+            return false;
+        }
+        final Pair<T0, T1> next = Pair.of(new0, new1);
+        while (true) {
+            final Pair<T0, T1> witness = (Pair<T0, T1>) VALUE.compareAndExchange(this, current, next);
+            if (witness == current) {
+                return true;
+            }
+            else if (witness.v0() != expected0 || witness.v1() != expected1) {
+                return false;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Update the values with the result of a function. The function may be applied more than once if other threads
+     * update the values, it should be free of side effects.
+     *
+     * @return the updated values
+     */
+    public Pair<T0, T1> updateAndGet(UnaryOperator<Pair<T0, T1>> function) {
+        return update(value -> requireNonNull(function.apply(value)));
+    }
+
+    /**
+     * Update the values with the result of a function of the current values and {@code x}. The function may be
+     * applied more than once if other threads update the values, it should be free of side effects.
+     *
+     * @return the updated values
+     */
+    public Pair<T0, T1> accumulateAndGet(Pair<T0, T1> x, BinaryOperator<Pair<T0, T1>> function) {
+        return update(value -> requireNonNull(function.apply(value, x)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Pair<T0, T1> update(UnaryOperator<Pair<T0, T1>> function) {
+        Pair<T0, T1> current = value;
+        Pair<T0, T1> next = function.apply(current);
+        while (true) {
+            final Pair<T0, T1> witness = (Pair<T0, T1>) VALUE.compareAndExchange(this, current, next);
+            if (witness == current) {
+                return next;
+            }
+            else if (witness.v0() != current.v0() || witness.v1() != current.v1()) {
+                next = function.apply(witness);
+            }
+            current = witness;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    /**
+     * @return a new atomic pair of the values
+     */
+    public static <T0, T1> AtomicPair<T0, T1> of(T0 v0, T1 v1) {
+        return new AtomicPair<>(Pair.of(v0, v1));
+    }
+}
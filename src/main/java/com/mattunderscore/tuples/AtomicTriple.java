@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A triple of values that are updated atomically.
+ * <p>
+ * The values are held in an immutable {@link Triple} that is replaced by compare and exchange. Values are compared by
+ * identity, as {@link java.util.concurrent.atomic.AtomicReference} does. A new triple is only created when the expected
+ * values match and an update is only recomputed when another thread changed the values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class AtomicTriple<T0, T1, T2> {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicTriple.class, "value", Triple.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Triple<T0, T1, T2> value;
+
+    private AtomicTriple(Triple<T0, T1, T2> value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the current values
+     */
+    public Triple<T0, T1, T2> get() {
+        return value;
+    }
+
+    /**
+     * @return the current value 0
+     */
+    public T0 v0() {
+        return value.v0();
+    }
+
+    /**
+     * @return the current value 1
+     */
+    public T1 v1() {
+        return value.v1();
+    }
+
+    /**
+     * @return the current value 2
+     */
+    public T2 v2() {
+        return value.v2();
+    }
+
+    /**
+     * Set the values.
+     */
+    public void set(T0 v0, T1 v1, T2 v2) {
+        value = Triple.of(v0, v1, v2);
+    }
+
+    /**
+     * Set the values.
+     *
+     * @return the previous values
+     */
+    @SuppressWarnings("unchecked")
+    public Triple<T0, T1, T2> getAndSet(T0 v0, T1 v1, T2 v2) {
+        return (Triple<T0, T1, T2>) VALUE.getAndSet(this, Triple.of(v0, v1, v2));
+    }
+
+    /**
+     * Set the values if the current values are the expected values.
+     *
+     * @return if the values were set
+     */
+    @SuppressWarnings("unchecked")
+    public boolean compareAndSet(T0 expected0, T1 expected1, T2 expected2, T0 new0, T1 new1, T2 new2) {
+        Triple<T0, T1, T2> current = value;
+        if (current.v0() != expected0 || current.v1() != expected1 || current.v2() != expected2) {
+            return false;
+        }
+        final Triple<T0, T1, T2> next = Triple.of(new0, new1, new2);
+        while (true) {
+            final Triple<T0, T1, T2> witness = (Triple<T0, T1, T2>) VALUE.compareAndExchange(this, current, next);
+            if (witness == current) {
+                return true;
+            }
+            else if (witness.v0() != expected0 || witness.v1() != expected1 || witness.v2() != expected2) {
+                return false;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Update the values with the result of a function. The function may be applied more than once if other threads
+     * update the values, it should be free of side effects.
+     *
+     * @return the updated values
+     */
+    public Triple<T0, T1, T2> updateAndGet(UnaryOperator<Triple<T0, T1, T2>> function) {
+        return update(value -> requireNonNull(function.apply(value)));
+    }
+
+    /**
+     * Update the values with the result of a function of the current values and {@code x}. The function may be
+     * applied more than once if other threads update the values, it should be free of side effects.
+     *
+     * @return the updated values
+     */
+    public Triple<T0, T1, T2> accumulateAndGet(Triple<T0, T1, T2> x, BinaryOperator<Triple<T0, T1, T2>> function) {
+        return update(value -> requireNonNull(function.apply(value, x)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Triple<T0, T1, T2> update(UnaryOperator<Triple<T0, T1, T2>> function) {
+        Triple<T0, T1, T2> current = value;
+        Triple<T0, T1, T2> next = function.apply(current);
+        while (true) {
+            final Triple<T0, T1, T2> witness = (Triple<T0, T1, T2>) VALUE.compareAndExchange(this, current, next);
+            if (witness == current) {
+                return next;
+            }
+            else if (witness.v0() != current.v0() || witness.v1() != current.v1() || witness.v2() != current.v2()) {
+                next = function.apply(witness);
+            }
+            current = witness;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    /**
+     * @return a new atomic triple of the values
+     */
+    public static <T0, T1, T2> AtomicTriple<T0, T1, T2> of(T0 v0, T1 v1, T2 v2) {
+        return new AtomicTriple<>(Triple.of(v0, v1, v2));
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.Arrays;
+
+/**
+ * A column of values stored in an array.
+ * <p>
+ * Columns of {@code int}, {@code long} and {@code double} values are stored in primitive arrays. The size of the
+ * column is tracked by the owner.
+ *
+ * @param <T> the type of value
+ * @author Matt Champion 18/10/2026
+ */
+/*package*/ abstract class Column<T> {
+    /**
+     * @return value {@code i}
+     */
+    abstract T get(int i);
+
+    /**
+     * Set value {@code i}.
+     *
+     * @throws NullPointerException if the column is primitive and the value is null
+     */
+    abstract void set(int i, T value);
+
+    /**
+     * @return value {@code i} as an {@code int}
+     * @throws ClassCastException if the column does not contain integers
+     */
+    int getInt(int i) {
+        return (Integer) get(i);
+    }
+
+    /**
+     * @return value {@code i} as a {@code long}
+     * @throws ClassCastException if the column does not contain longs
+     */
+    long getLong(int i) {
+        return (Long) get(i);
+    }
+
+    /**
+     * @return value {@code i} as a {@code double}
+     * @throws ClassCastException if the column does not contain doubles
+     */
+    double getDouble(int i) {
+        return (Double) get(i);
+    }
+
+    /**
+     * @return a key to sort the first {@code size} values by
+     * @throws ClassCastException if the column is not primitive
+     */
+    TupleSort.Key key(int size) {
+        throw new ClassCastException("Only primitive columns can be sorted");
+    }
+
+    /**
+     * Reorder the first {@code order.length} values so value {@code i} is the value that was at {@code order[i]}.
+     */
+    abstract void reorder(int[] order);
+
+    /**
+     * Change the capacity of the column, keeping existing values.
+     */
+    abstract void resize(int capacity);
+
+    /**
+     * Clear the first {@code size} values, releasing any references.
+     */
+    abstract void clear(int size);
+
+    /**
+     * Create a column for a type. The primitive classes {@code int.class}, {@code long.class} and
+     * {@code double.class} create primitive columns.
+     *
+     * @param type the type of value
+     * @param capacity the initial capacity
+     * @param <T> the type of value
+     * @return a new column
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Column<T> create(Class<T> type, int capacity) {
+        if (type == int.class) {
+            return (Column<T>) new IntColumn(capacity);
+        }
+        else if (type == long.class) {
+            return (Column<T>) new LongColumn(capacity);
+        }
+        else if (type == double.class) {
+            return (Column<T>) new DoubleColumn(capacity);
+        }
+        else {
+            return new ObjectColumn<>(capacity);
+        }
+    }
+
+    /**
+     * Column of references.
+     */
+    private static final class ObjectColumn<T> extends Column<T> {
+        private Object[] values;
+
+        ObjectColumn(int capacity) {
+            values = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        T get(int i) {
+            return (T) values[i];
+        }
+
+        @Override
+        void set(int i, T value) {
+            values[i] = value;
+        }
+
+        @Override
+        void reorder(int[] order) {
+            final Object[] reordered = new Object[order.length];
+            for (int i = 0; i < order.length; i++) {
+                reordered[i] = values[order[i]];
+            }
+            System.arraycopy(reordered, 0, values, 0, reordered.length);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void clear(int size) {
+            Arrays.fill(values, 0, size, null);
+        }
+    }
+
+    /**
+     * Column of {@code int} values.
+     */
+    private static final class IntColumn extends Column<Integer> {
+        private int[] values;
+
+        IntColumn(int capacity) {
+            values = new int[capacity];
+        }
+
+        @Override
+        Integer get(int i) {
+            return values[i];
+        }
+
+        @Override
+        void set(int i, Integer value) {
+            values[i] = value;
+        }
+
+        @Override
+        int getInt(int i) {
+            return values[i];
+        }
+
+        @Override
+        TupleSort.Key key(int size) {
+            return TupleSort.key(values, size);
+        }
+
+        @Override
+        void reorder(int[] order) {
+            final int[] reordered = TupleSort.permute(values, order);
+            System.arraycopy(reordered, 0, values, 0, reordered.length);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void clear(int size) {
+            // Primitive values hold no references
+        }
+    }
+
+    /**
+     * Column of {@code long} values.
+     */
+    private static final class LongColumn extends Column<Long> {
+        private long[] values;
+
+        LongColumn(int capacity) {
+            values = new long[capacity];
+        }
+
+        @Override
+        Long get(int i) {
+            return values[i];
+        }
+
+        @Override
+        void set(int i, Long value) {
+            values[i] = value;
+        }
+
+        @Override
+        long getLong(int i) {
+            return values[i];
+        }
+
+        @Override
+        TupleSort.Key key(int size) {
+            return TupleSort.key(values, size);
+        }
+
+        @Override
+        void reorder(int[] order) {
+            final long[] reordered = TupleSort.permute(values, order);
+            System.arraycopy(reordered, 0, values, 0, reordered.length);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void clear(int size) {
+            // Primitive values hold no references
+        }
+    }
+
+    /**
+     * Column of {@code double} values.
+     */
+    private static final class DoubleColumn extends Column<Double> {
+        private double[] values;
+
+        DoubleColumn(int capacity) {
+            values = new double[capacity];
+        }
+
+        @Override
+        Double get(int i) {
+            return values[i];
+        }
+
+        @Override
+        void set(int i, Double value) {
+            values[i] = value;
+        }
+
+        @Override
+        double getDouble(int i) {
+            return values[i];
+        }
+
+        @Override
+        TupleSort.Key key(int size) {
+            return TupleSort.key(values, size);
+        }
+
+        @Override
+        void reorder(int[] order) {
+            final double[] reordered = TupleSort.permute(values, order);
+            System.arraycopy(reordered, 0, values, 0, reordered.length);
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void clear(int size) {
+            // Primitive values hold no references
+        }
+    }
+}
@@ -4,6 +4,7 @@
 
 package com.mattunderscore.tuples;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import net.jcip.annotations.Immutable;
@@ -15,7 +16,7 @@ import net.jcip.annotations.Immutable;
  * @author Matt Champion 20/04/2018
  */
 @Immutable
-public final class Container<T0> implements V0<T0> {
+public final class Container<T0> extends Tuple implements V0<T0> {
     private final T0 v0;
 
     /*package*/ Container(T0 v0) {
@@ -59,6 +60,32 @@ public final class Container<T0> implements V0<T0> {
         return new Container<>(function0.apply(v0));
     }
 
+    @Override
+    public int arity() {
+        return 1;
+    }
+
+    @Override
+    public Object get(int i) {
+        Objects.checkIndex(i, 1);
+        return v0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return new Object[] {v0};
+    }
+
+    @Override
+    public void forEach(Consumer<Object> consumer) {
+        consumer.accept(v0);
+    }
+
+    @Override
+    public NTuple toNTuple() {
+        return NTuple.wrap(toArray());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -74,7 +101,7 @@ public final class Container<T0> implements V0<T0> {
 
     @Override
     public int hashCode() {
-        return v0 == null ? 0 : v0.hashCode();
+        return TupleHash.hash(Objects.hashCode(v0));
     }
 
     @Override
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A 2-tuple of {@code double} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Pair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class DoublePair {
+    private final double v0;
+    private final double v1;
+
+    /*package*/ DoublePair(double v0, double v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * @return value 0
+     */
+    public double v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(DoubleConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(DoubleFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new pair.
+     *
+     * @param function function to apply to value 0
+     * @return the new pair
+     */
+    public DoublePair mapV0(DoubleUnaryOperator function) {
+        return new DoublePair(function.applyAsDouble(v0), v1);
+    }
+
+    /**
+     * @return value 1
+     */
+    public double v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(DoubleConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(DoubleFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new pair.
+     *
+     * @param function function to apply to value 1
+     * @return the new pair
+     */
+    public DoublePair mapV1(DoubleUnaryOperator function) {
+        return new DoublePair(v0, function.applyAsDouble(v1));
+    }
+
+    /**
+     * Map all values to new pair.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @return the new pair
+     */
+    public DoublePair map(DoubleUnaryOperator function0, DoubleUnaryOperator function1) {
+        return new DoublePair(function0.applyAsDouble(v0), function1.applyAsDouble(v1));
+    }
+
+    /**
+     * @return a {@link Pair} of the boxed values
+     */
+    public Pair<Double, Double> toPair() {
+        return new Pair<>(v0, v1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final DoublePair pair = (DoublePair) o;
+        return Double.doubleToLongBits(v0) == Double.doubleToLongBits(pair.v0) &&
+            Double.doubleToLongBits(v1) == Double.doubleToLongBits(pair.v1);
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Double.hashCode(v0), Double.hashCode(v1));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + "]";
+    }
+
+    /**
+     * @return a new pair
+     */
+    public static DoublePair of(double v0, double v1) {
+        return new DoublePair(v0, v1);
+    }
+
+    /**
+     * Unbox the values of a {@link Pair}.
+     *
+     * @param pair the pair to unbox
+     * @return a new pair
+     * @throws NullPointerException if any value is null
+     */
+    public static DoublePair from(Pair<? extends Double, ? extends Double> pair) {
+        return new DoublePair(pair.v0(), pair.v1());
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A 4-tuple of {@code double} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Quad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class DoubleQuad {
+    private final double v0;
+    private final double v1;
+    private final double v2;
+    private final double v3;
+
+    /*package*/ DoubleQuad(double v0, double v1, double v2, double v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+    }
+
+    /**
+     * @return value 0
+     */
+    public double v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(DoubleConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(DoubleFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new quad.
+     *
+     * @param function function to apply to value 0
+     * @return the new quad
+     */
+    public DoubleQuad mapV0(DoubleUnaryOperator function) {
+        return new DoubleQuad(function.applyAsDouble(v0), v1, v2, v3);
+    }
+
+    /**
+     * @return value 1
+     */
+    public double v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(DoubleConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(DoubleFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new quad.
+     *
+     * @param function function to apply to value 1
+     * @return the new quad
+     */
+    public DoubleQuad mapV1(DoubleUnaryOperator function) {
+        return new DoubleQuad(v0, function.applyAsDouble(v1), v2, v3);
+    }
+
+    /**
+     * @return value 2
+     */
+    public double v2() {
+        return v2;
+    }
+
+    /**
+     * Pass value 2 to {@code consumer}.
+     */
+    public void acceptV2(DoubleConsumer consumer) {
+        consumer.accept(v2);
+    }
+
+    /**
+     * Apply {@code function} to value 2 and return the result.
+     */
+    public <U> U applyV2(DoubleFunction<U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new quad.
+     *
+     * @param function function to apply to value 2
+     * @return the new quad
+     */
+    public DoubleQuad mapV2(DoubleUnaryOperator function) {
+        return new DoubleQuad(v0, v1, function.applyAsDouble(v2), v3);
+    }
+
+    /**
+     * @return value 3
+     */
+    public double v3() {
+        return v3;
+    }
+
+    /**
+     * Pass value 3 to {@code consumer}.
+     */
+    public void acceptV3(DoubleConsumer consumer) {
+        consumer.accept(v3);
+    }
+
+    /**
+     * Apply {@code function} to value 3 and return the result.
+     */
+    public <U> U applyV3(DoubleFunction<U> function) {
+        return function.apply(v3);
+    }
+
+    /**
+     * Map value 3 to new quad.
+     *
+     * @param function function to apply to value 3
+     * @return the new quad
+     */
+    public DoubleQuad mapV3(DoubleUnaryOperator function) {
+        return new DoubleQuad(v0, v1, v2, function.applyAsDouble(v3));
+    }
+
+    /**
+     * Map all values to new quad.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @param function3 function to apply to value 3
+     * @return the new quad
+     */
+    public DoubleQuad map(
+            DoubleUnaryOperator function0,
+            DoubleUnaryOperator function1,
+            DoubleUnaryOperator function2,
+            DoubleUnaryOperator function3) {
+        return new DoubleQuad(
+            function0.applyAsDouble(v0),
+            function1.applyAsDouble(v1),
+            function2.applyAsDouble(v2),
+            function3.applyAsDouble(v3));
+    }
+
+    /**
+     * @return a {@link Quad} of the boxed values
+     */
+    public Quad<Double, Double, Double, Double> toQuad() {
+        return new Quad<>(v0, v1, v2, v3);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final DoubleQuad quad = (DoubleQuad) o;
+        return Double.doubleToLongBits(v0) == Double.doubleToLongBits(quad.v0) &&
+            Double.doubleToLongBits(v1) == Double.doubleToLongBits(quad.v1) &&
+            Double.doubleToLongBits(v2) == Double.doubleToLongBits(quad.v2) &&
+            Double.doubleToLongBits(v3) == Double.doubleToLongBits(quad.v3);
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Double.hashCode(v0), Double.hashCode(v1), Double.hashCode(v2), Double.hashCode(v3));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + ", " + v3 + "]";
+    }
+
+    /**
+     * @return a new quad
+     */
+    public static DoubleQuad of(double v0, double v1, double v2, double v3) {
+        return new DoubleQuad(v0, v1, v2, v3);
+    }
+
+    /**
+     * Unbox the values of a {@link Quad}.
+     *
+     * @param quad the quad to unbox
+     * @return a new quad
+     * @throws NullPointerException if any value is null
+     */
+    public static DoubleQuad from(Quad<? extends Double, ? extends Double, ? extends Double, ? extends Double> quad) {
+        return new DoubleQuad(quad.v0(), quad.v1(), quad.v2(), quad.v3());
+    }
+}
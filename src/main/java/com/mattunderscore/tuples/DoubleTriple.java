@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A 3-tuple of {@code double} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Triple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class DoubleTriple {
+    private final double v0;
+    private final double v1;
+    private final double v2;
+
+    /*package*/ DoubleTriple(double v0, double v1, double v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    /**
+     * @return value 0
+     */
+    public double v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(DoubleConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(DoubleFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new triple.
+     *
+     * @param function function to apply to value 0
+     * @return the new triple
+     */
+    public DoubleTriple mapV0(DoubleUnaryOperator function) {
+        return new DoubleTriple(function.applyAsDouble(v0), v1, v2);
+    }
+
+    /**
+     * @return value 1
+     */
+    public double v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(DoubleConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(DoubleFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new triple.
+     *
+     * @param function function to apply to value 1
+     * @return the new triple
+     */
+    public DoubleTriple mapV1(DoubleUnaryOperator function) {
+        return new DoubleTriple(v0, function.applyAsDouble(v1), v2);
+    }
+
+    /**
+     * @return value 2
+     */
+    public double v2() {
+        return v2;
+    }
+
+    /**
+     * Pass value 2 to {@code consumer}.
+     */
+    public void acceptV2(DoubleConsumer consumer) {
+        consumer.accept(v2);
+    }
+
+    /**
+     * Apply {@code function} to value 2 and return the result.
+     */
+    public <U> U applyV2(DoubleFunction<U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new triple.
+     *
+     * @param function function to apply to value 2
+     * @return the new triple
+     */
+    public DoubleTriple mapV2(DoubleUnaryOperator function) {
+        return new DoubleTriple(v0, v1, function.applyAsDouble(v2));
+    }
+
+    /**
+     * Map all values to new triple.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @return the new triple
+     */
+    public DoubleTriple map(
+            DoubleUnaryOperator function0,
+            DoubleUnaryOperator function1,
+            DoubleUnaryOperator function2) {
+        return new DoubleTriple(function0.applyAsDouble(v0), function1.applyAsDouble(v1), function2.applyAsDouble(v2));
+    }
+
+    /**
+     * @return a {@link Triple} of the boxed values
+     */
+    public Triple<Double, Double, Double> toTriple() {
+        return new Triple<>(v0, v1, v2);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final DoubleTriple triple = (DoubleTriple) o;
+        return Double.doubleToLongBits(v0) == Double.doubleToLongBits(triple.v0) &&
+            Double.doubleToLongBits(v1) == Double.doubleToLongBits(triple.v1) &&
+            Double.doubleToLongBits(v2) == Double.doubleToLongBits(triple.v2);
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Double.hashCode(v0), Double.hashCode(v1), Double.hashCode(v2));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + "]";
+    }
+
+    /**
+     * @return a new triple
+     */
+    public static DoubleTriple of(double v0, double v1, double v2) {
+        return new DoubleTriple(v0, v1, v2);
+    }
+
+    /**
+     * Unbox the values of a {@link Triple}.
+     *
+     * @param triple the triple to unbox
+     * @return a new triple
+     * @throws NullPointerException if any value is null
+     */
+    public static DoubleTriple from(Triple<? extends Double, ? extends Double, ? extends Double> triple) {
+        return new DoubleTriple(triple.v0(), triple.v1(), triple.v2());
+    }
+}
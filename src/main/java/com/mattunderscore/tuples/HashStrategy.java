@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+/**
+ * Combines the hash codes of the values of a tuple into a hash code.
+ * <p>
+ * A hash is started with {@link #seed()}, the hash code of each value is combined in order and the hash is finished
+ * with the arity. The collections keyed by tuples, such as {@link PairMap}, accept a strategy.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public interface HashStrategy {
+    /**
+     * @return the initial hash
+     */
+    int seed();
+
+    /**
+     * @param hash the hash of the previous values
+     * @param valueHash the hash code of the next value
+     * @return the hash of the values
+     */
+    int combine(int hash, int valueHash);
+
+    /**
+     * @param hash the hash of the values
+     * @param arity the number of values
+     * @return the hash code
+     */
+    int finish(int hash, int arity);
+
+    /**
+     * @return the hash code of two values
+     */
+    default int hash(int h0, int h1) {
+        return finish(combine(combine(seed(), h0), h1), 2);
+    }
+
+    /**
+     * @return the hash code of three values
+     */
+    default int hash(int h0, int h1, int h2) {
+        return finish(combine(combine(combine(seed(), h0), h1), h2), 3);
+    }
+
+    /**
+     * @return the hash code of four values
+     */
+    default int hash(int h0, int h1, int h2, int h3) {
+        return finish(combine(combine(combine(combine(seed(), h0), h1), h2), h3), 4);
+    }
+
+    /**
+     * Return the strategy of {@link java.util.Objects#hash(Object...)}, multiplying by 31 and adding each hash code.
+     * Tuples of small integers collide.
+     *
+     * @return the polynomial strategy
+     */
+    static HashStrategy polynomial() {
+        return StandardHashStrategy.POLYNOMIAL;
+    }
+
+    /**
+     * Return the strategy of the hash codes of the tuples, mixing each hash code with the rounds of MurmurHash3.
+     *
+     * @return the mixing strategy
+     */
+    static HashStrategy mixed() {
+        return StandardHashStrategy.MIXED;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A spliterator of tuples zipped from random access sources.
+ * <p>
+ * Splits the range of indices in half, so parallel streams divide the work evenly.
+ *
+ * @param <T> the type of tuple
+ * @author Matt Champion 18/10/2026
+ */
+/*package*/ final class IndexedZipSpliterator<T> implements Spliterator<T> {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL;
+    private final IntFunction<T> zipper;
+    private int index;
+    private final int fence;
+
+    /**
+     * @param zipper creates the tuple of the values at an index
+     * @param index the first index
+     * @param fence the index after the last index
+     */
+    IndexedZipSpliterator(IntFunction<T> zipper, int index, int fence) {
+        this.zipper = zipper;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < fence) {
+            action.accept(zipper.apply(index++));
+            return true;
+        }
+        else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        final int end = fence;
+        for (int i = index; i < end; i++) {
+            action.accept(zipper.apply(i));
+        }
+        index = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int low = index;
+        final int mid = (low + fence) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        else {
+            index = mid;
+            return new IndexedZipSpliterator<>(zipper, low, mid);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A 2-tuple of {@code int} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Pair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class IntPair {
+    private final int v0;
+    private final int v1;
+
+    /*package*/ IntPair(int v0, int v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * @return value 0
+     */
+    public int v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(IntConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(IntFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new pair.
+     *
+     * @param function function to apply to value 0
+     * @return the new pair
+     */
+    public IntPair mapV0(IntUnaryOperator function) {
+        return new IntPair(function.applyAsInt(v0), v1);
+    }
+
+    /**
+     * @return value 1
+     */
+    public int v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(IntConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(IntFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new pair.
+     *
+     * @param function function to apply to value 1
+     * @return the new pair
+     */
+    public IntPair mapV1(IntUnaryOperator function) {
+        return new IntPair(v0, function.applyAsInt(v1));
+    }
+
+    /**
+     * Map all values to new pair.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @return the new pair
+     */
+    public IntPair map(IntUnaryOperator function0, IntUnaryOperator function1) {
+        return new IntPair(function0.applyAsInt(v0), function1.applyAsInt(v1));
+    }
+
+    /**
+     * @return a {@link Pair} of the boxed values
+     */
+    public Pair<Integer, Integer> toPair() {
+        return new Pair<>(v0, v1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final IntPair pair = (IntPair) o;
+        return v0 == pair.v0 && v1 == pair.v1;
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Integer.hashCode(v0), Integer.hashCode(v1));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + "]";
+    }
+
+    /**
+     * @return a new pair
+     */
+    public static IntPair of(int v0, int v1) {
+        return new IntPair(v0, v1);
+    }
+
+    /**
+     * Unbox the values of a {@link Pair}.
+     *
+     * @param pair the pair to unbox
+     * @return a new pair
+     * @throws NullPointerException if any value is null
+     */
+    public static IntPair from(Pair<? extends Integer, ? extends Integer> pair) {
+        return new IntPair(pair.v0(), pair.v1());
+    }
+}
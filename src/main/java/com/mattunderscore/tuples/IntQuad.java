@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A 4-tuple of {@code int} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Quad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class IntQuad {
+    private final int v0;
+    private final int v1;
+    private final int v2;
+    private final int v3;
+
+    /*package*/ IntQuad(int v0, int v1, int v2, int v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+    }
+
+    /**
+     * @return value 0
+     */
+    public int v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(IntConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(IntFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new quad.
+     *
+     * @param function function to apply to value 0
+     * @return the new quad
+     */
+    public IntQuad mapV0(IntUnaryOperator function) {
+        return new IntQuad(function.applyAsInt(v0), v1, v2, v3);
+    }
+
+    /**
+     * @return value 1
+     */
+    public int v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(IntConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(IntFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new quad.
+     *
+     * @param function function to apply to value 1
+     * @return the new quad
+     */
+    public IntQuad mapV1(IntUnaryOperator function) {
+        return new IntQuad(v0, function.applyAsInt(v1), v2, v3);
+    }
+
+    /**
+     * @return value 2
+     */
+    public int v2() {
+        return v2;
+    }
+
+    /**
+     * Pass value 2 to {@code consumer}.
+     */
+    public void acceptV2(IntConsumer consumer) {
+        consumer.accept(v2);
+    }
+
+    /**
+     * Apply {@code function} to value 2 and return the result.
+     */
+    public <U> U applyV2(IntFunction<U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new quad.
+     *
+     * @param function function to apply to value 2
+     * @return the new quad
+     */
+    public IntQuad mapV2(IntUnaryOperator function) {
+        return new IntQuad(v0, v1, function.applyAsInt(v2), v3);
+    }
+
+    /**
+     * @return value 3
+     */
+    public int v3() {
+        return v3;
+    }
+
+    /**
+     * Pass value 3 to {@code consumer}.
+     */
+    public void acceptV3(IntConsumer consumer) {
+        consumer.accept(v3);
+    }
+
+    /**
+     * Apply {@code function} to value 3 and return the result.
+     */
+    public <U> U applyV3(IntFunction<U> function) {
+        return function.apply(v3);
+    }
+
+    /**
+     * Map value 3 to new quad.
+     *
+     * @param function function to apply to value 3
+     * @return the new quad
+     */
+    public IntQuad mapV3(IntUnaryOperator function) {
+        return new IntQuad(v0, v1, v2, function.applyAsInt(v3));
+    }
+
+    /**
+     * Map all values to new quad.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @param function3 function to apply to value 3
+     * @return the new quad
+     */
+    public IntQuad map(
+            IntUnaryOperator function0,
+            IntUnaryOperator function1,
+            IntUnaryOperator function2,
+            IntUnaryOperator function3) {
+        return new IntQuad(function0.applyAsInt(v0), function1.applyAsInt(v1), function2.applyAsInt(v2), function3.applyAsInt(v3));
+    }
+
+    /**
+     * @return a {@link Quad} of the boxed values
+     */
+    public Quad<Integer, Integer, Integer, Integer> toQuad() {
+        return new Quad<>(v0, v1, v2, v3);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final IntQuad quad = (IntQuad) o;
+        return v0 == quad.v0 && v1 == quad.v1 && v2 == quad.v2 && v3 == quad.v3;
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Integer.hashCode(v0), Integer.hashCode(v1), Integer.hashCode(v2), Integer.hashCode(v3));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + ", " + v3 + "]";
+    }
+
+    /**
+     * @return a new quad
+     */
+    public static IntQuad of(int v0, int v1, int v2, int v3) {
+        return new IntQuad(v0, v1, v2, v3);
+    }
+
+    /**
+     * Unbox the values of a {@link Quad}.
+     *
+     * @param quad the quad to unbox
+     * @return a new quad
+     * @throws NullPointerException if any value is null
+     */
+    public static IntQuad from(Quad<? extends Integer, ? extends Integer, ? extends Integer, ? extends Integer> quad) {
+        return new IntQuad(quad.v0(), quad.v1(), quad.v2(), quad.v3());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A 3-tuple of {@code int} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Triple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class IntTriple {
+    private final int v0;
+    private final int v1;
+    private final int v2;
+
+    /*package*/ IntTriple(int v0, int v1, int v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    /**
+     * @return value 0
+     */
+    public int v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(IntConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(IntFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new triple.
+     *
+     * @param function function to apply to value 0
+     * @return the new triple
+     */
+    public IntTriple mapV0(IntUnaryOperator function) {
+        return new IntTriple(function.applyAsInt(v0), v1, v2);
+    }
+
+    /**
+     * @return value 1
+     */
+    public int v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(IntConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(IntFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new triple.
+     *
+     * @param function function to apply to value 1
+     * @return the new triple
+     */
+    public IntTriple mapV1(IntUnaryOperator function) {
+        return new IntTriple(v0, function.applyAsInt(v1), v2);
+    }
+
+    /**
+     * @return value 2
+     */
+    public int v2() {
+        return v2;
+    }
+
+    /**
+     * Pass value 2 to {@code consumer}.
+     */
+    public void acceptV2(IntConsumer consumer) {
+        consumer.accept(v2);
+    }
+
+    /**
+     * Apply {@code function} to value 2 and return the result.
+     */
+    public <U> U applyV2(IntFunction<U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new triple.
+     *
+     * @param function function to apply to value 2
+     * @return the new triple
+     */
+    public IntTriple mapV2(IntUnaryOperator function) {
+        return new IntTriple(v0, v1, function.applyAsInt(v2));
+    }
+
+    /**
+     * Map all values to new triple.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @return the new triple
+     */
+    public IntTriple map(
+            IntUnaryOperator function0,
+            IntUnaryOperator function1,
+            IntUnaryOperator function2) {
+        return new IntTriple(function0.applyAsInt(v0), function1.applyAsInt(v1), function2.applyAsInt(v2));
+    }
+
+    /**
+     * @return a {@link Triple} of the boxed values
+     */
+    public Triple<Integer, Integer, Integer> toTriple() {
+        return new Triple<>(v0, v1, v2);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final IntTriple triple = (IntTriple) o;
+        return v0 == triple.v0 && v1 == triple.v1 && v2 == triple.v2;
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Integer.hashCode(v0), Integer.hashCode(v1), Integer.hashCode(v2));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + "]";
+    }
+
+    /**
+     * @return a new triple
+     */
+    public static IntTriple of(int v0, int v1, int v2) {
+        return new IntTriple(v0, v1, v2);
+    }
+
+    /**
+     * Unbox the values of a {@link Triple}.
+     *
+     * @param triple the triple to unbox
+     * @return a new triple
+     * @throws NullPointerException if any value is null
+     */
+    public static IntTriple from(Triple<? extends Integer, ? extends Integer, ? extends Integer> triple) {
+        return new IntTriple(triple.v0(), triple.v1(), triple.v2());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A 2-tuple with values computed on first access.
+ * <p>
+ * Each value is computed at most once, by the first thread to access it. Mapping a value composes the function with
+ * the supplier of the value so does not compute it. Equality, the hash code and the string representation compute
+ * all of the values and are consistent with {@link Pair}.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class LazyPair<T0, T1> implements V0<T0>, V1<T1> {
+    private final Supplier<T0> v0;
+    private final Supplier<T1> v1;
+
+    private LazyPair(Supplier<T0> v0, Supplier<T1> v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0.get();
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0.get());
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0.get());
+    }
+
+    /**
+     * Map value 0 to new pair without computing it.
+     *
+     * @param function function to apply to value 0 when it is accessed
+     * @param <U> the new type of value 0
+     * @return the new pair
+     */
+    public <U> LazyPair<U, T1> mapV0(Function<? super T0, U> function) {
+        return new LazyPair<>(new Memo<>(() -> function.apply(v0.get())), v1);
+    }
+
+    @Override
+    public T1 v1() {
+        return v1.get();
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1.get());
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1.get());
+    }
+
+    /**
+     * Map value 1 to new pair without computing it.
+     *
+     * @param function function to apply to value 1 when it is accessed
+     * @param <U> the new type of value 1
+     * @return the new pair
+     */
+    public <U> LazyPair<T0, U> mapV1(Function<? super T1, U> function) {
+        return new LazyPair<>(v0, new Memo<>(() -> function.apply(v1.get())));
+    }
+
+    /**
+     * Map all values to new pair without computing them.
+     *
+     * @param function0 function to apply to value 0 when it is accessed
+     * @param function1 function to apply to value 1 when it is accessed
+     * @param <U0> the new type of value 0
+     * @param <U1> the new type of value 1
+     * @return the new pair
+     */
+    public <U0, U1> LazyPair<U0, U1> map(Function<? super T0, U0> function0, Function<? super T1, U1> function1) {
+        return new LazyPair<>(
+            new Memo<>(() -> function0.apply(v0.get())),
+            new Memo<>(() -> function1.apply(v1.get())));
+    }
+
+    /**
+     * @return a {@link Pair} of the computed values
+     */
+    public Pair<T0, T1> toPair() {
+        return new Pair<>(v0.get(), v1.get());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        else if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        else {
+            final LazyPair<?, ?> pair = (LazyPair<?, ?>) o;
+            return Objects.equals(v0.get(), pair.v0.get()) &&
+                Objects.equals(v1.get(), pair.v1.get());
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the pair
+        return TupleHash.hash(Objects.hashCode(v0.get()), Objects.hashCode(v1.get()));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0.get() + ", " + v1.get() + "]";
+    }
+
+    /**
+     * @return a new pair of the values of the suppliers, each is called at most once
+     * @throws NullPointerException if any supplier is null
+     */
+    public static <T0, T1> LazyPair<T0, T1> of(Supplier<? extends T0> v0, Supplier<? extends T1> v1) {
+        return new LazyPair<>(new Memo<>(requireNonNull(v0)), new Memo<>(requireNonNull(v1)));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A 4-tuple with values computed on first access.
+ * <p>
+ * Each value is computed at most once, by the first thread to access it. Mapping a value composes the function with
+ * the supplier of the value so does not compute it. Equality, the hash code and the string representation compute
+ * all of the values and are consistent with {@link Quad}.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @param <T3> the type of value 3
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class LazyQuad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3> {
+    private final Supplier<T0> v0;
+    private final Supplier<T1> v1;
+    private final Supplier<T2> v2;
+    private final Supplier<T3> v3;
+
+    private LazyQuad(Supplier<T0> v0, Supplier<T1> v1, Supplier<T2> v2, Supplier<T3> v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0.get();
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0.get());
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0.get());
+    }
+
+    /**
+     * Map value 0 to new quad without computing it.
+     *
+     * @param function function to apply to value 0 when it is accessed
+     * @param <U> the new type of value 0
+     * @return the new quad
+     */
+    public <U> LazyQuad<U, T1, T2, T3> mapV0(Function<? super T0, U> function) {
+        return new LazyQuad<>(new Memo<>(() -> function.apply(v0.get())), v1, v2, v3);
+    }
+
+    @Override
+    public T1 v1() {
+        return v1.get();
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1.get());
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1.get());
+    }
+
+    /**
+     * Map value 1 to new quad without computing it.
+     *
+     * @param function function to apply to value 1 when it is accessed
+     * @param <U> the new type of value 1
+     * @return the new quad
+     */
+    public <U> LazyQuad<T0, U, T2, T3> mapV1(Function<? super T1, U> function) {
+        return new LazyQuad<>(v0, new Memo<>(() -> function.apply(v1.get())), v2, v3);
+    }
+
+    @Override
+    public T2 v2() {
+        return v2.get();
+    }
+
+    @Override
+    public void acceptV2(Consumer<? super T2> consumer) {
+        consumer.accept(v2.get());
+    }
+
+    @Override
+    public <U> U applyV2(Function<? super T2, U> function) {
+        return function.apply(v2.get());
+    }
+
+    /**
+     * Map value 2 to new quad without computing it.
+     *
+     * @param function function to apply to value 2 when it is accessed
+     * @param <U> the new type of value 2
+     * @return the new quad
+     */
+    public <U> LazyQuad<T0, T1, U, T3> mapV2(Function<? super T2, U> function) {
+        return new LazyQuad<>(v0, v1, new Memo<>(() -> function.apply(v2.get())), v3);
+    }
+
+    @Override
+    public T3 v3() {
+        return v3.get();
+    }
+
+    @Override
+    public void acceptV3(Consumer<? super T3> consumer) {
+        consumer.accept(v3.get());
+    }
+
+    @Override
+    public <U> U applyV3(Function<? super T3, U> function) {
+        return function.apply(v3.get());
+    }
+
+    /**
+     * Map value 3 to new quad without computing it.
+     *
+     * @param function function to apply to value 3 when it is accessed
+     * @param <U> the new type of value 3
+     * @return the new quad
+     */
+    public <U> LazyQuad<T0, T1, T2, U> mapV3(Function<? super T3, U> function) {
+        return new LazyQuad<>(v0, v1, v2, new Memo<>(() -> function.apply(v3.get())));
+    }
+
+    /**
+     * Map all values to new quad without computing them.
+     *
+     * @param function0 function to apply to value 0 when it is accessed
+     * @param function1 function to apply to value 1 when it is accessed
+     * @param function2 function to apply to value 2 when it is accessed
+     * @param function3 function to apply to value 3 when it is accessed
+     * @param <U0> the new type of value 0
+     * @param <U1> the new type of value 1
+     * @param <U2> the new type of value 2
+     * @param <U3> the new type of value 3
+     * @return the new quad
+     */
+    public <U0, U1, U2, U3> LazyQuad<U0, U1, U2, U3> map(
+            Function<? super T0, U0> function0,
+            Function<? super T1, U1> function1,
+            Function<? super T2, U2> function2,
+            Function<? super T3, U3> function3) {
+        return new LazyQuad<>(
+            new Memo<>(() -> function0.apply(v0.get())),
+            new Memo<>(() -> function1.apply(v1.get())),
+            new Memo<>(() -> function2.apply(v2.get())),
+            new Memo<>(() -> function3.apply(v3.get())));
+    }
+
+    /**
+     * @return a {@link Quad} of the computed values
+     */
+    public Quad<T0, T1, T2, T3> toQuad() {
+        return new Quad<>(v0.get(), v1.get(), v2.get(), v3.get());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        else if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        else {
+            final LazyQuad<?, ?, ?, ?> quad = (LazyQuad<?, ?, ?, ?>) o;
+            return Objects.equals(v0.get(), quad.v0.get()) &&
+                Objects.equals(v1.get(), quad.v1.get()) &&
+                Objects.equals(v2.get(), quad.v2.get()) &&
+                Objects.equals(v3.get(), quad.v3.get());
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the quad
+        return TupleHash.hash(
+            Objects.hashCode(v0.get()),
+            Objects.hashCode(v1.get()),
+            Objects.hashCode(v2.get()),
+            Objects.hashCode(v3.get()));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0.get() + ", " + v1.get() + ", " + v2.get() + ", " + v3.get() + "]";
+    }
+
+    /**
+     * @return a new quad of the values of the suppliers, each is called at most once
+     * @throws NullPointerException if any supplier is null
+     */
+    public static <T0, T1, T2, T3> LazyQuad<T0, T1, T2, T3> of(
+            Supplier<? extends T0> v0,
+            Supplier<? extends T1> v1,
+            Supplier<? extends T2> v2,
+            Supplier<? extends T3> v3) {
+        return new LazyQuad<>(
+            new Memo<>(requireNonNull(v0)),
+            new Memo<>(requireNonNull(v1)),
+            new Memo<>(requireNonNull(v2)),
+            new Memo<>(requireNonNull(v3)));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A 3-tuple with values computed on first access.
+ * <p>
+ * Each value is computed at most once, by the first thread to access it. Mapping a value composes the function with
+ * the supplier of the value so does not compute it. Equality, the hash code and the string representation compute
+ * all of the values and are consistent with {@link Triple}.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class LazyTriple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
+    private final Supplier<T0> v0;
+    private final Supplier<T1> v1;
+    private final Supplier<T2> v2;
+
+    private LazyTriple(Supplier<T0> v0, Supplier<T1> v1, Supplier<T2> v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0.get();
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0.get());
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0.get());
+    }
+
+    /**
+     * Map value 0 to new triple without computing it.
+     *
+     * @param function function to apply to value 0 when it is accessed
+     * @param <U> the new type of value 0
+     * @return the new triple
+     */
+    public <U> LazyTriple<U, T1, T2> mapV0(Function<? super T0, U> function) {
+        return new LazyTriple<>(new Memo<>(() -> function.apply(v0.get())), v1, v2);
+    }
+
+    @Override
+    public T1 v1() {
+        return v1.get();
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1.get());
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1.get());
+    }
+
+    /**
+     * Map value 1 to new triple without computing it.
+     *
+     * @param function function to apply to value 1 when it is accessed
+     * @param <U> the new type of value 1
+     * @return the new triple
+     */
+    public <U> LazyTriple<T0, U, T2> mapV1(Function<? super T1, U> function) {
+        return new LazyTriple<>(v0, new Memo<>(() -> function.apply(v1.get())), v2);
+    }
+
+    @Override
+    public T2 v2() {
+        return v2.get();
+    }
+
+    @Override
+    public void acceptV2(Consumer<? super T2> consumer) {
+        consumer.accept(v2.get());
+    }
+
+    @Override
+    public <U> U applyV2(Function<? super T2, U> function) {
+        return function.apply(v2.get());
+    }
+
+    /**
+     * Map value 2 to new triple without computing it.
+     *
+     * @param function function to apply to value 2 when it is accessed
+     * @param <U> the new type of value 2
+     * @return the new triple
+     */
+    public <U> LazyTriple<T0, T1, U> mapV2(Function<? super T2, U> function) {
+        return new LazyTriple<>(v0, v1, new Memo<>(() -> function.apply(v2.get())));
+    }
+
+    /**
+     * Map all values to new triple without computing them.
+     *
+     * @param function0 function to apply to value 0 when it is accessed
+     * @param function1 function to apply to value 1 when it is accessed
+     * @param function2 function to apply to value 2 when it is accessed
+     * @param <U0> the new type of value 0
+     * @param <U1> the new type of value 1
+     * @param <U2> the new type of value 2
+     * @return the new triple
+     */
+    public <U0, U1, U2> LazyTriple<U0, U1, U2> map(
+            Function<? super T0, U0> function0,
+            Function<? super T1, U1> function1,
+            Function<? super T2, U2> function2) {
+        return new LazyTriple<>(
+            new Memo<>(() -> function0.apply(v0.get())),
+            new Memo<>(() -> function1.apply(v1.get())),
+            new Memo<>(() -> function2.apply(v2.get())));
+    }
+
+    /**
+     * @return a {@link Triple} of the computed values
+     */
+    public Triple<T0, T1, T2> toTriple() {
+        return new Triple<>(v0.get(), v1.get(), v2.get());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        else if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        else {
+            final LazyTriple<?, ?, ?> triple = (LazyTriple<?, ?, ?>) o;
+            return Objects.equals(v0.get(), triple.v0.get()) &&
+                Objects.equals(v1.get(), triple.v1.get()) &&
+                Objects.equals(v2.get(), triple.v2.get());
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the triple
+        return TupleHash.hash(
+            Objects.hashCode(v0.get()),
+            Objects.hashCode(v1.get()),
+            Objects.hashCode(v2.get()));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0.get() + ", " + v1.get() + ", " + v2.get() + "]";
+    }
+
+    /**
+     * @return a new triple of the values of the suppliers, each is called at most once
+     * @throws NullPointerException if any supplier is null
+     */
+    public static <T0, T1, T2> LazyTriple<T0, T1, T2> of(
+            Supplier<? extends T0> v0,
+            Supplier<? extends T1> v1,
+            Supplier<? extends T2> v2) {
+        return new LazyTriple<>(
+            new Memo<>(requireNonNull(v0)),
+            new Memo<>(requireNonNull(v1)),
+            new Memo<>(requireNonNull(v2)));
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The lexicographic order of tuples, value 0 is the most significant.
+ * <p>
+ * Values are compared by their natural order unless a comparator is provided for their index. {@link Integer},
+ * {@link Long} and {@link String} values are compared directly. By default null values are passed to the comparator,
+ * the natural order throws a {@link NullPointerException}.
+ * <p>
+ * Each comparator compares the values of its tuples without composing a comparator for each value.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class LexicographicOrder {
+    /**
+     * The order that compares each value by its natural order and passes null values to it.
+     */
+    /*package*/ static final LexicographicOrder NATURAL = new LexicographicOrder(new Comparator<?>[0], 0);
+    private final Comparator<?>[] comparators;
+    private final int nulls;
+
+    private LexicographicOrder(Comparator<?>[] comparators, int nulls) {
+        this.comparators = comparators;
+        this.nulls = nulls;
+    }
+
+    /**
+     * @return an order that places null values before other values
+     */
+    public LexicographicOrder nullsFirst() {
+        return new LexicographicOrder(comparators, -1);
+    }
+
+    /**
+     * @return an order that places null values after other values
+     */
+    public LexicographicOrder nullsLast() {
+        return new LexicographicOrder(comparators, 1);
+    }
+
+    /**
+     * @param i the index of the value
+     * @param comparator the comparator of value {@code i}
+     * @return an order that compares value {@code i} with the comparator
+     * @throws IllegalArgumentException if the index is negative
+     */
+    public LexicographicOrder withComparator(int i, Comparator<?> comparator) {
+        if (i < 0) {
+            throw new IllegalArgumentException("Negative index " + i);
+        }
+        final Comparator<?>[] newComparators = Arrays.copyOf(comparators, Math.max(comparators.length, i + 1));
+        newComparators[i] = requireNonNull(comparator);
+        return new LexicographicOrder(newComparators, nulls);
+    }
+
+    /**
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @return a comparator of pairs
+     */
+    public <T0, T1> Comparator<Pair<T0, T1>> forPairs() {
+        return new PairComparator<>(value(0), value(1));
+    }
+
+    /**
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @return a comparator of triples
+     */
+    public <T0, T1, T2> Comparator<Triple<T0, T1, T2>> forTriples() {
+        return new TripleComparator<>(value(0), value(1), value(2));
+    }
+
+    /**
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @param <T3> the type of value 3
+     * @return a comparator of quads
+     */
+    public <T0, T1, T2, T3> Comparator<Quad<T0, T1, T2, T3>> forQuads() {
+        return new QuadComparator<>(value(0), value(1), value(2), value(3));
+    }
+
+    /**
+     * Return a comparator of n-tuples. A tuple that is a prefix of another is before it.
+     *
+     * @return a comparator of n-tuples
+     */
+    public Comparator<NTuple> forNTuples() {
+        return new TupleComparator<>(this);
+    }
+
+    /**
+     * Return a comparator of tuples of any arity. A tuple that is a prefix of another is before it.
+     *
+     * @return a comparator of tuples
+     */
+    public Comparator<Tuple> forTuples() {
+        return new TupleComparator<>(this);
+    }
+
+    /**
+     * @return the order of value {@code i}
+     */
+    @SuppressWarnings("unchecked")
+    private ValueOrder value(int i) {
+        return new ValueOrder(i < comparators.length ? (Comparator<Object>) comparators[i] : null, nulls);
+    }
+
+    /**
+     * The order of one value of the tuples.
+     */
+    @Immutable
+    private static final class ValueOrder {
+        private final Comparator<Object> comparator;
+        private final int nulls;
+
+        ValueOrder(Comparator<Object> comparator, int nulls) {
+            this.comparator = comparator;
+            this.nulls = nulls;
+        }
+
+        int compare(Object a, Object b) {
+            if (nulls != 0 && (a == null || b == null)) {
+                return compareNulls(a, b);
+            }
+            else if (comparator != null) {
+                return comparator.compare(a, b);
+            }
+            else {
+                return natural(a, b);
+            }
+        }
+
+        private int compareNulls(Object a, Object b) {
+            if (a == b) {
+                return 0;
+            }
+            else if (a == null) {
+                return nulls;
+            }
+            else {
+                return -nulls;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static int natural(Object a, Object b) {
+            if (a instanceof Integer && b instanceof Integer) {
+                return Integer.compare((Integer) a, (Integer) b);
+            }
+            else if (a instanceof Long && b instanceof Long) {
+                return Long.compare((Long) a, (Long) b);
+            }
+            else if (a instanceof String && b instanceof String) {
+                return ((String) a).compareTo((String) b);
+            }
+            else {
+                return ((Comparable<Object>) a).compareTo(b);
+            }
+        }
+    }
+
+    /**
+     * Comparator of pairs.
+     */
+    @Immutable
+    private static final class PairComparator<T0, T1> implements Comparator<Pair<T0, T1>> {
+        private final ValueOrder order0;
+        private final ValueOrder order1;
+
+        PairComparator(ValueOrder order0, ValueOrder order1) {
+            this.order0 = order0;
+            this.order1 = order1;
+        }
+
+        @Override
+        public int compare(Pair<T0, T1> a, Pair<T0, T1> b) {
+            final int result = order0.compare(a.v0(), b.v0());
+            return result != 0 ? result : order1.compare(a.v1(), b.v1());
+        }
+    }
+
+    /**
+     * Comparator of triples.
+     */
+    @Immutable
+    private static final class TripleComparator<T0, T1, T2> implements Comparator<Triple<T0, T1, T2>> {
+        private final ValueOrder order0;
+        private final ValueOrder order1;
+        private final ValueOrder order2;
+
+        TripleComparator(ValueOrder order0, ValueOrder order1, ValueOrder order2) {
+            this.order0 = order0;
+            this.order1 = order1;
+            this.order2 = order2;
+        }
+
+        @Override
+        public int compare(Triple<T0, T1, T2> a, Triple<T0, T1, T2> b) {
+            int result = order0.compare(a.v0(), b.v0());
+            if (result != 0) {
+                return result;
+            }
+            result = order1.compare(a.v1(), b.v1());
+            return result != 0 ? result : order2.compare(a.v2(), b.v2());
+        }
+    }
+
+    /**
+     * Comparator of quads.
+     */
+    @Immutable
+    private static final class QuadComparator<T0, T1, T2, T3> implements Comparator<Quad<T0, T1, T2, T3>> {
+        private final ValueOrder order0;
+        private final ValueOrder order1;
+        private final ValueOrder order2;
+        private final ValueOrder order3;
+
+        QuadComparator(ValueOrder order0, ValueOrder order1, ValueOrder order2, ValueOrder order3) {
+            this.order0 = order0;
+            this.order1 = order1;
+            this.order2 = order2;
+            this.order3 = order3;
+        }
+
+        @Override
+        public int compare(Quad<T0, T1, T2, T3> a, Quad<T0, T1, T2, T3> b) {
+            int result = order0.compare(a.v0(), b.v0());
+            if (result != 0) {
+                return result;
+            }
+            result = order1.compare(a.v1(), b.v1());
+            if (result != 0) {
+                return result;
+            }
+            result = order2.compare(a.v2(), b.v2());
+            return result != 0 ? result : order3.compare(a.v3(), b.v3());
+        }
+    }
+
+    /**
+     * Comparator of tuples of any arity.
+     */
+    @Immutable
+    private static final class TupleComparator<T extends Tuple> implements Comparator<T> {
+        private final ValueOrder[] orders;
+        private final ValueOrder defaultOrder;
+
+        TupleComparator(LexicographicOrder order) {
+            orders = new ValueOrder[order.comparators.length];
+            for (int i = 0; i < orders.length; i++) {
+                orders[i] = order.value(i);
+            }
+            defaultOrder = new ValueOrder(null, order.nulls);
+        }
+
+        @Override
+        public int compare(T a, T b) {
+            final int arity = Math.min(a.arity(), b.arity());
+            for (int i = 0; i < arity; i++) {
+                final ValueOrder order = i < orders.length ? orders[i] : defaultOrder;
+                final int result = order.compare(a.get(i), b.get(i));
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(a.arity(), b.arity());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A 2-tuple of {@code long} and {@code double} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Pair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class LongDoublePair {
+    private final long v0;
+    private final double v1;
+
+    /*package*/ LongDoublePair(long v0, double v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * @return value 0
+     */
+    public long v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(LongConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(LongFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new pair.
+     *
+     * @param function function to apply to value 0
+     * @return the new pair
+     */
+    public LongDoublePair mapV0(LongUnaryOperator function) {
+        return new LongDoublePair(function.applyAsLong(v0), v1);
+    }
+
+    /**
+     * @return value 1
+     */
+    public double v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(DoubleConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(DoubleFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new pair.
+     *
+     * @param function function to apply to value 1
+     * @return the new pair
+     */
+    public LongDoublePair mapV1(DoubleUnaryOperator function) {
+        return new LongDoublePair(v0, function.applyAsDouble(v1));
+    }
+
+    /**
+     * Map all values to new pair.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @return the new pair
+     */
+    public LongDoublePair map(LongUnaryOperator function0, DoubleUnaryOperator function1) {
+        return new LongDoublePair(function0.applyAsLong(v0), function1.applyAsDouble(v1));
+    }
+
+    /**
+     * @return a {@link Pair} of the boxed values
+     */
+    public Pair<Long, Double> toPair() {
+        return new Pair<>(v0, v1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final LongDoublePair pair = (LongDoublePair) o;
+        return v0 == pair.v0 && Double.doubleToLongBits(v1) == Double.doubleToLongBits(pair.v1);
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Long.hashCode(v0), Double.hashCode(v1));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + "]";
+    }
+
+    /**
+     * @return a new pair
+     */
+    public static LongDoublePair of(long v0, double v1) {
+        return new LongDoublePair(v0, v1);
+    }
+
+    /**
+     * Unbox the values of a {@link Pair}.
+     *
+     * @param pair the pair to unbox
+     * @return a new pair
+     * @throws NullPointerException if any value is null
+     */
+    public static LongDoublePair from(Pair<? extends Long, ? extends Double> pair) {
+        return new LongDoublePair(pair.v0(), pair.v1());
+    }
+}
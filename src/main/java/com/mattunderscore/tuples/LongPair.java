@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A 2-tuple of {@code long} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Pair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class LongPair {
+    private final long v0;
+    private final long v1;
+
+    /*package*/ LongPair(long v0, long v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * @return value 0
+     */
+    public long v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(LongConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(LongFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new pair.
+     *
+     * @param function function to apply to value 0
+     * @return the new pair
+     */
+    public LongPair mapV0(LongUnaryOperator function) {
+        return new LongPair(function.applyAsLong(v0), v1);
+    }
+
+    /**
+     * @return value 1
+     */
+    public long v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(LongConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(LongFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new pair.
+     *
+     * @param function function to apply to value 1
+     * @return the new pair
+     */
+    public LongPair mapV1(LongUnaryOperator function) {
+        return new LongPair(v0, function.applyAsLong(v1));
+    }
+
+    /**
+     * Map all values to new pair.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @return the new pair
+     */
+    public LongPair map(LongUnaryOperator function0, LongUnaryOperator function1) {
+        return new LongPair(function0.applyAsLong(v0), function1.applyAsLong(v1));
+    }
+
+    /**
+     * @return a {@link Pair} of the boxed values
+     */
+    public Pair<Long, Long> toPair() {
+        return new Pair<>(v0, v1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final LongPair pair = (LongPair) o;
+        return v0 == pair.v0 && v1 == pair.v1;
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Long.hashCode(v0), Long.hashCode(v1));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + "]";
+    }
+
+    /**
+     * @return a new pair
+     */
+    public static LongPair of(long v0, long v1) {
+        return new LongPair(v0, v1);
+    }
+
+    /**
+     * Unbox the values of a {@link Pair}.
+     *
+     * @param pair the pair to unbox
+     * @return a new pair
+     * @throws NullPointerException if any value is null
+     */
+    public static LongPair from(Pair<? extends Long, ? extends Long> pair) {
+        return new LongPair(pair.v0(), pair.v1());
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A 4-tuple of {@code long} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Quad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class LongQuad {
+    private final long v0;
+    private final long v1;
+    private final long v2;
+    private final long v3;
+
+    /*package*/ LongQuad(long v0, long v1, long v2, long v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+    }
+
+    /**
+     * @return value 0
+     */
+    public long v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(LongConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(LongFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new quad.
+     *
+     * @param function function to apply to value 0
+     * @return the new quad
+     */
+    public LongQuad mapV0(LongUnaryOperator function) {
+        return new LongQuad(function.applyAsLong(v0), v1, v2, v3);
+    }
+
+    /**
+     * @return value 1
+     */
+    public long v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(LongConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(LongFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new quad.
+     *
+     * @param function function to apply to value 1
+     * @return the new quad
+     */
+    public LongQuad mapV1(LongUnaryOperator function) {
+        return new LongQuad(v0, function.applyAsLong(v1), v2, v3);
+    }
+
+    /**
+     * @return value 2
+     */
+    public long v2() {
+        return v2;
+    }
+
+    /**
+     * Pass value 2 to {@code consumer}.
+     */
+    public void acceptV2(LongConsumer consumer) {
+        consumer.accept(v2);
+    }
+
+    /**
+     * Apply {@code function} to value 2 and return the result.
+     */
+    public <U> U applyV2(LongFunction<U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new quad.
+     *
+     * @param function function to apply to value 2
+     * @return the new quad
+     */
+    public LongQuad mapV2(LongUnaryOperator function) {
+        return new LongQuad(v0, v1, function.applyAsLong(v2), v3);
+    }
+
+    /**
+     * @return value 3
+     */
+    public long v3() {
+        return v3;
+    }
+
+    /**
+     * Pass value 3 to {@code consumer}.
+     */
+    public void acceptV3(LongConsumer consumer) {
+        consumer.accept(v3);
+    }
+
+    /**
+     * Apply {@code function} to value 3 and return the result.
+     */
+    public <U> U applyV3(LongFunction<U> function) {
+        return function.apply(v3);
+    }
+
+    /**
+     * Map value 3 to new quad.
+     *
+     * @param function function to apply to value 3
+     * @return the new quad
+     */
+    public LongQuad mapV3(LongUnaryOperator function) {
+        return new LongQuad(v0, v1, v2, function.applyAsLong(v3));
+    }
+
+    /**
+     * Map all values to new quad.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @param function3 function to apply to value 3
+     * @return the new quad
+     */
+    public LongQuad map(
+            LongUnaryOperator function0,
+            LongUnaryOperator function1,
+            LongUnaryOperator function2,
+            LongUnaryOperator function3) {
+        return new LongQuad(
+            function0.applyAsLong(v0),
+            function1.applyAsLong(v1),
+            function2.applyAsLong(v2),
+            function3.applyAsLong(v3));
+    }
+
+    /**
+     * @return a {@link Quad} of the boxed values
+     */
+    public Quad<Long, Long, Long, Long> toQuad() {
+        return new Quad<>(v0, v1, v2, v3);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final LongQuad quad = (LongQuad) o;
+        return v0 == quad.v0 && v1 == quad.v1 && v2 == quad.v2 && v3 == quad.v3;
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Long.hashCode(v0), Long.hashCode(v1), Long.hashCode(v2), Long.hashCode(v3));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + ", " + v3 + "]";
+    }
+
+    /**
+     * @return a new quad
+     */
+    public static LongQuad of(long v0, long v1, long v2, long v3) {
+        return new LongQuad(v0, v1, v2, v3);
+    }
+
+    /**
+     * Unbox the values of a {@link Quad}.
+     *
+     * @param quad the quad to unbox
+     * @return a new quad
+     * @throws NullPointerException if any value is null
+     */
+    public static LongQuad from(Quad<? extends Long, ? extends Long, ? extends Long, ? extends Long> quad) {
+        return new LongQuad(quad.v0(), quad.v1(), quad.v2(), quad.v3());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A 3-tuple of {@code long} values.
+ * <p>
+ * Avoids the boxing of components required by {@link Triple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class LongTriple {
+    private final long v0;
+    private final long v1;
+    private final long v2;
+
+    /*package*/ LongTriple(long v0, long v1, long v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    /**
+     * @return value 0
+     */
+    public long v0() {
+        return v0;
+    }
+
+    /**
+     * Pass value 0 to {@code consumer}.
+     */
+    public void acceptV0(LongConsumer consumer) {
+        consumer.accept(v0);
+    }
+
+    /**
+     * Apply {@code function} to value 0 and return the result.
+     */
+    public <U> U applyV0(LongFunction<U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new triple.
+     *
+     * @param function function to apply to value 0
+     * @return the new triple
+     */
+    public LongTriple mapV0(LongUnaryOperator function) {
+        return new LongTriple(function.applyAsLong(v0), v1, v2);
+    }
+
+    /**
+     * @return value 1
+     */
+    public long v1() {
+        return v1;
+    }
+
+    /**
+     * Pass value 1 to {@code consumer}.
+     */
+    public void acceptV1(LongConsumer consumer) {
+        consumer.accept(v1);
+    }
+
+    /**
+     * Apply {@code function} to value 1 and return the result.
+     */
+    public <U> U applyV1(LongFunction<U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new triple.
+     *
+     * @param function function to apply to value 1
+     * @return the new triple
+     */
+    public LongTriple mapV1(LongUnaryOperator function) {
+        return new LongTriple(v0, function.applyAsLong(v1), v2);
+    }
+
+    /**
+     * @return value 2
+     */
+    public long v2() {
+        return v2;
+    }
+
+    /**
+     * Pass value 2 to {@code consumer}.
+     */
+    public void acceptV2(LongConsumer consumer) {
+        consumer.accept(v2);
+    }
+
+    /**
+     * Apply {@code function} to value 2 and return the result.
+     */
+    public <U> U applyV2(LongFunction<U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new triple.
+     *
+     * @param function function to apply to value 2
+     * @return the new triple
+     */
+    public LongTriple mapV2(LongUnaryOperator function) {
+        return new LongTriple(v0, v1, function.applyAsLong(v2));
+    }
+
+    /**
+     * Map all values to new triple.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @return the new triple
+     */
+    public LongTriple map(
+            LongUnaryOperator function0,
+            LongUnaryOperator function1,
+            LongUnaryOperator function2) {
+        return new LongTriple(function0.applyAsLong(v0), function1.applyAsLong(v1), function2.applyAsLong(v2));
+    }
+
+    /**
+     * @return a {@link Triple} of the boxed values
+     */
+    public Triple<Long, Long, Long> toTriple() {
+        return new Triple<>(v0, v1, v2);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final LongTriple triple = (LongTriple) o;
+        return v0 == triple.v0 && v1 == triple.v1 && v2 == triple.v2;
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        return TupleHash.hash(Long.hashCode(v0), Long.hashCode(v1), Long.hashCode(v2));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + "]";
+    }
+
+    /**
+     * @return a new triple
+     */
+    public static LongTriple of(long v0, long v1, long v2) {
+        return new LongTriple(v0, v1, v2);
+    }
+
+    /**
+     * Unbox the values of a {@link Triple}.
+     *
+     * @param triple the triple to unbox
+     * @return a new triple
+     * @throws NullPointerException if any value is null
+     */
+    public static LongTriple from(Triple<? extends Long, ? extends Long, ? extends Long> triple) {
+        return new LongTriple(triple.v0(), triple.v1(), triple.v2());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.function.Supplier;
+
+/**
+ * A supplier that computes its value at most once.
+ *
+ * @param <T> the type of value
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+/*package*/ final class Memo<T> implements Supplier<T> {
+    /**
+     * The supplier of the value or null once the value has been computed. Publishes the value.
+     */
+    private volatile Supplier<? extends T> supplier;
+    @GuardedBy("this")
+    private T value;
+
+    Memo(Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+        if (supplier != null) {
+            synchronized (this) {
+                final Supplier<? extends T> pending = supplier;
+                if (pending != null) {
+                    value = pending.get();
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A mutable 2-tuple.
+ * <p>
+ * Values are set and mapped in place so loops can reuse a single instance instead of creating a {@link Pair} for
+ * each change. Instances can be recycled through a {@link TuplePool}. {@link #freeze()} returns an immutable
+ * pair of the current values. Mutable tuples do not override {@code equals} and {@code hashCode}, freeze them to
+ * compare their values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class MutablePair<T0, T1> implements V0<T0>, V1<T1> {
+    private T0 v0;
+    private T1 v1;
+    /**
+     * If the tuple has been released to a pool.
+     */
+    private boolean released;
+
+    private MutablePair(T0 v0, T1 v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0;
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0);
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Set value 0.
+     *
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> setV0(T0 value) {
+        v0 = value;
+        return this;
+    }
+
+    /**
+     * Map value 0 in place.
+     *
+     * @param function function to apply to value 0
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> mapV0(UnaryOperator<T0> function) {
+        v0 = function.apply(v0);
+        return this;
+    }
+
+    @Override
+    public T1 v1() {
+        return v1;
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1);
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Set value 1.
+     *
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> setV1(T1 value) {
+        v1 = value;
+        return this;
+    }
+
+    /**
+     * Map value 1 in place.
+     *
+     * @param function function to apply to value 1
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> mapV1(UnaryOperator<T1> function) {
+        v1 = function.apply(v1);
+        return this;
+    }
+
+    /**
+     * Set the values.
+     *
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> set(T0 v0, T1 v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+        return this;
+    }
+
+    /**
+     * Set the values to the values of a pair.
+     *
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> set(Pair<? extends T0, ? extends T1> tuple) {
+        return set(tuple.v0(), tuple.v1());
+    }
+
+    /**
+     * Map the values in place.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @return this tuple
+     */
+    public MutablePair<T0, T1> map(UnaryOperator<T0> function0, UnaryOperator<T1> function1) {
+        v0 = function0.apply(v0);
+        v1 = function1.apply(v1);
+        return this;
+    }
+
+    /**
+     * @return an immutable pair of the current values
+     */
+    public Pair<T0, T1> freeze() {
+        return new Pair<>(v0, v1);
+    }
+
+    /**
+     * Clear the values and mark the tuple as released.
+     *
+     * @return false if the tuple was already released
+     */
+    /*package*/ boolean release() {
+        if (released) {
+            return false;
+        }
+        v0 = null;
+        v1 = null;
+        released = true;
+        return true;
+    }
+
+    /**
+     * Mark the tuple as acquired from a pool.
+     */
+    /*package*/ void acquire() {
+        released = false;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + "]";
+    }
+
+    /**
+     * @return a new mutable pair of the values
+     */
+    public static <T0, T1> MutablePair<T0, T1> of(T0 v0, T1 v1) {
+        return new MutablePair<>(v0, v1);
+    }
+
+    /**
+     * @return a new mutable pair of the values of a pair
+     */
+    public static <T0, T1> MutablePair<T0, T1> from(Pair<T0, T1> tuple) {
+        return new MutablePair<>(tuple.v0(), tuple.v1());
+    }
+
+    /**
+     * Create a pool of mutable pairs confined to the calling thread.
+     *
+     * @param capacity the maximum number of released tuples kept for reuse
+     * @return a new pool that creates tuples of null values
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static <T0, T1> TuplePool<MutablePair<T0, T1>> pool(int capacity) {
+        return TuplePool.create(capacity, () -> new MutablePair<>(null, null), MutablePair::release, MutablePair::acquire);
+    }
+}
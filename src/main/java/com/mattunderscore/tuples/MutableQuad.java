@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A mutable 4-tuple.
+ * <p>
+ * Values are set and mapped in place so loops can reuse a single instance instead of creating a {@link Quad} for
+ * each change. Instances can be recycled through a {@link TuplePool}. {@link #freeze()} returns an immutable
+ * quad of the current values. Mutable tuples do not override {@code equals} and {@code hashCode}, freeze them to
+ * compare their values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @param <T3> the type of value 3
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class MutableQuad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3> {
+    private T0 v0;
+    private T1 v1;
+    private T2 v2;
+    private T3 v3;
+    /**
+     * If the tuple has been released to a pool.
+     */
+    private boolean released;
+
+    private MutableQuad(T0 v0, T1 v1, T2 v2, T3 v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0;
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0);
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Set value 0.
+     *
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> setV0(T0 value) {
+        v0 = value;
+        return this;
+    }
+
+    /**
+     * Map value 0 in place.
+     *
+     * @param function function to apply to value 0
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> mapV0(UnaryOperator<T0> function) {
+        v0 = function.apply(v0);
+        return this;
+    }
+
+    @Override
+    public T1 v1() {
+        return v1;
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1);
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Set value 1.
+     *
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> setV1(T1 value) {
+        v1 = value;
+        return this;
+    }
+
+    /**
+     * Map value 1 in place.
+     *
+     * @param function function to apply to value 1
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> mapV1(UnaryOperator<T1> function) {
+        v1 = function.apply(v1);
+        return this;
+    }
+
+    @Override
+    public T2 v2() {
+        return v2;
+    }
+
+    @Override
+    public void acceptV2(Consumer<? super T2> consumer) {
+        consumer.accept(v2);
+    }
+
+    @Override
+    public <U> U applyV2(Function<? super T2, U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Set value 2.
+     *
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> setV2(T2 value) {
+        v2 = value;
+        return this;
+    }
+
+    /**
+     * Map value 2 in place.
+     *
+     * @param function function to apply to value 2
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> mapV2(UnaryOperator<T2> function) {
+        v2 = function.apply(v2);
+        return this;
+    }
+
+    @Override
+    public T3 v3() {
+        return v3;
+    }
+
+    @Override
+    public void acceptV3(Consumer<? super T3> consumer) {
+        consumer.accept(v3);
+    }
+
+    @Override
+    public <U> U applyV3(Function<? super T3, U> function) {
+        return function.apply(v3);
+    }
+
+    /**
+     * Set value 3.
+     *
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> setV3(T3 value) {
+        v3 = value;
+        return this;
+    }
+
+    /**
+     * Map value 3 in place.
+     *
+     * @param function function to apply to value 3
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> mapV3(UnaryOperator<T3> function) {
+        v3 = function.apply(v3);
+        return this;
+    }
+
+    /**
+     * Set the values.
+     *
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> set(T0 v0, T1 v1, T2 v2, T3 v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        return this;
+    }
+
+    /**
+     * Set the values to the values of a quad.
+     *
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> set(Quad<? extends T0, ? extends T1, ? extends T2, ? extends T3> tuple) {
+        return set(tuple.v0(), tuple.v1(), tuple.v2(), tuple.v3());
+    }
+
+    /**
+     * Map the values in place.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @param function3 function to apply to value 3
+     * @return this tuple
+     */
+    public MutableQuad<T0, T1, T2, T3> map(
+            UnaryOperator<T0> function0,
+            UnaryOperator<T1> function1,
+            UnaryOperator<T2> function2,
+            UnaryOperator<T3> function3) {
+        v0 = function0.apply(v0);
+        v1 = function1.apply(v1);
+        v2 = function2.apply(v2);
+        v3 = function3.apply(v3);
+        return this;
+    }
+
+    /**
+     * @return an immutable quad of the current values
+     */
+    public Quad<T0, T1, T2, T3> freeze() {
+        return new Quad<>(v0, v1, v2, v3);
+    }
+
+    /**
+     * Clear the values and mark the tuple as released.
+     *
+     * @return false if the tuple was already released
+     */
+    /*package*/ boolean release() {
+        if (released) {
+            return false;
+        }
+        v0 = null;
+        v1 = null;
+        v2 = null;
+        v3 = null;
+        released = true;
+        return true;
+    }
+
+    /**
+     * Mark the tuple as acquired from a pool.
+     */
+    /*package*/ void acquire() {
+        released = false;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + ", " + v3 + "]";
+    }
+
+    /**
+     * @return a new mutable quad of the values
+     */
+    public static <T0, T1, T2, T3> MutableQuad<T0, T1, T2, T3> of(T0 v0, T1 v1, T2 v2, T3 v3) {
+        return new MutableQuad<>(v0, v1, v2, v3);
+    }
+
+    /**
+     * @return a new mutable quad of the values of a quad
+     */
+    public static <T0, T1, T2, T3> MutableQuad<T0, T1, T2, T3> from(Quad<T0, T1, T2, T3> tuple) {
+        return new MutableQuad<>(tuple.v0(), tuple.v1(), tuple.v2(), tuple.v3());
+    }
+
+    /**
+     * Create a pool of mutable quads confined to the calling thread.
+     *
+     * @param capacity the maximum number of released tuples kept for reuse
+     * @return a new pool that creates tuples of null values
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static <T0, T1, T2, T3> TuplePool<MutableQuad<T0, T1, T2, T3>> pool(int capacity) {
+        return TuplePool.create(
+            capacity,
+            () -> new MutableQuad<>(null, null, null, null),
+            MutableQuad::release,
+            MutableQuad::acquire);
+    }
+}
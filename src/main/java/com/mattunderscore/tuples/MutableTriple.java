@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A mutable 3-tuple.
+ * <p>
+ * Values are set and mapped in place so loops can reuse a single instance instead of creating a {@link Triple} for
+ * each change. Instances can be recycled through a {@link TuplePool}. {@link #freeze()} returns an immutable
+ * triple of the current values. Mutable tuples do not override {@code equals} and {@code hashCode}, freeze them to
+ * compare their values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class MutableTriple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
+    private T0 v0;
+    private T1 v1;
+    private T2 v2;
+    /**
+     * If the tuple has been released to a pool.
+     */
+    private boolean released;
+
+    private MutableTriple(T0 v0, T1 v1, T2 v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0;
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0);
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Set value 0.
+     *
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> setV0(T0 value) {
+        v0 = value;
+        return this;
+    }
+
+    /**
+     * Map value 0 in place.
+     *
+     * @param function function to apply to value 0
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> mapV0(UnaryOperator<T0> function) {
+        v0 = function.apply(v0);
+        return this;
+    }
+
+    @Override
+    public T1 v1() {
+        return v1;
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1);
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Set value 1.
+     *
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> setV1(T1 value) {
+        v1 = value;
+        return this;
+    }
+
+    /**
+     * Map value 1 in place.
+     *
+     * @param function function to apply to value 1
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> mapV1(UnaryOperator<T1> function) {
+        v1 = function.apply(v1);
+        return this;
+    }
+
+    @Override
+    public T2 v2() {
+        return v2;
+    }
+
+    @Override
+    public void acceptV2(Consumer<? super T2> consumer) {
+        consumer.accept(v2);
+    }
+
+    @Override
+    public <U> U applyV2(Function<? super T2, U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Set value 2.
+     *
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> setV2(T2 value) {
+        v2 = value;
+        return this;
+    }
+
+    /**
+     * Map value 2 in place.
+     *
+     * @param function function to apply to value 2
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> mapV2(UnaryOperator<T2> function) {
+        v2 = function.apply(v2);
+        return this;
+    }
+
+    /**
+     * Set the values.
+     *
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> set(T0 v0, T1 v1, T2 v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        return this;
+    }
+
+    /**
+     * Set the values to the values of a triple.
+     *
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> set(Triple<? extends T0, ? extends T1, ? extends T2> tuple) {
+        return set(tuple.v0(), tuple.v1(), tuple.v2());
+    }
+
+    /**
+     * Map the values in place.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @return this tuple
+     */
+    public MutableTriple<T0, T1, T2> map(UnaryOperator<T0> function0, UnaryOperator<T1> function1, UnaryOperator<T2> function2) {
+        v0 = function0.apply(v0);
+        v1 = function1.apply(v1);
+        v2 = function2.apply(v2);
+        return this;
+    }
+
+    /**
+     * @return an immutable triple of the current values
+     */
+    public Triple<T0, T1, T2> freeze() {
+        return new Triple<>(v0, v1, v2);
+    }
+
+    /**
+     * Clear the values and mark the tuple as released.
+     *
+     * @return false if the tuple was already released
+     */
+    /*package*/ boolean release() {
+        if (released) {
+            return false;
+        }
+        v0 = null;
+        v1 = null;
+        v2 = null;
+        released = true;
+        return true;
+    }
+
+    /**
+     * Mark the tuple as acquired from a pool.
+     */
+    /*package*/ void acquire() {
+        released = false;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + "]";
+    }
+
+    /**
+     * @return a new mutable triple of the values
+     */
+    public static <T0, T1, T2> MutableTriple<T0, T1, T2> of(T0 v0, T1 v1, T2 v2) {
+        return new MutableTriple<>(v0, v1, v2);
+    }
+
+    /**
+     * @return a new mutable triple of the values of a triple
+     */
+    public static <T0, T1, T2> MutableTriple<T0, T1, T2> from(Triple<T0, T1, T2> tuple) {
+        return new MutableTriple<>(tuple.v0(), tuple.v1(), tuple.v2());
+    }
+
+    /**
+     * Create a pool of mutable triples confined to the calling thread.
+     *
+     * @param capacity the maximum number of released tuples kept for reuse
+     * @return a new pool that creates tuples of null values
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static <T0, T1, T2> TuplePool<MutableTriple<T0, T1, T2>> pool(int capacity) {
+        return TuplePool.create(
+            capacity,
+            () -> new MutableTriple<>(null, null, null),
+            MutableTriple::release,
+            MutableTriple::acquire);
+    }
+}
@@ -5,10 +5,14 @@
 package com.mattunderscore.tuples;
 
 import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
 
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -16,15 +20,42 @@ import java.util.function.Function;
  * A n-tuple.
  * <p>
  * Lacks type and arity safety.
+ * <p>
+ * Slices, concatenations and projections are views that share the values of the tuples they are created from. A view
+ * keeps the tuples it is created from reachable, {@link #compact()} copies the values into a new tuple. A view of
+ * views nested too deeply is copied when it is created so accessing a value is not slowed by the nesting.
  *
  * @author Matt Champion 21/04/2018
  */
 @Immutable
-public final class NTuple {
+public final class NTuple extends Tuple {
+    private static final int MAX_VIEW_DEPTH = 8;
     private final Object[] values;
+    private final int offset;
+    private final int arity;
+    private final View view;
+    private final int depth;
 
     /*package*/ NTuple(Object[] values) {
-        this.values = requireNonNull(values);
+        this(requireNonNull(values), 0, values.length, null);
+    }
+
+    private NTuple(Object[] values, int offset, int arity, View view) {
+        this.values = values;
+        this.offset = offset;
+        this.arity = arity;
+        this.view = view;
+        depth = view == null ? 0 : view.depth();
+    }
+
+    @Override
+    public int arity() {
+        return arity;
+    }
+
+    @Override
+    public Object get(int i) {
+        return v(i);
     }
 
     /**
@@ -38,7 +69,8 @@ public final class NTuple {
      */
     @SuppressWarnings("unchecked")
     public <T> T v(int i) {
-        return (T) values[i];
+        checkIndex(i, arity);
+        return (T) (view == null ? values[offset + i] : view.get(i));
     }
 
     /**
@@ -77,11 +109,133 @@ public final class NTuple {
      */
     public <T, U> NTuple mapV(int i, Function<? super T, U> function) {
         final T value = v(i);
-        final Object[] newValues = Arrays.copyOf(values, values.length);
+        final Object[] newValues = toArray();
         newValues[i] = function.apply(value);
         return new NTuple(newValues);
     }
 
+    /**
+     * Return a view of the values from {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @return the slice
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public NTuple slice(int from, int to) {
+        checkFromToIndex(from, to, arity);
+        if (view == null) {
+            return new NTuple(values, offset + from, to - from, null);
+        }
+        else if (view instanceof Slice) {
+            final Slice slice = (Slice) view;
+            return ofView(to - from, new Slice(slice.source, slice.from + from));
+        }
+        else {
+            return ofView(to - from, new Slice(this, from));
+        }
+    }
+
+    /**
+     * @return a view of the values of this tuple followed by the values of {@code other}
+     */
+    public NTuple concat(NTuple other) {
+        if (other.arity == 0) {
+            return this;
+        }
+        else if (arity == 0) {
+            return other;
+        }
+        else {
+            return ofView(arity + other.arity, new Concat(this, other));
+        }
+    }
+
+    /**
+     * @return a view of the values of this tuple followed by {@code value}
+     */
+    public NTuple append(Object value) {
+        return concat(new NTuple(new Object[] {value}));
+    }
+
+    /**
+     * Return a view of the values at the indices, in the order of the indices.
+     *
+     * @param indices the indices of the values, an index can be repeated
+     * @return the projection
+     * @throws IndexOutOfBoundsException if an index is out of range
+     */
+    public NTuple project(int... indices) {
+        final int[] projected = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            projected[i] = checkIndex(indices[i], arity);
+        }
+        if (view instanceof Projection) {
+            final Projection projection = (Projection) view;
+            for (int i = 0; i < projected.length; i++) {
+                projected[i] = projection.indices[projected[i]];
+            }
+            return ofView(projected.length, new Projection(projection.source, projected));
+        }
+        else {
+            return ofView(projected.length, new Projection(this, projected));
+        }
+    }
+
+    /**
+     * Return a tuple that only references its own values. Views are copied, other tuples are returned.
+     *
+     * @return the compact tuple
+     */
+    public NTuple compact() {
+        if (view == null && offset == 0 && values.length == arity) {
+            return this;
+        }
+        else {
+            return new NTuple(toArray());
+        }
+    }
+
+    /**
+     * @return a builder starting with the values of this tuple
+     */
+    public Builder toBuilder() {
+        final NTuple compact = compact();
+        // The values of this tuple are shared until the builder changes them, the values of a view are already a copy
+        return new Builder(compact.values, compact == this);
+    }
+
+    /**
+     * @return the values of the tuple, the array must not be modified
+     */
+    /*package*/ Object[] values() {
+        return compact().values;
+    }
+
+    @Override
+    public void forEach(Consumer<Object> consumer) {
+        for (int i = 0; i < arity; i++) {
+            consumer.accept(v(i));
+        }
+    }
+
+    @Override
+    public NTuple toNTuple() {
+        return this;
+    }
+
+    @Override
+    public Object[] toArray() {
+        if (view == null) {
+            return Arrays.copyOfRange(values, offset, offset + arity);
+        }
+        else {
+            final Object[] newValues = new Object[arity];
+            for (int i = 0; i < arity; i++) {
+                newValues[i] = view.get(i);
+            }
+            return newValues;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -92,17 +246,29 @@ public final class NTuple {
         }
 
         final NTuple nTuple = (NTuple) o;
-        return Arrays.equals(values, nTuple.values);
+        if (arity != nTuple.arity) {
+            return false;
+        }
+        for (int i = 0; i < arity; i++) {
+            if (!Objects.equals(v(i), nTuple.v(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(values);
+        int hash = TupleHash.SEED;
+        for (int i = 0; i < arity; i++) {
+            hash = TupleHash.combine(hash, Objects.hashCode(v(i)));
+        }
+        return TupleHash.finish(hash, arity);
     }
 
     @Override
     public String toString() {
-        return Arrays.toString(values);
+        return Arrays.toString(values());
     }
 
     /**
@@ -111,4 +277,200 @@ public final class NTuple {
     public static NTuple of(Object... values) {
         return new NTuple(Arrays.copyOf(values, values.length));
     }
+
+    /**
+     * Create a n-tuple that takes ownership of the array of values without copying it.
+     *
+     * @param values the values, the array must not be modified after it is passed to this method
+     * @return a new n-tuple
+     */
+    public static NTuple wrap(Object[] values) {
+        return new NTuple(values);
+    }
+
+    /**
+     * @param arity the arity of the tuple
+     * @return a builder of a tuple with {@code arity} null values
+     * @throws NegativeArraySizeException if the arity is negative
+     */
+    public static Builder builder(int arity) {
+        return new Builder(new Object[arity], false);
+    }
+
+    /**
+     * @return a tuple of the view, or a copy of its values if the view is nested too deeply
+     */
+    private static NTuple ofView(int arity, View view) {
+        final NTuple tuple = new NTuple(null, 0, arity, view);
+        return tuple.depth > MAX_VIEW_DEPTH ? new NTuple(tuple.toArray()) : tuple;
+    }
+
+    /**
+     * Builder of n-tuples that updates values in place.
+     * <p>
+     * Building a tuple does not copy the values. If the builder is changed after it has built a tuple the values are
+     * copied first.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Object[] values;
+        private boolean shared;
+
+        private Builder(Object[] values, boolean shared) {
+            this.values = values;
+            this.shared = shared;
+        }
+
+        /**
+         * @return the arity of the tuple
+         */
+        public int arity() {
+            return values.length;
+        }
+
+        /**
+         * Return value {@code i}.
+         *
+         * @param i the index of the value to access
+         * @param <T> the type of value {@code i}
+         * @return value {@code i}
+         * @throws ClassCastException if the expected type is not the actual type
+         * @throws IndexOutOfBoundsException if the arity is wrong
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T v(int i) {
+            return (T) values[i];
+        }
+
+        /**
+         * Set value {@code i}.
+         *
+         * @return this builder
+         * @throws IndexOutOfBoundsException if the arity is wrong
+         */
+        public Builder set(int i, Object value) {
+            checkIndex(i, values.length);
+            unshare();
+            values[i] = value;
+            return this;
+        }
+
+        /**
+         * Map value {@code i} in place.
+         *
+         * @param function function to apply to value {@code i}
+         * @param <T> the type of value {@code i}
+         * @return this builder
+         * @throws ClassCastException if the expected type is not the actual type
+         * @throws IndexOutOfBoundsException if the arity is wrong
+         */
+        public <T> Builder mapV(int i, Function<? super T, ?> function) {
+            final T value = v(i);
+            return set(i, function.apply(value));
+        }
+
+        /**
+         * Create the tuple. The builder can continue to be used.
+         *
+         * @return a new tuple
+         */
+        public NTuple build() {
+            shared = true;
+            return new NTuple(values);
+        }
+
+        /**
+         * Copy the values if they are shared with a tuple.
+         */
+        private void unshare() {
+            if (shared) {
+                values = values.clone();
+                shared = false;
+            }
+        }
+    }
+
+    /**
+     * The values of a tuple that is a view of other tuples.
+     */
+    private abstract static class View {
+        /**
+         * @return value {@code i}, the index has been checked
+         */
+        abstract Object get(int i);
+
+        /**
+         * @return the number of views nested in this one, including itself
+         */
+        abstract int depth();
+    }
+
+    /**
+     * A range of the values of a view.
+     */
+    private static final class Slice extends View {
+        private final NTuple source;
+        private final int from;
+
+        Slice(NTuple source, int from) {
+            this.source = source;
+            this.from = from;
+        }
+
+        @Override
+        Object get(int i) {
+            return source.v(from + i);
+        }
+
+        @Override
+        int depth() {
+            return source.depth + 1;
+        }
+    }
+
+    /**
+     * The values of one tuple followed by the values of another.
+     */
+    private static final class Concat extends View {
+        private final NTuple left;
+        private final NTuple right;
+
+        Concat(NTuple left, NTuple right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Object get(int i) {
+            return i < left.arity ? left.v(i) : right.v(i - left.arity);
+        }
+
+        @Override
+        int depth() {
+            return Math.max(left.depth, right.depth) + 1;
+        }
+    }
+
+    /**
+     * The values at some of the indices of a tuple.
+     */
+    private static final class Projection extends View {
+        private final NTuple source;
+        private final int[] indices;
+
+        Projection(NTuple source, int[] indices) {
+            this.source = source;
+            this.indices = indices;
+        }
+
+        @Override
+        Object get(int i) {
+            return source.v(indices[i]);
+        }
+
+        @Override
+        int depth() {
+            return source.depth + 1;
+        }
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A n-tuple optimised for use as a hash key.
+ * <p>
+ * Lacks type and arity safety.
+ * <p>
+ * The hash code is computed on first use and cached. It is equal to the hash code of the {@link NTuple} with
+ * the same values. Equality is short-circuited when the cached hash codes of both keys differ. The values
+ * should not be mutated while the key is in use.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class NTupleKey {
+    private final Object[] values;
+
+    /**
+     * The cached hash code or zero if it has not been computed. Benign data race, as with {@link String}.
+     */
+    private int hash;
+
+    /*package*/ NTupleKey(Object[] values) {
+        this.values = requireNonNull(values);
+    }
+
+    /**
+     * Return value {@code i}.
+     *
+     * @param i the index of the value to access
+     * @param <T> the type of value {@code i}
+     * @return value {@code i}
+     * @throws ClassCastException if the expected type is not the actual type
+     * @throws IndexOutOfBoundsException if the arity is wrong
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T v(int i) {
+        return (T) values[i];
+    }
+
+    /**
+     * Pass value {@code i} to {@code consumer}.
+     *
+     * @param i the index of the value to access
+     * @param <T> the type of value {@code i}
+     * @throws ClassCastException if the expected type is not the actual type
+     * @throws IndexOutOfBoundsException if the arity is wrong
+     */
+    public <T> void acceptV(int i, Consumer<? super T> consumer) {
+        consumer.accept(v(i));
+    }
+
+    /**
+     * Apply {@code function} to value {@code i} and return the result.
+     *
+     * @param <T> the type of value {@code i}
+     * @param <U> the new type of value {@code i}
+     * @throws ClassCastException if the expected type is not the actual type
+     * @throws IndexOutOfBoundsException if the arity is wrong
+     */
+    public <T, U> U applyV(int i, Function<? super T, U> function) {
+        return function.apply(v(i));
+    }
+
+    /**
+     * Map value {@code i} to new key.
+     *
+     * @param function function to apply to value {@code i}
+     * @param <T> the type of value {@code i}
+     * @param <U> the new type of value {@code i}
+     * @return the new key
+     * @throws ClassCastException if the expected type is not the actual type
+     * @throws IndexOutOfBoundsException if the arity is wrong
+     */
+    public <T, U> NTupleKey mapV(int i, Function<? super T, U> function) {
+        final T value = v(i);
+        final Object[] newValues = Arrays.copyOf(values, values.length);
+        newValues[i] = function.apply(value);
+        return new NTupleKey(newValues);
+    }
+
+    /**
+     * @return a {@link NTuple} of the values
+     */
+    public NTuple toNTuple() {
+        return new NTuple(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final NTupleKey key = (NTupleKey) o;
+        if (hash != 0 && key.hash != 0 && hash != key.hash) {
+            return false;
+        }
+        return Arrays.equals(values, key.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = TupleHash.hash(values);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    /**
+     * @return a new key
+     */
+    public static NTupleKey of(Object... values) {
+        return new NTupleKey(Arrays.copyOf(values, values.length));
+    }
+
+    /**
+     * Create a key from a {@link NTuple}.
+     *
+     * @param tuple the tuple
+     * @return a new key
+     */
+    public static NTupleKey from(NTuple tuple) {
+        // The values are copied as a wrapped array can still be changed by the caller
+        return new NTupleKey(tuple.toArray());
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * The arity and type of each value of a {@link TypedNTuple}.
+ * <p>
+ * Values declared as {@code int.class}, {@code long.class} or {@code double.class} are packed into a {@code long[]},
+ * the other values are stored in an {@code Object[]} that only holds the references. The types of the values are
+ * checked when the tuple is created so they do not need to be checked when they are read.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class NTupleSchema {
+    /**
+     * The kind of a value stored in the {@code Object[]}.
+     */
+    /*package*/ static final byte REFERENCE = 0;
+    /**
+     * The kind of an {@code int} value packed into the {@code long[]}.
+     */
+    /*package*/ static final byte INT = 1;
+    /**
+     * The kind of a {@code long} value stored in the {@code long[]}.
+     */
+    /*package*/ static final byte LONG = 2;
+    /**
+     * The kind of a {@code double} value packed into the {@code long[]} as its bits.
+     */
+    /*package*/ static final byte DOUBLE = 3;
+    private final Class<?>[] types;
+    private final byte[] kinds;
+    private final int[] slots;
+    private final int primitiveCount;
+    private final int referenceCount;
+
+    private NTupleSchema(Class<?>[] types) {
+        this.types = types;
+        kinds = new byte[types.length];
+        slots = new int[types.length];
+        int primitives = 0;
+        int references = 0;
+        for (int i = 0; i < types.length; i++) {
+            kinds[i] = kind(requireNonNull(types[i]));
+            slots[i] = kinds[i] == REFERENCE ? references++ : primitives++;
+        }
+        primitiveCount = primitives;
+        referenceCount = references;
+    }
+
+    /**
+     * @return the arity of the tuples
+     */
+    public int arity() {
+        return types.length;
+    }
+
+    /**
+     * @return the type of value {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Class<?> type(int i) {
+        return types[i];
+    }
+
+    /**
+     * Create a tuple from the values. Values of primitive types must be boxed values of that type.
+     *
+     * @param values the values
+     * @return a new tuple
+     * @throws IllegalArgumentException if the number of values is not the arity
+     * @throws ClassCastException if a value is not of the declared type
+     * @throws NullPointerException if a value of a primitive type is null
+     */
+    public TypedNTuple create(Object... values) {
+        if (values.length != types.length) {
+            throw new IllegalArgumentException("Expected arity " + types.length + " not " + values.length);
+        }
+        final Builder builder = builder();
+        for (int i = 0; i < values.length; i++) {
+            builder.set(i, values[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create a tuple from the values of an n-tuple.
+     *
+     * @throws IllegalArgumentException if the arity of the n-tuple is wrong
+     * @throws ClassCastException if a value is not of the declared type
+     * @throws NullPointerException if a value of a primitive type is null
+     */
+    public TypedNTuple create(NTuple tuple) {
+        return create(tuple.values());
+    }
+
+    /**
+     * @return a builder of tuples, primitive values default to zero and references to null
+     */
+    public Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the kind of storage of value {@code i}
+     */
+    /*package*/ byte kind(int i) {
+        return kinds[i];
+    }
+
+    /**
+     * @return the index in the storage of its kind of value {@code i}
+     */
+    /*package*/ int slot(int i) {
+        return slots[i];
+    }
+
+    /**
+     * @return the index of the primitive slot of value {@code i}
+     * @throws ClassCastException if value {@code i} is not of the kind
+     */
+    /*package*/ int primitiveSlot(int i, byte kind) {
+        if (kinds[i] != kind) {
+            throw new ClassCastException("Value " + i + " is a " + types[i].getName());
+        }
+        return slots[i];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final NTupleSchema schema = (NTupleSchema) o;
+        return Arrays.equals(types, schema.types);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(types);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(types);
+    }
+
+    /**
+     * @param types the type of each value
+     * @return a new schema
+     * @throws IllegalArgumentException if a primitive type other than {@code int}, {@code long} or {@code double} is
+     * used
+     * @throws NullPointerException if a type is null
+     */
+    public static NTupleSchema of(Class<?>... types) {
+        return new NTupleSchema(Arrays.copyOf(types, types.length));
+    }
+
+    private static byte kind(Class<?> type) {
+        if (type == int.class) {
+            return INT;
+        }
+        else if (type == long.class) {
+            return LONG;
+        }
+        else if (type == double.class) {
+            return DOUBLE;
+        }
+        else if (type.isPrimitive()) {
+            throw new IllegalArgumentException("Unsupported primitive type " + type);
+        }
+        else {
+            return REFERENCE;
+        }
+    }
+
+    /**
+     * Builder of tuples of the schema. Values are checked as they are set.
+     */
+    @NotThreadSafe
+    public final class Builder {
+        private long[] primitives = new long[primitiveCount];
+        private Object[] references = new Object[referenceCount];
+        private boolean shared;
+
+        private Builder() {
+        }
+
+        /**
+         * Set value {@code i}.
+         *
+         * @return this builder
+         * @throws ClassCastException if the value is not of the declared type
+         * @throws NullPointerException if value {@code i} is primitive and the value is null
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Builder set(int i, Object value) {
+            switch (kinds[i]) {
+                case INT:
+                    return setInt(i, (Integer) requireNonNull(value));
+                case LONG:
+                    return setLong(i, (Long) requireNonNull(value));
+                case DOUBLE:
+                    return setDouble(i, (Double) requireNonNull(value));
+                default:
+                    final Object reference = types[i].cast(value);
+                    unshare();
+                    references[slots[i]] = reference;
+                    return this;
+            }
+        }
+
+        /**
+         * Set value {@code i}.
+         *
+         * @return this builder
+         * @throws ClassCastException if value {@code i} is not an {@code int}
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Builder setInt(int i, int value) {
+            final int slot = primitiveSlot(i, INT);
+            unshare();
+            primitives[slot] = value;
+            return this;
+        }
+
+        /**
+         * Set value {@code i}.
+         *
+         * @return this builder
+         * @throws ClassCastException if value {@code i} is not a {@code long}
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Builder setLong(int i, long value) {
+            final int slot = primitiveSlot(i, LONG);
+            unshare();
+            primitives[slot] = value;
+            return this;
+        }
+
+        /**
+         * Set value {@code i}.
+         *
+         * @return this builder
+         * @throws ClassCastException if value {@code i} is not a {@code double}
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Builder setDouble(int i, double value) {
+            final int slot = primitiveSlot(i, DOUBLE);
+            unshare();
+            primitives[slot] = Double.doubleToLongBits(value);
+            return this;
+        }
+
+        /**
+         * Create the tuple. The builder can continue to be used.
+         *
+         * @return a new tuple
+         */
+        public TypedNTuple build() {
+            shared = true;
+            return new TypedNTuple(NTupleSchema.this, primitives, references);
+        }
+
+        /**
+         * Copy the arrays if they are shared with a tuple that has been built.
+         */
+        private void unshare() {
+            if (shared) {
+                primitives = primitives.clone();
+                references = references.clone();
+                shared = false;
+            }
+        }
+    }
+}
@@ -18,7 +18,7 @@ import java.util.function.Function;
  * @author Matt Champion 19/04/2018
  */
 @Immutable
-public final class Pair<T0, T1> implements V0<T0>, V1<T1> {
+public final class Pair<T0, T1> extends Tuple implements V0<T0>, V1<T1> {
     private final T0 v0;
     private final T1 v1;
 
@@ -92,6 +92,32 @@ public final class Pair<T0, T1> implements V0<T0>, V1<T1> {
         return new Pair<>(function0.apply(v0), function1.apply(v1));
     }
 
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public Object get(int i) {
+        return Objects.checkIndex(i, 2) == 0 ? v0 : v1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return new Object[] {v0, v1};
+    }
+
+    @Override
+    public void forEach(Consumer<Object> consumer) {
+        consumer.accept(v0);
+        consumer.accept(v1);
+    }
+
+    @Override
+    public NTuple toNTuple() {
+        return NTuple.wrap(toArray());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -108,7 +134,7 @@ public final class Pair<T0, T1> implements V0<T0>, V1<T1> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(v0, v1);
+        return TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1));
     }
 
     @Override
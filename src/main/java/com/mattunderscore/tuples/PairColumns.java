@@ -0,0 +1,349 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A collection of 2-tuples that stores each value in its own column.
+ * <p>
+ * Values declared as {@code int.class}, {@code long.class} or {@code double.class} are stored in primitive arrays.
+ * The pairs are only created when they are accessed through {@link #get(int)} or {@link #stream()}. The
+ * {@link Cursor} provides access to the values without creating them.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class PairColumns<T0, T1> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private final Column<T0> column0;
+    private final Column<T1> column1;
+    private int capacity;
+    private int size;
+
+    private PairColumns(Class<T0> type0, Class<T1> type1, int capacity) {
+        column0 = Column.create(requireNonNull(type0), capacity);
+        column1 = Column.create(requireNonNull(type1), capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the number of pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return if there are no pairs
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add a pair.
+     *
+     * @param v0 value 0
+     * @param v1 value 1
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void add(T0 v0, T1 v1) {
+        ensureCapacity(size + 1);
+        column0.set(size, v0);
+        column1.set(size, v1);
+        size++;
+    }
+
+    /**
+     * Add a pair.
+     *
+     * @param pair the pair
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void add(Pair<? extends T0, ? extends T1> pair) {
+        add(pair.v0(), pair.v1());
+    }
+
+    /**
+     * Add all of the pairs.
+     *
+     * @param pairs the pairs
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void addAll(Iterable<? extends Pair<? extends T0, ? extends T1>> pairs) {
+        for (final Pair<? extends T0, ? extends T1> pair : pairs) {
+            add(pair);
+        }
+    }
+
+    /**
+     * Add all of the pairs from other columns.
+     *
+     * @param other the other columns
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void addAll(PairColumns<? extends T0, ? extends T1> other) {
+        ensureCapacity(size + other.size);
+        for (int i = 0; i < other.size; i++) {
+            column0.set(size + i, other.column0.get(i));
+            column1.set(size + i, other.column1.get(i));
+        }
+        size += other.size;
+    }
+
+    /**
+     * Create the pair at index {@code i}.
+     *
+     * @param i the index
+     * @return a new pair
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Pair<T0, T1> get(int i) {
+        checkIndex(i, size);
+        return new Pair<>(column0.get(i), column1.get(i));
+    }
+
+    /**
+     * @return value 0 at index {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T0 v0(int i) {
+        checkIndex(i, size);
+        return column0.get(i);
+    }
+
+    /**
+     * @return value 1 at index {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T1 v1(int i) {
+        checkIndex(i, size);
+        return column1.get(i);
+    }
+
+    /**
+     * Sort the pairs by value 0 then value 1.
+     *
+     * @throws ClassCastException if any value is not stored in a primitive column
+     */
+    public void sort() {
+        reorder(TupleSort.order(column0.key(size), column1.key(size)));
+    }
+
+    /**
+     * Sort the pairs by value 0 then value 1 in parallel.
+     *
+     * @throws ClassCastException if any value is not stored in a primitive column
+     */
+    public void parallelSort() {
+        reorder(TupleSort.parallelOrder(column0.key(size), column1.key(size)));
+    }
+
+    /**
+     * Reorder the pairs so the pair at index {@code i} is the one that was at index {@code order[i]}.
+     *
+     * @param order a permutation of the indices
+     * @throws IllegalArgumentException if the order is not a permutation of the indices
+     */
+    public void reorder(int[] order) {
+        TupleSort.checkPermutation(order, size);
+        column0.reorder(order);
+        column1.reorder(order);
+    }
+
+    /**
+     * Remove all of the pairs.
+     */
+    public void clear() {
+        column0.clear(size);
+        column1.clear(size);
+        size = 0;
+    }
+
+    /**
+     * @return a cursor positioned before the first pair
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * @return a sequential stream of new pairs
+     */
+    public Stream<Pair<T0, T1>> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > capacity) {
+            final int newCapacity = Math.max(required, capacity * 2);
+            column0.resize(newCapacity);
+            column1.resize(newCapacity);
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * @return new empty columns
+     * @throws NullPointerException if any type is null
+     */
+    public static <T0, T1> PairColumns<T0, T1> create(Class<T0> type0, Class<T1> type1) {
+        return new PairColumns<>(type0, type1, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new empty columns with an initial capacity
+     * @throws NullPointerException if any type is null
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static <T0, T1> PairColumns<T0, T1> create(Class<T0> type0, Class<T1> type1, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + capacity);
+        }
+        return new PairColumns<>(type0, type1, capacity);
+    }
+
+    /**
+     * A flyweight view of the pair at the current position.
+     * <p>
+     * The view is only valid until the columns are modified.
+     */
+    public final class Cursor implements V0<T0>, V1<T1> {
+        private int index = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Advance to the next pair.
+         *
+         * @return false if there are no more pairs
+         */
+        public boolean next() {
+            if (index + 1 < size) {
+                index++;
+                return true;
+            }
+            else {
+                return false;
+            }
+        }
+
+        /**
+         * Move to the pair at index {@code i}.
+         *
+         * @param i the index
+         * @return this cursor
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Cursor moveTo(int i) {
+            index = checkIndex(i, size);
+            return this;
+        }
+
+        /**
+         * @return the current index
+         */
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public T0 v0() {
+            return column0.get(index);
+        }
+
+        @Override
+        public void acceptV0(Consumer<? super T0> consumer) {
+            consumer.accept(v0());
+        }
+
+        @Override
+        public <U> U applyV0(Function<? super T0, U> function) {
+            return function.apply(v0());
+        }
+
+        /**
+         * @return value 0 as an {@code int} without boxing
+         * @throws ClassCastException if value 0 is not an {@code int}
+         */
+        public int intV0() {
+            return column0.getInt(index);
+        }
+
+        /**
+         * @return value 0 as a {@code long} without boxing
+         * @throws ClassCastException if value 0 is not a {@code long}
+         */
+        public long longV0() {
+            return column0.getLong(index);
+        }
+
+        /**
+         * @return value 0 as a {@code double} without boxing
+         * @throws ClassCastException if value 0 is not a {@code double}
+         */
+        public double doubleV0() {
+            return column0.getDouble(index);
+        }
+
+        @Override
+        public T1 v1() {
+            return column1.get(index);
+        }
+
+        @Override
+        public void acceptV1(Consumer<? super T1> consumer) {
+            consumer.accept(v1());
+        }
+
+        @Override
+        public <U> U applyV1(Function<? super T1, U> function) {
+            return function.apply(v1());
+        }
+
+        /**
+         * @return value 1 as an {@code int} without boxing
+         * @throws ClassCastException if value 1 is not an {@code int}
+         */
+        public int intV1() {
+            return column1.getInt(index);
+        }
+
+        /**
+         * @return value 1 as a {@code long} without boxing
+         * @throws ClassCastException if value 1 is not a {@code long}
+         */
+        public long longV1() {
+            return column1.getLong(index);
+        }
+
+        /**
+         * @return value 1 as a {@code double} without boxing
+         * @throws ClassCastException if value 1 is not a {@code double}
+         */
+        public double doubleV1() {
+            return column1.getDouble(index);
+        }
+
+        /**
+         * @return a new pair of the current values
+         */
+        public Pair<T0, T1> toPair() {
+            return new Pair<>(v0(), v1());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A 2-tuple optimised for use as a hash key.
+ * <p>
+ * The hash code is computed on first use and cached. It is equal to the hash code of the {@link Pair} with
+ * the same values. Equality is short-circuited when the cached hash codes of both keys differ. The values
+ * should not be mutated while the key is in use.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class PairKey<T0, T1> implements V0<T0>, V1<T1> {
+    private final T0 v0;
+    private final T1 v1;
+
+    /**
+     * The cached hash code or zero if it has not been computed. Benign data race, as with {@link String}.
+     */
+    private int hash;
+
+    /*package*/ PairKey(T0 v0, T1 v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0;
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0);
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new key.
+     *
+     * @param function function to apply to value 0
+     * @param <U> the new type of value 0
+     * @return the new key
+     */
+    public <U> PairKey<U, T1> mapV0(Function<? super T0, U> function) {
+        return new PairKey<>(function.apply(v0), v1);
+    }
+
+    @Override
+    public T1 v1() {
+        return v1;
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1);
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new key.
+     *
+     * @param function function to apply to value 1
+     * @param <U> the new type of value 1
+     * @return the new key
+     */
+    public <U> PairKey<T0, U> mapV1(Function<? super T1, U> function) {
+        return new PairKey<>(v0, function.apply(v1));
+    }
+
+    /**
+     * Map all values to new key.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param <U0> the new type of value 0
+     * @param <U1> the new type of value 1
+     * @return the new key
+     */
+    public <U0, U1> PairKey<U0, U1> map(Function<? super T0, U0> function0, Function<? super T1, U1> function1) {
+        return new PairKey<>(function0.apply(v0), function1.apply(v1));
+    }
+
+    /**
+     * @return a {@link Pair} of the values
+     */
+    public Pair<T0, T1> toPair() {
+        return new Pair<>(v0, v1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final PairKey<?, ?> key = (PairKey<?, ?>) o;
+        if (hash != 0 && key.hash != 0 && hash != key.hash) {
+            return false;
+        }
+        return Objects.equals(v0, key.v0) && Objects.equals(v1, key.v1);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1));
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + "]";
+    }
+
+    /**
+     * @return a new key
+     */
+    public static <T0, T1, U0 extends T0, U1 extends T1> PairKey<T0, T1> of(U0 v0, U1 v1) {
+        return new PairKey<>(v0, v1);
+    }
+
+    /**
+     * Create a key from a {@link Pair}.
+     *
+     * @param pair the pair
+     * @return a new key
+     */
+    public static <T0, T1> PairKey<T0, T1> from(Pair<? extends T0, ? extends T1> pair) {
+        return new PairKey<>(pair.v0(), pair.v1());
+    }
+}
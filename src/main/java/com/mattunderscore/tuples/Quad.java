@@ -10,8 +10,6 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-import static java.util.function.Function.identity;
-
 /**
  * A 4-tuple.
  *
@@ -22,7 +20,7 @@ import static java.util.function.Function.identity;
  * @author Matt Champion 21/04/2018
  */
 @Immutable
-public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3> {
+public final class Quad<T0, T1, T2, T3> extends Tuple implements V0<T0>, V1<T1>, V2<T2>, V3<T3> {
     private final T0 v0;
     private final T1 v1;
     private final T2 v2;
@@ -58,7 +56,7 @@ public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3
      * @return the new quad
      */
     public <U> Quad<U, T1, T2, T3> mapV0(Function<? super T0, U> function) {
-        return map(function, identity(), identity(), identity());
+        return new Quad<>(function.apply(v0), v1, v2, v3);
     }
 
     @Override
@@ -84,7 +82,7 @@ public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3
      * @return the new quad
      */
     public <U> Quad<T0, U, T2, T3> mapV1(Function<? super T1, U> function) {
-        return map(identity(), function, identity(), identity());
+        return new Quad<>(v0, function.apply(v1), v2, v3);
     }
 
     @Override
@@ -110,7 +108,7 @@ public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3
      * @return the new quad
      */
     public <U> Quad<T0, T1, U, T3> mapV2(Function<? super T2, U> function) {
-        return map(identity(), identity(), function, identity());
+        return new Quad<>(v0, v1, function.apply(v2), v3);
     }
 
     @Override
@@ -136,7 +134,7 @@ public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3
      * @return the new quad
      */
     public <U> Quad<T0, T1, T2, U> mapV3(Function<? super T3, U> function) {
-        return map(identity(), identity(), identity(), function);
+        return new Quad<>(v0, v1, v2, function.apply(v3));
     }
 
     /**
@@ -160,6 +158,43 @@ public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3
         return new Quad<>(function0.apply(v0), function1.apply(v1), function2.apply(v2), function3.apply(v3));
     }
 
+    @Override
+    public int arity() {
+        return 4;
+    }
+
+    @Override
+    public Object get(int i) {
+        switch (Objects.checkIndex(i, 4)) {
+            case 0:
+                return v0;
+            case 1:
+                return v1;
+            case 2:
+                return v2;
+            default:
+                return v3;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return new Object[] {v0, v1, v2, v3};
+    }
+
+    @Override
+    public void forEach(Consumer<Object> consumer) {
+        consumer.accept(v0);
+        consumer.accept(v1);
+        consumer.accept(v2);
+        consumer.accept(v3);
+    }
+
+    @Override
+    public NTuple toNTuple() {
+        return NTuple.wrap(toArray());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -178,7 +213,7 @@ public final class Quad<T0, T1, T2, T3> implements V0<T0>, V1<T1>, V2<T2>, V3<T3
 
     @Override
     public int hashCode() {
-        return Objects.hash(v0, v1, v2, v3);
+        return TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1), Objects.hashCode(v2), Objects.hashCode(v3));
     }
 
     @Override
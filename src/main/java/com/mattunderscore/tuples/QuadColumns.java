@@ -0,0 +1,472 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A collection of 4-tuples that stores each value in its own column.
+ * <p>
+ * Values declared as {@code int.class}, {@code long.class} or {@code double.class} are stored in primitive arrays.
+ * The quads are only created when they are accessed through {@link #get(int)} or {@link #stream()}. The
+ * {@link Cursor} provides access to the values without creating them.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @param <T3> the type of value 3
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class QuadColumns<T0, T1, T2, T3> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private final Column<T0> column0;
+    private final Column<T1> column1;
+    private final Column<T2> column2;
+    private final Column<T3> column3;
+    private int capacity;
+    private int size;
+
+    private QuadColumns(Class<T0> type0, Class<T1> type1, Class<T2> type2, Class<T3> type3, int capacity) {
+        column0 = Column.create(requireNonNull(type0), capacity);
+        column1 = Column.create(requireNonNull(type1), capacity);
+        column2 = Column.create(requireNonNull(type2), capacity);
+        column3 = Column.create(requireNonNull(type3), capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the number of quads
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return if there are no quads
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add a quad.
+     *
+     * @param v0 value 0
+     * @param v1 value 1
+     * @param v2 value 2
+     * @param v3 value 3
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void add(T0 v0, T1 v1, T2 v2, T3 v3) {
+        ensureCapacity(size + 1);
+        column0.set(size, v0);
+        column1.set(size, v1);
+        column2.set(size, v2);
+        column3.set(size, v3);
+        size++;
+    }
+
+    /**
+     * Add a quad.
+     *
+     * @param quad the quad
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void add(Quad<? extends T0, ? extends T1, ? extends T2, ? extends T3> quad) {
+        add(quad.v0(), quad.v1(), quad.v2(), quad.v3());
+    }
+
+    /**
+     * Add all of the quads.
+     *
+     * @param quads the quads
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void addAll(Iterable<? extends Quad<? extends T0, ? extends T1, ? extends T2, ? extends T3>> quads) {
+        for (final Quad<? extends T0, ? extends T1, ? extends T2, ? extends T3> quad : quads) {
+            add(quad);
+        }
+    }
+
+    /**
+     * Add all of the quads from other columns.
+     *
+     * @param other the other columns
+     * @throws NullPointerException if a primitive value is null
+     */
+    public void addAll(QuadColumns<? extends T0, ? extends T1, ? extends T2, ? extends T3> other) {
+        ensureCapacity(size + other.size);
+        for (int i = 0; i < other.size; i++) {
+            column0.set(size + i, other.column0.get(i));
+            column1.set(size + i, other.column1.get(i));
+            column2.set(size + i, other.column2.get(i));
+            column3.set(size + i, other.column3.get(i));
+        }
+        size += other.size;
+    }
+
+    /**
+     * Create the quad at index {@code i}.
+     *
+     * @param i the index
+     * @return a new quad
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Quad<T0, T1, T2, T3> get(int i) {
+        checkIndex(i, size);
+        return new Quad<>(column0.get(i), column1.get(i), column2.get(i), column3.get(i));
+    }
+
+    /**
+     * @return value 0 at index {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T0 v0(int i) {
+        checkIndex(i, size);
+        return column0.get(i);
+    }
+
+    /**
+     * @return value 1 at index {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T1 v1(int i) {
+        checkIndex(i, size);
+        return column1.get(i);
+    }
+
+    /**
+     * @return value 2 at index {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T2 v2(int i) {
+        checkIndex(i, size);
+        return column2.get(i);
+    }
+
+    /**
+     * @return value 3 at index {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T3 v3(int i) {
+        checkIndex(i, size);
+        return column3.get(i);
+    }
+
+    /**
+     * Sort the quads by value 0 then value 1 then value 2 then value 3.
+     *
+     * @throws ClassCastException if any value is not stored in a primitive column
+     */
+    public void sort() {
+        reorder(TupleSort.order(column0.key(size), column1.key(size), column2.key(size), column3.key(size)));
+    }
+
+    /**
+     * Sort the quads by value 0 then value 1 then value 2 then value 3 in parallel.
+     *
+     * @throws ClassCastException if any value is not stored in a primitive column
+     */
+    public void parallelSort() {
+        reorder(TupleSort.parallelOrder(column0.key(size), column1.key(size), column2.key(size), column3.key(size)));
+    }
+
+    /**
+     * Reorder the quads so the quad at index {@code i} is the one that was at index {@code order[i]}.
+     *
+     * @param order a permutation of the indices
+     * @throws IllegalArgumentException if the order is not a permutation of the indices
+     */
+    public void reorder(int[] order) {
+        TupleSort.checkPermutation(order, size);
+        column0.reorder(order);
+        column1.reorder(order);
+        column2.reorder(order);
+        column3.reorder(order);
+    }
+
+    /**
+     * Remove all of the quads.
+     */
+    public void clear() {
+        column0.clear(size);
+        column1.clear(size);
+        column2.clear(size);
+        column3.clear(size);
+        size = 0;
+    }
+
+    /**
+     * @return a cursor positioned before the first quad
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * @return a sequential stream of new quads
+     */
+    public Stream<Quad<T0, T1, T2, T3>> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > capacity) {
+            final int newCapacity = Math.max(required, capacity * 2);
+            column0.resize(newCapacity);
+            column1.resize(newCapacity);
+            column2.resize(newCapacity);
+            column3.resize(newCapacity);
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * @return new empty columns
+     * @throws NullPointerException if any type is null
+     */
+    public static <T0, T1, T2, T3> QuadColumns<T0, T1, T2, T3> create(
+            Class<T0> type0,
+            Class<T1> type1,
+            Class<T2> type2,
+            Class<T3> type3) {
+        return new QuadColumns<>(type0, type1, type2, type3, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new empty columns with an initial capacity
+     * @throws NullPointerException if any type is null
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static <T0, T1, T2, T3> QuadColumns<T0, T1, T2, T3> create(
+            Class<T0> type0,
+            Class<T1> type1,
+            Class<T2> type2,
+            Class<T3> type3,
+            int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + capacity);
+        }
+        return new QuadColumns<>(type0, type1, type2, type3, capacity);
+    }
+
+    /**
+     * A flyweight view of the quad at the current position.
+     * <p>
+     * The view is only valid until the columns are modified.
+     */
+    public final class Cursor implements V0<T0>, V1<T1>, V2<T2>, V3<T3> {
+        private int index = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Advance to the next quad.
+         *
+         * @return false if there are no more quads
+         */
+        public boolean next() {
+            if (index + 1 < size) {
+                index++;
+                return true;
+            }
+            else {
+                return false;
+            }
+        }
+
+        /**
+         * Move to the quad at index {@code i}.
+         *
+         * @param i the index
+         * @return this cursor
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Cursor moveTo(int i) {
+            index = checkIndex(i, size);
+            return this;
+        }
+
+        /**
+         * @return the current index
+         */
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public T0 v0() {
+            return column0.get(index);
+        }
+
+        @Override
+        public void acceptV0(Consumer<? super T0> consumer) {
+            consumer.accept(v0());
+        }
+
+        @Override
+        public <U> U applyV0(Function<? super T0, U> function) {
+            return function.apply(v0());
+        }
+
+        /**
+         * @return value 0 as an {@code int} without boxing
+         * @throws ClassCastException if value 0 is not an {@code int}
+         */
+        public int intV0() {
+            return column0.getInt(index);
+        }
+
+        /**
+         * @return value 0 as a {@code long} without boxing
+         * @throws ClassCastException if value 0 is not a {@code long}
+         */
+        public long longV0() {
+            return column0.getLong(index);
+        }
+
+        /**
+         * @return value 0 as a {@code double} without boxing
+         * @throws ClassCastException if value 0 is not a {@code double}
+         */
+        public double doubleV0() {
+            return column0.getDouble(index);
+        }
+
+        @Override
+        public T1 v1() {
+            return column1.get(index);
+        }
+
+        @Override
+        public void acceptV1(Consumer<? super T1> consumer) {
+            consumer.accept(v1());
+        }
+
+        @Override
+        public <U> U applyV1(Function<? super T1, U> function) {
+            return function.apply(v1());
+        }
+
+        /**
+         * @return value 1 as an {@code int} without boxing
+         * @throws ClassCastException if value 1 is not an {@code int}
+         */
+        public int intV1() {
+            return column1.getInt(index);
+        }
+
+        /**
+         * @return value 1 as a {@code long} without boxing
+         * @throws ClassCastException if value 1 is not a {@code long}
+         */
+        public long longV1() {
+            return column1.getLong(index);
+        }
+
+        /**
+         * @return value 1 as a {@code double} without boxing
+         * @throws ClassCastException if value 1 is not a {@code double}
+         */
+        public double doubleV1() {
+            return column1.getDouble(index);
+        }
+
+        @Override
+        public T2 v2() {
+            return column2.get(index);
+        }
+
+        @Override
+        public void acceptV2(Consumer<? super T2> consumer) {
+            consumer.accept(v2());
+        }
+
+        @Override
+        public <U> U applyV2(Function<? super T2, U> function) {
+            return function.apply(v2());
+        }
+
+        /**
+         * @return value 2 as an {@code int} without boxing
+         * @throws ClassCastException if value 2 is not an {@code int}
+         */
+        public int intV2() {
+            return column2.getInt(index);
+        }
+
+        /**
+         * @return value 2 as a {@code long} without boxing
+         * @throws ClassCastException if value 2 is not a {@code long}
+         */
+        public long longV2() {
+            return column2.getLong(index);
+        }
+
+        /**
+         * @return value 2 as a {@code double} without boxing
+         * @throws ClassCastException if value 2 is not a {@code double}
+         */
+        public double doubleV2() {
+            return column2.getDouble(index);
+        }
+
+        @Override
+        public T3 v3() {
+            return column3.get(index);
+        }
+
+        @Override
+        public void acceptV3(Consumer<? super T3> consumer) {
+            consumer.accept(v3());
+        }
+
+        @Override
+        public <U> U applyV3(Function<? super T3, U> function) {
+            return function.apply(v3());
+        }
+
+        /**
+         * @return value 3 as an {@code int} without boxing
+         * @throws ClassCastException if value 3 is not an {@code int}
+         */
+        public int intV3() {
+            return column3.getInt(index);
+        }
+
+        /**
+         * @return value 3 as a {@code long} without boxing
+         * @throws ClassCastException if value 3 is not a {@code long}
+         */
+        public long longV3() {
+            return column3.getLong(index);
+        }
+
+        /**
+         * @return value 3 as a {@code double} without boxing
+         * @throws ClassCastException if value 3 is not a {@code double}
+         */
+        public double doubleV3() {
+            return column3.getDouble(index);
+        }
+
+        /**
+         * @return a new quad of the current values
+         */
+        public Quad<T0, T1, T2, T3> toQuad() {
+            return new Quad<>(v0(), v1(), v2(), v3());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+/**
+ * A function of four values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @param <T3> the type of value 3
+ * @param <R> the type of result
+ * @author Matt Champion 18/10/2026
+ */
+@FunctionalInterface
+public interface QuadFunction<T0, T1, T2, T3, R> {
+    /**
+     * Apply the function.
+     *
+     * @return the result
+     */
+    R apply(T0 v0, T1 v1, T2 v2, T3 v3);
+}
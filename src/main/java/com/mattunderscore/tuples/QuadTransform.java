@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.Function;
+
+/**
+ * A transformation of quads that applies the functions of each value in a single pass.
+ * <p>
+ * Only the mapped values have functions applied and only one quad is created. If every value is the same instance
+ * after the transformation the original quad is returned.
+ *
+ * @param <T0> the type of value 0 of the input
+ * @param <T1> the type of value 1 of the input
+ * @param <T2> the type of value 2 of the input
+ * @param <T3> the type of value 3 of the input
+ * @param <U0> the type of value 0 of the output
+ * @param <U1> the type of value 1 of the output
+ * @param <U2> the type of value 2 of the output
+ * @param <U3> the type of value 3 of the output
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class QuadTransform<T0, T1, T2, T3, U0, U1, U2, U3> implements Function<Quad<T0, T1, T2, T3>, Quad<U0, U1, U2, U3>> {
+    private final Function<Object, Object> function0;
+    private final Function<Object, Object> function1;
+    private final Function<Object, Object> function2;
+    private final Function<Object, Object> function3;
+
+    private QuadTransform(
+            Function<Object, Object> function0,
+            Function<Object, Object> function1,
+            Function<Object, Object> function2,
+            Function<Object, Object> function3) {
+        this.function0 = function0;
+        this.function1 = function1;
+        this.function2 = function2;
+        this.function3 = function3;
+    }
+
+    /**
+     * Map value 0 after any function already applied to it.
+     *
+     * @param function function to apply to value 0
+     * @param <V> the new type of value 0
+     * @return a new transform
+     */
+    public <V> QuadTransform<T0, T1, T2, T3, V, U1, U2, U3> mapV0(Function<? super U0, V> function) {
+        return new QuadTransform<>(compose(function0, function), function1, function2, function3);
+    }
+
+    /**
+     * Map value 1 after any function already applied to it.
+     *
+     * @param function function to apply to value 1
+     * @param <V> the new type of value 1
+     * @return a new transform
+     */
+    public <V> QuadTransform<T0, T1, T2, T3, U0, V, U2, U3> mapV1(Function<? super U1, V> function) {
+        return new QuadTransform<>(function0, compose(function1, function), function2, function3);
+    }
+
+    /**
+     * Map value 2 after any function already applied to it.
+     *
+     * @param function function to apply to value 2
+     * @param <V> the new type of value 2
+     * @return a new transform
+     */
+    public <V> QuadTransform<T0, T1, T2, T3, U0, U1, V, U3> mapV2(Function<? super U2, V> function) {
+        return new QuadTransform<>(function0, function1, compose(function2, function), function3);
+    }
+
+    /**
+     * Map value 3 after any function already applied to it.
+     *
+     * @param function function to apply to value 3
+     * @param <V> the new type of value 3
+     * @return a new transform
+     */
+    public <V> QuadTransform<T0, T1, T2, T3, U0, U1, U2, V> mapV3(Function<? super U3, V> function) {
+        return new QuadTransform<>(function0, function1, function2, compose(function3, function));
+    }
+
+    /**
+     * Transform a quad.
+     *
+     * @param quad the quad to transform
+     * @return the transformed quad or the quad if no value changed
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Quad<U0, U1, U2, U3> apply(Quad<T0, T1, T2, T3> quad) {
+        final Object v0 = function0 == null ? quad.v0() : function0.apply(quad.v0());
+        final Object v1 = function1 == null ? quad.v1() : function1.apply(quad.v1());
+        final Object v2 = function2 == null ? quad.v2() : function2.apply(quad.v2());
+        final Object v3 = function3 == null ? quad.v3() : function3.apply(quad.v3());
+        if (v0 == quad.v0() && v1 == quad.v1() && v2 == quad.v2() && v3 == quad.v3()) {
+            return (Quad<U0, U1, U2, U3>) (Quad<?, ?, ?, ?>) quad;
+        }
+        else {
+            return new Quad<>((U0) v0, (U1) v1, (U2) v2, (U3) v3);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> compose(Function<Object, Object> first, Function<?, ?> second) {
+        final Function<Object, Object> function = (Function<Object, Object>) second;
+        return first == null ? function : first.andThen(function);
+    }
+
+    /**
+     * @return a new transform that does not change any value
+     */
+    public static <T0, T1, T2, T3> QuadTransform<T0, T1, T2, T3, T0, T1, T2, T3> of() {
+        return new QuadTransform<>(null, null, null, null);
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Converts between a record and a tuple of its components.
+ * <p>
+ * The accessors and canonical constructor of the record are found once and adapted to functional interfaces by the
+ * {@link LambdaMetafactory}, so converting a record calls them directly. The lambdas are defined with a lookup that
+ * has private access to the record, records that are not open to this library need a lookup from their own module.
+ * <p>
+ * Records with one component convert to a {@link Container}, two to a {@link Pair}, three to a {@link Triple}, four to
+ * a {@link Quad}, five to sixteen to the tuples from {@link Quint} to {@link Sexdec} and any other number to a
+ * {@link NTuple}. The types of the values of tuples are checked when the record is constructed.
+ *
+ * @param <R> the type of record
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class RecordConverter<R> {
+    private final Class<R> type;
+    private final Function<Object, Object>[] accessors;
+    private final MethodHandle constructor;
+    private final Object factory;
+
+    private RecordConverter(Class<R> type, Function<Object, Object>[] accessors, MethodHandle constructor, Object factory) {
+        this.type = type;
+        this.accessors = accessors;
+        this.constructor = constructor;
+        this.factory = factory;
+    }
+
+    /**
+     * @return the number of components of the record
+     */
+    public int arity() {
+        return accessors.length;
+    }
+
+    /**
+     * @param record the record
+     * @return a tuple of the components of the record
+     */
+    public Tuple toTuple(R record) {
+        switch (accessors.length) {
+            case 1:
+                return new Container<>(accessors[0].apply(record));
+            case 2:
+                return new Pair<>(accessors[0].apply(record), accessors[1].apply(record));
+            case 3:
+                return new Triple<>(accessors[0].apply(record), accessors[1].apply(record), accessors[2].apply(record));
+            case 4:
+                return new Quad<>(
+                    accessors[0].apply(record),
+                    accessors[1].apply(record),
+                    accessors[2].apply(record),
+                    accessors[3].apply(record));
+            default:
+                final Object[] values = new Object[accessors.length];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = accessors[i].apply(record);
+                }
+                return GeneratedTuples.of(values);
+        }
+    }
+
+    /**
+     * @param tuple the tuple of components
+     * @return a new record
+     * @throws IllegalArgumentException if the arity of the tuple is not the number of components
+     * @throws ClassCastException if a value is not of the type of the component
+     * @throws NullPointerException if a value of a primitive component is null
+     */
+    public R fromTuple(Tuple tuple) {
+        checkArity(tuple.arity());
+        switch (accessors.length) {
+            case 1:
+                return this.<Object>containerFactory().apply(tuple.get(0));
+            case 2:
+                return this.<Object, Object>pairFactory().apply(tuple.get(0), tuple.get(1));
+            case 3:
+                return this.<Object, Object, Object>tripleFactory().apply(tuple.get(0), tuple.get(1), tuple.get(2));
+            case 4:
+                return this.<Object, Object, Object, Object>quadFactory()
+                    .apply(tuple.get(0), tuple.get(1), tuple.get(2), tuple.get(3));
+            default:
+                return construct(tuple.toArray());
+        }
+    }
+
+    /**
+     * @param <T0> the type of component 0
+     * @param <T1> the type of component 1
+     * @return a function from the record to a pair of its components
+     * @throws IllegalStateException if the record does not have two components
+     */
+    public <T0, T1> Function<R, Pair<T0, T1>> toPair() {
+        checkConversion(2);
+        final Function<Object, T0> accessor0 = accessor(0);
+        final Function<Object, T1> accessor1 = accessor(1);
+        return record -> new Pair<>(accessor0.apply(record), accessor1.apply(record));
+    }
+
+    /**
+     * @param <T0> the type of component 0
+     * @param <T1> the type of component 1
+     * @return a function from a pair to a new record
+     * @throws IllegalStateException if the record does not have two components
+     */
+    public <T0, T1> Function<Pair<? extends T0, ? extends T1>, R> fromPair() {
+        checkConversion(2);
+        final BiFunction<T0, T1, R> pairFactory = pairFactory();
+        return pair -> pairFactory.apply(pair.v0(), pair.v1());
+    }
+
+    /**
+     * @param <T0> the type of component 0
+     * @param <T1> the type of component 1
+     * @param <T2> the type of component 2
+     * @return a function from the record to a triple of its components
+     * @throws IllegalStateException if the record does not have three components
+     */
+    public <T0, T1, T2> Function<R, Triple<T0, T1, T2>> toTriple() {
+        checkConversion(3);
+        final Function<Object, T0> accessor0 = accessor(0);
+        final Function<Object, T1> accessor1 = accessor(1);
+        final Function<Object, T2> accessor2 = accessor(2);
+        return record -> new Triple<>(accessor0.apply(record), accessor1.apply(record), accessor2.apply(record));
+    }
+
+    /**
+     * @param <T0> the type of component 0
+     * @param <T1> the type of component 1
+     * @param <T2> the type of component 2
+     * @return a function from a triple to a new record
+     * @throws IllegalStateException if the record does not have three components
+     */
+    public <T0, T1, T2> Function<Triple<? extends T0, ? extends T1, ? extends T2>, R> fromTriple() {
+        checkConversion(3);
+        final TriFunction<T0, T1, T2, R> tripleFactory = tripleFactory();
+        return triple -> tripleFactory.apply(triple.v0(), triple.v1(), triple.v2());
+    }
+
+    /**
+     * @param <T0> the type of component 0
+     * @param <T1> the type of component 1
+     * @param <T2> the type of component 2
+     * @param <T3> the type of component 3
+     * @return a function from the record to a quad of its components
+     * @throws IllegalStateException if the record does not have four components
+     */
+    public <T0, T1, T2, T3> Function<R, Quad<T0, T1, T2, T3>> toQuad() {
+        checkConversion(4);
+        final Function<Object, T0> accessor0 = accessor(0);
+        final Function<Object, T1> accessor1 = accessor(1);
+        final Function<Object, T2> accessor2 = accessor(2);
+        final Function<Object, T3> accessor3 = accessor(3);
+        return record -> new Quad<>(
+            accessor0.apply(record),
+            accessor1.apply(record),
+            accessor2.apply(record),
+            accessor3.apply(record));
+    }
+
+    /**
+     * @param <T0> the type of component 0
+     * @param <T1> the type of component 1
+     * @param <T2> the type of component 2
+     * @param <T3> the type of component 3
+     * @return a function from a quad to a new record
+     * @throws IllegalStateException if the record does not have four components
+     */
+    public <T0, T1, T2, T3> Function<Quad<? extends T0, ? extends T1, ? extends T2, ? extends T3>, R> fromQuad() {
+        checkConversion(4);
+        final QuadFunction<T0, T1, T2, T3, R> quadFactory = quadFactory();
+        return quad -> quadFactory.apply(quad.v0(), quad.v1(), quad.v2(), quad.v3());
+    }
+
+    @Override
+    public String toString() {
+        return "RecordConverter[" + type.getName() + "]";
+    }
+
+    private void checkArity(int arity) {
+        if (arity != accessors.length) {
+            throw new IllegalArgumentException("Expected arity " + accessors.length + " not " + arity);
+        }
+    }
+
+    private void checkConversion(int arity) {
+        if (arity != accessors.length) {
+            throw new IllegalStateException(type.getName() + " has " + accessors.length + " components not " + arity);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Function<Object, T> accessor(int i) {
+        return (Function<Object, T>) (Function<?, ?>) accessors[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T0> Function<T0, R> containerFactory() {
+        return (Function<T0, R>) factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T0, T1> BiFunction<T0, T1, R> pairFactory() {
+        return (BiFunction<T0, T1, R>) factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T0, T1, T2> TriFunction<T0, T1, T2, R> tripleFactory() {
+        return (TriFunction<T0, T1, T2, R>) factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T0, T1, T2, T3> QuadFunction<T0, T1, T2, T3, R> quadFactory() {
+        return (QuadFunction<T0, T1, T2, T3, R>) factory;
+    }
+
+    /**
+     * Construct a record from an array of components.
+     */
+    private R construct(Object[] values) {
+        // CHECKSTYLE.OFF: IllegalCatch
+        try {
+            return type.cast(constructor.invokeWithArguments(values));
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable t) {
+            throw new IllegalStateException("Failed to construct " + type.getName(), t);
+        }
+        // CHECKSTYLE.ON: IllegalCatch
+    }
+
+    /**
+     * Find a lookup with private access to a record.
+     *
+     * @param caller a lookup with full access to the module of the record
+     * @param type the type of record
+     * @return a lookup in the record
+     * @throws IllegalArgumentException if the type is not a record or the caller cannot access its members
+     */
+    /*package*/ static MethodHandles.Lookup recordLookup(MethodHandles.Lookup caller, Class<?> type) {
+        final Class<?> superclass = type.getSuperclass();
+        if (superclass == null || !"java.lang.Record".equals(superclass.getName())) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+        try {
+            return MethodHandles.privateLookupIn(type, caller);
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                type.getName() + " is not open to " + caller.lookupClass().getModule() +
+                    ", pass a lookup from its module to TupleRecords.converter(Lookup, Class)",
+                e);
+        }
+    }
+
+    /**
+     * Create a converter for a record.
+     *
+     * @param lookup a lookup with private access to the record
+     * @param type the type of record
+     * @param <R> the type of record
+     * @return a new converter
+     * @throws IllegalArgumentException if the members of the record cannot be accessed
+     */
+    /*package*/ static <R> RecordConverter<R> create(MethodHandles.Lookup lookup, Class<R> type) {
+        try {
+            final Method[] accessorMethods = accessorMethods(type);
+            final Class<?>[] componentTypes = new Class<?>[accessorMethods.length];
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final Function<Object, Object>[] accessors = new Function[accessorMethods.length];
+            for (int i = 0; i < accessorMethods.length; i++) {
+                componentTypes[i] = accessorMethods[i].getReturnType();
+                accessors[i] = adapt(lookup, Function.class, lookup.unreflect(accessorMethods[i]));
+            }
+            final MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, componentTypes));
+            return new RecordConverter<>(type, accessors, constructor, factory(lookup, constructor));
+        }
+        catch (ReflectiveOperationException | LambdaConversionException e) {
+            throw new IllegalArgumentException("Failed to access the components of " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Find the accessors of the components of a record without depending on the reflection API added with records.
+     */
+    private static Method[] accessorMethods(Class<?> type) throws ReflectiveOperationException {
+        final Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+        final Method[] accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = (Method) components[i].getClass().getMethod("getAccessor").invoke(components[i]);
+        }
+        return accessors;
+    }
+
+    private static Object factory(MethodHandles.Lookup lookup, MethodHandle constructor) throws LambdaConversionException {
+        switch (constructor.type().parameterCount()) {
+            case 1:
+                return adapt(lookup, Function.class, constructor);
+            case 2:
+                return adapt(lookup, BiFunction.class, constructor);
+            case 3:
+                return adapt(lookup, TriFunction.class, constructor);
+            case 4:
+                return adapt(lookup, QuadFunction.class, constructor);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Adapt a method handle to a functional interface with an {@code apply} method of the same number of parameters.
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F adapt(
+            MethodHandles.Lookup lookup,
+            Class<? super F> functionalInterface,
+            MethodHandle handle) throws LambdaConversionException {
+        final CallSite site = LambdaMetafactory.metafactory(
+            lookup,
+            "apply",
+            MethodType.methodType(functionalInterface),
+            MethodType.genericMethodType(handle.type().parameterCount()),
+            handle,
+            handle.type().wrap());
+        return (F) invokeFactory(site.getTarget());
+    }
+
+    private static Object invokeFactory(MethodHandle factory) {
+        // CHECKSTYLE.OFF: IllegalCatch
+        try {
+            return factory.invoke();
+        }
+        catch (Throwable t) {
+            throw new IllegalStateException("Failed to create lambda", t);
+        }
+        // CHECKSTYLE.ON: IllegalCatch
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+/**
+ * The hash strategies provided by the library.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+/*package*/ enum StandardHashStrategy implements HashStrategy {
+    /**
+     * Multiply by 31 and add each hash code.
+     */
+    POLYNOMIAL {
+        @Override
+        public int seed() {
+            return 1;
+        }
+
+        @Override
+        public int combine(int hash, int valueHash) {
+            return 31 * hash + valueHash;
+        }
+
+        @Override
+        public int finish(int hash, int arity) {
+            return hash;
+        }
+    },
+    /**
+     * Mix each hash code as the tuples do.
+     */
+    MIXED {
+        @Override
+        public int seed() {
+            return TupleHash.SEED;
+        }
+
+        @Override
+        public int combine(int hash, int valueHash) {
+            return TupleHash.combine(hash, valueHash);
+        }
+
+        @Override
+        public int finish(int hash, int arity) {
+            return TupleHash.finish(hash, arity);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+/**
+ * A function of three values.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @param <R> the type of result
+ * @author Matt Champion 18/10/2026
+ */
+@FunctionalInterface
+public interface TriFunction<T0, T1, T2, R> {
+    /**
+     * Apply the function.
+     *
+     * @return the result
+     */
+    R apply(T0 v0, T1 v1, T2 v2);
+}
@@ -10,8 +10,6 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-import static java.util.function.Function.identity;
-
 /**
  * A 3-tuple.
  *
@@ -21,7 +19,7 @@ import static java.util.function.Function.identity;
  * @author Matt Champion 20/04/2018
  */
 @Immutable
-public final class Triple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
+public final class Triple<T0, T1, T2> extends Tuple implements V0<T0>, V1<T1>, V2<T2> {
     private final T0 v0;
     private final T1 v1;
     private final T2 v2;
@@ -55,7 +53,7 @@ public final class Triple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
      * @return the new triple
      */
     public <U> Triple<U, T1, T2> mapV0(Function<? super T0, U> function) {
-        return map(function, identity(), identity());
+        return new Triple<>(function.apply(v0), v1, v2);
     }
 
     @Override
@@ -81,7 +79,7 @@ public final class Triple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
      * @return the new triple
      */
     public <U> Triple<T0, U, T2> mapV1(Function<? super T1, U> function) {
-        return map(identity(), function, identity());
+        return new Triple<>(v0, function.apply(v1), v2);
     }
 
     @Override
@@ -107,7 +105,7 @@ public final class Triple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
      * @return the new triple
      */
     public <U> Triple<T0, T1, U> mapV2(Function<? super T2, U> function) {
-        return map(identity(), identity(), function);
+        return new Triple<>(v0, v1, function.apply(v2));
     }
 
     /**
@@ -128,6 +126,40 @@ public final class Triple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
         return new Triple<>(function0.apply(v0), function1.apply(v1), function2.apply(v2));
     }
 
+    @Override
+    public int arity() {
+        return 3;
+    }
+
+    @Override
+    public Object get(int i) {
+        switch (Objects.checkIndex(i, 3)) {
+            case 0:
+                return v0;
+            case 1:
+                return v1;
+            default:
+                return v2;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return new Object[] {v0, v1, v2};
+    }
+
+    @Override
+    public void forEach(Consumer<Object> consumer) {
+        consumer.accept(v0);
+        consumer.accept(v1);
+        consumer.accept(v2);
+    }
+
+    @Override
+    public NTuple toNTuple() {
+        return NTuple.wrap(toArray());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -143,7 +175,7 @@ public final class Triple<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(v0, v1, v2);
+        return TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1), Objects.hashCode(v2));
     }
 
     @Override
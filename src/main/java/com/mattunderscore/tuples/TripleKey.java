@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A 3-tuple optimised for use as a hash key.
+ * <p>
+ * The hash code is computed on first use and cached. It is equal to the hash code of the {@link Triple} with
+ * the same values. Equality is short-circuited when the cached hash codes of both keys differ. The values
+ * should not be mutated while the key is in use.
+ *
+ * @param <T0> the type of value 0
+ * @param <T1> the type of value 1
+ * @param <T2> the type of value 2
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class TripleKey<T0, T1, T2> implements V0<T0>, V1<T1>, V2<T2> {
+    private final T0 v0;
+    private final T1 v1;
+    private final T2 v2;
+
+    /**
+     * The cached hash code or zero if it has not been computed. Benign data race, as with {@link String}.
+     */
+    private int hash;
+
+    /*package*/ TripleKey(T0 v0, T1 v1, T2 v2) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    @Override
+    public T0 v0() {
+        return v0;
+    }
+
+    @Override
+    public void acceptV0(Consumer<? super T0> consumer) {
+        consumer.accept(v0);
+    }
+
+    @Override
+    public <U> U applyV0(Function<? super T0, U> function) {
+        return function.apply(v0);
+    }
+
+    /**
+     * Map value 0 to new key.
+     *
+     * @param function function to apply to value 0
+     * @param <U> the new type of value 0
+     * @return the new key
+     */
+    public <U> TripleKey<U, T1, T2> mapV0(Function<? super T0, U> function) {
+        return new TripleKey<>(function.apply(v0), v1, v2);
+    }
+
+    @Override
+    public T1 v1() {
+        return v1;
+    }
+
+    @Override
+    public void acceptV1(Consumer<? super T1> consumer) {
+        consumer.accept(v1);
+    }
+
+    @Override
+    public <U> U applyV1(Function<? super T1, U> function) {
+        return function.apply(v1);
+    }
+
+    /**
+     * Map value 1 to new key.
+     *
+     * @param function function to apply to value 1
+     * @param <U> the new type of value 1
+     * @return the new key
+     */
+    public <U> TripleKey<T0, U, T2> mapV1(Function<? super T1, U> function) {
+        return new TripleKey<>(v0, function.apply(v1), v2);
+    }
+
+    @Override
+    public T2 v2() {
+        return v2;
+    }
+
+    @Override
+    public void acceptV2(Consumer<? super T2> consumer) {
+        consumer.accept(v2);
+    }
+
+    @Override
+    public <U> U applyV2(Function<? super T2, U> function) {
+        return function.apply(v2);
+    }
+
+    /**
+     * Map value 2 to new key.
+     *
+     * @param function function to apply to value 2
+     * @param <U> the new type of value 2
+     * @return the new key
+     */
+    public <U> TripleKey<T0, T1, U> mapV2(Function<? super T2, U> function) {
+        return new TripleKey<>(v0, v1, function.apply(v2));
+    }
+
+    /**
+     * Map all values to new key.
+     *
+     * @param function0 function to apply to value 0
+     * @param function1 function to apply to value 1
+     * @param function2 function to apply to value 2
+     * @param <U0> the new type of value 0
+     * @param <U1> the new type of value 1
+     * @param <U2> the new type of value 2
+     * @return the new key
+     */
+    public <U0, U1, U2> TripleKey<U0, U1, U2> map(
+            Function<? super T0, U0> function0,
+            Function<? super T1, U1> function1,
+            Function<? super T2, U2> function2) {
+        return new TripleKey<>(function0.apply(v0), function1.apply(v1), function2.apply(v2));
+    }
+
+    /**
+     * @return a {@link Triple} of the values
+     */
+    public Triple<T0, T1, T2> toTriple() {
+        return new Triple<>(v0, v1, v2);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final TripleKey<?, ?, ?> key = (TripleKey<?, ?, ?>) o;
+        if (hash != 0 && key.hash != 0 && hash != key.hash) {
+            return false;
+        }
+        return Objects.equals(v0, key.v0) && Objects.equals(v1, key.v1) && Objects.equals(v2, key.v2);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1), Objects.hashCode(v2));
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + v0 + ", " + v1 + ", " + v2 + "]";
+    }
+
+    /**
+     * @return a new key
+     */
+    public static <T0, T1, T2, U0 extends T0, U1 extends T1, U2 extends T2> TripleKey<T0, T1, T2> of(U0 v0, U1 v1, U2 v2) {
+        return new TripleKey<>(v0, v1, v2);
+    }
+
+    /**
+     * Create a key from a {@link Triple}.
+     *
+     * @param triple the triple
+     * @return a new key
+     */
+    public static <T0, T1, T2> TripleKey<T0, T1, T2> from(Triple<? extends T0, ? extends T1, ? extends T2> triple) {
+        return new TripleKey<>(triple.v0(), triple.v1(), triple.v2());
+    }
+}
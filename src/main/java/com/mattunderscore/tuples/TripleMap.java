@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map keyed by the values of a 3-tuple.
+ * <p>
+ * The values of the keys are stored inline so that looking up, adding and removing entries does not create a
+ * {@link Triple}. The triples are only created when the entries are iterated. Null keys and values are supported.
+ *
+ * @param <K0> the type of key value 0
+ * @param <K1> the type of key value 1
+ * @param <K2> the type of key value 2
+ * @param <V> the type of value
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class TripleMap<K0, K1, K2, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 8;
+    private final TupleKeyMap map;
+    private final HashStrategy strategy;
+
+    private TripleMap(int expectedSize, HashStrategy strategy) {
+        map = new TupleKeyMap(3, expectedSize);
+        this.strategy = requireNonNull(strategy);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @return if there are no entries
+     */
+    public boolean isEmpty() {
+        return map.size() == 0;
+    }
+
+    /**
+     * @return if there is an entry for the key
+     */
+    public boolean containsKey(K0 k0, K1 k1, K2 k2) {
+        return map.find(hash(k0, k1, k2), k0, k1, k2, null) >= 0;
+    }
+
+    /**
+     * @return the value of the key or null if there is none
+     */
+    public V get(K0 k0, K1 k1, K2 k2) {
+        return getOrDefault(k0, k1, k2, null);
+    }
+
+    /**
+     * @return the value of the key or {@code defaultValue} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K0 k0, K1 k1, K2 k2, V defaultValue) {
+        final int slot = map.find(hash(k0, k1, k2), k0, k1, k2, null);
+        return slot >= 0 ? (V) map.value(slot) : defaultValue;
+    }
+
+    /**
+     * Associate a value with the key.
+     *
+     * @return the previous value or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K0 k0, K1 k1, K2 k2, V value) {
+        return (V) map.put(hash(k0, k1, k2), k0, k1, k2, null, value);
+    }
+
+    /**
+     * Return the value of the key, computing and adding it if there is none.
+     *
+     * @param function function to compute the value, if it returns null no value is added
+     * @return the current or computed value
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K0 k0, K1 k1, K2 k2, TriFunction<? super K0, ? super K1, ? super K2, ? extends V> function) {
+        final int hash = hash(k0, k1, k2);
+        final int slot = map.find(hash, k0, k1, k2, null);
+        if (slot >= 0) {
+            return (V) map.value(slot);
+        }
+        else {
+            final V value = function.apply(k0, k1, k2);
+            if (value != null) {
+                map.put(hash, k0, k1, k2, null, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Remove the entry for the key.
+     *
+     * @return the removed value or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(K0 k0, K1 k1, K2 k2) {
+        final int slot = map.find(hash(k0, k1, k2), k0, k1, k2, null);
+        return slot >= 0 ? (V) map.removeAt(slot) : null;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * @return a view of the entries, the keys are created as the entries are iterated
+     */
+    @SuppressWarnings("unchecked")
+    public Set<Map.Entry<Triple<K0, K1, K2>, V>> entrySet() {
+        return map.entrySet(slot -> new Triple<>((K0) map.key(slot, 0), (K1) map.key(slot, 1), (K2) map.key(slot, 2)));
+    }
+
+    private int hash(K0 k0, K1 k1, K2 k2) {
+        return TupleKeyMap.spread(strategy.hash(Objects.hashCode(k0), Objects.hashCode(k1), Objects.hashCode(k2)));
+    }
+
+    /**
+     * @return a new empty map
+     */
+    public static <K0, K1, K2, V> TripleMap<K0, K1, K2, V> create() {
+        return new TripleMap<>(DEFAULT_EXPECTED_SIZE, HashStrategy.mixed());
+    }
+
+    /**
+     * @return a new empty map sized for a number of entries
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public static <K0, K1, K2, V> TripleMap<K0, K1, K2, V> create(int expectedSize) {
+        return create(expectedSize, HashStrategy.mixed());
+    }
+
+    /**
+     * @param expectedSize the expected number of entries
+     * @param strategy the strategy used to hash the keys
+     * @return a new empty map sized for a number of entries
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public static <K0, K1, K2, V> TripleMap<K0, K1, K2, V> create(int expectedSize, HashStrategy strategy) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size " + expectedSize);
+        }
+        return new TripleMap<>(expectedSize, strategy);
+    }
+}
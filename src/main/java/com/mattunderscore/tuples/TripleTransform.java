@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.function.Function;
+
+/**
+ * A transformation of triples that applies the functions of each value in a single pass.
+ * <p>
+ * Only the mapped values have functions applied and only one triple is created. If every value is the same instance
+ * after the transformation the original triple is returned.
+ *
+ * @param <T0> the type of value 0 of the input
+ * @param <T1> the type of value 1 of the input
+ * @param <T2> the type of value 2 of the input
+ * @param <U0> the type of value 0 of the output
+ * @param <U1> the type of value 1 of the output
+ * @param <U2> the type of value 2 of the output
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class TripleTransform<T0, T1, T2, U0, U1, U2> implements Function<Triple<T0, T1, T2>, Triple<U0, U1, U2>> {
+    private final Function<Object, Object> function0;
+    private final Function<Object, Object> function1;
+    private final Function<Object, Object> function2;
+
+    private TripleTransform(
+            Function<Object, Object> function0,
+            Function<Object, Object> function1,
+            Function<Object, Object> function2) {
+        this.function0 = function0;
+        this.function1 = function1;
+        this.function2 = function2;
+    }
+
+    /**
+     * Map value 0 after any function already applied to it.
+     *
+     * @param function function to apply to value 0
+     * @param <V> the new type of value 0
+     * @return a new transform
+     */
+    public <V> TripleTransform<T0, T1, T2, V, U1, U2> mapV0(Function<? super U0, V> function) {
+        return new TripleTransform<>(compose(function0, function), function1, function2);
+    }
+
+    /**
+     * Map value 1 after any function already applied to it.
+     *
+     * @param function function to apply to value 1
+     * @param <V> the new type of value 1
+     * @return a new transform
+     */
+    public <V> TripleTransform<T0, T1, T2, U0, V, U2> mapV1(Function<? super U1, V> function) {
+        return new TripleTransform<>(function0, compose(function1, function), function2);
+    }
+
+    /**
+     * Map value 2 after any function already applied to it.
+     *
+     * @param function function to apply to value 2
+     * @param <V> the new type of value 2
+     * @return a new transform
+     */
+    public <V> TripleTransform<T0, T1, T2, U0, U1, V> mapV2(Function<? super U2, V> function) {
+        return new TripleTransform<>(function0, function1, compose(function2, function));
+    }
+
+    /**
+     * Transform a triple.
+     *
+     * @param triple the triple to transform
+     * @return the transformed triple or the triple if no value changed
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Triple<U0, U1, U2> apply(Triple<T0, T1, T2> triple) {
+        final Object v0 = function0 == null ? triple.v0() : function0.apply(triple.v0());
+        final Object v1 = function1 == null ? triple.v1() : function1.apply(triple.v1());
+        final Object v2 = function2 == null ? triple.v2() : function2.apply(triple.v2());
+        if (v0 == triple.v0() && v1 == triple.v1() && v2 == triple.v2()) {
+            return (Triple<U0, U1, U2>) (Triple<?, ?, ?>) triple;
+        }
+        else {
+            return new Triple<>((U0) v0, (U1) v1, (U2) v2);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> compose(Function<Object, Object> first, Function<?, ?> second) {
+        final Function<Object, Object> function = (Function<Object, Object>) second;
+        return first == null ? function : first.andThen(function);
+    }
+
+    /**
+     * @return a new transform that does not change any value
+     */
+    public static <T0, T1, T2> TripleTransform<T0, T1, T2, T0, T1, T2> of() {
+        return new TripleTransform<>(null, null, null);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.function.Consumer;
+
+/**
+ * A tuple of any arity.
+ * <p>
+ * Provides access to the values of a tuple by index without knowing its arity. The constructor is package private so
+ * only the tuples of this library, {@link Container}, {@link Pair}, {@link Triple}, {@link Quad}, the generated
+ * tuples and {@link NTuple}, extend it. Each tuple implements the methods directly from its fields.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public abstract class Tuple {
+    /*package*/ Tuple() {
+    }
+
+    /**
+     * @return the arity of the tuple
+     */
+    public abstract int arity();
+
+    /**
+     * @param i the index of the value to access
+     * @return value {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public abstract Object get(int i);
+
+    /**
+     * @return a new array of the values
+     */
+    public abstract Object[] toArray();
+
+    /**
+     * Pass each value to {@code consumer} in order.
+     */
+    public abstract void forEach(Consumer<Object> consumer);
+
+    /**
+     * @return a n-tuple of the values
+     */
+    public abstract NTuple toNTuple();
+}
@@ -0,0 +1,612 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A collection of tuples of primitive values stored outside of the heap.
+ * <p>
+ * The schema of the tuples is declared when the buffer is created. Each value must be declared as
+ * {@code int.class}, {@code long.class} or {@code double.class}. The values of each tuple are laid out contiguously,
+ * in the declared order, in chunks of direct {@link ByteBuffer}s. Only the chunks are allocated on the heap so the
+ * number of tuples is not limited by the size of the heap or a single buffer.
+ * <p>
+ * The tuples are only created when they are accessed through {@link #toPair(int)}, {@link #toTriple(int)},
+ * {@link #toQuad(int)} or {@link #toNTuple(int)}. The {@link Cursor} provides access to the values without
+ * creating them.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class TupleBuffer {
+    private static final int DEFAULT_CHUNK_RECORDS = 1 << 16;
+    private final Class<?>[] types;
+    private final int[] offsets;
+    private final int recordSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private int allocatedChunks;
+    private int size;
+
+    private TupleBuffer(Class<?>[] types, int chunkRecords) {
+        this.types = types;
+        offsets = new int[types.length];
+        int offset = 0;
+        for (int j = 0; j < types.length; j++) {
+            offsets[j] = offset;
+            offset += width(types[j]);
+        }
+        recordSize = offset;
+        chunkShift = Integer.numberOfTrailingZeros(chunkRecords);
+        chunkMask = chunkRecords - 1;
+    }
+
+    /**
+     * @return the number of values in each tuple
+     */
+    public int arity() {
+        return types.length;
+    }
+
+    /**
+     * @return the declared type of value {@code j}
+     * @throws IndexOutOfBoundsException if the arity is wrong
+     */
+    public Class<?> type(int j) {
+        return types[j];
+    }
+
+    /**
+     * @return the number of tuples
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return if there are no tuples
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add a tuple of zero values.
+     *
+     * @return the index of the new tuple
+     */
+    public int add() {
+        final int i = append();
+        final ByteBuffer chunk = chunk(i);
+        final int position = position(i, 0);
+        for (int k = 0; k < recordSize; k++) {
+            chunk.put(position + k, (byte) 0);
+        }
+        return i;
+    }
+
+    /**
+     * Add a pair.
+     *
+     * @param pair the pair
+     * @throws IllegalArgumentException if the arity is not 2
+     * @throws ClassCastException if a value is not of the declared type
+     * @throws NullPointerException if a value is null
+     */
+    public void add(Pair<?, ?> pair) {
+        checkArity(2);
+        final Object v0 = checkValue(0, pair.v0());
+        final Object v1 = checkValue(1, pair.v1());
+        final int i = append();
+        set(i, 0, v0);
+        set(i, 1, v1);
+    }
+
+    /**
+     * Add a triple.
+     *
+     * @param triple the triple
+     * @throws IllegalArgumentException if the arity is not 3
+     * @throws ClassCastException if a value is not of the declared type
+     * @throws NullPointerException if a value is null
+     */
+    public void add(Triple<?, ?, ?> triple) {
+        checkArity(3);
+        final Object v0 = checkValue(0, triple.v0());
+        final Object v1 = checkValue(1, triple.v1());
+        final Object v2 = checkValue(2, triple.v2());
+        final int i = append();
+        set(i, 0, v0);
+        set(i, 1, v1);
+        set(i, 2, v2);
+    }
+
+    /**
+     * Add a quad.
+     *
+     * @param quad the quad
+     * @throws IllegalArgumentException if the arity is not 4
+     * @throws ClassCastException if a value is not of the declared type
+     * @throws NullPointerException if a value is null
+     */
+    public void add(Quad<?, ?, ?, ?> quad) {
+        checkArity(4);
+        final Object v0 = checkValue(0, quad.v0());
+        final Object v1 = checkValue(1, quad.v1());
+        final Object v2 = checkValue(2, quad.v2());
+        final Object v3 = checkValue(3, quad.v3());
+        final int i = append();
+        set(i, 0, v0);
+        set(i, 1, v1);
+        set(i, 2, v2);
+        set(i, 3, v3);
+    }
+
+    /**
+     * Add a n-tuple.
+     *
+     * @param tuple the n-tuple
+     * @throws IllegalArgumentException if the arity is wrong
+     * @throws ClassCastException if a value is not of the declared type
+     * @throws NullPointerException if a value is null
+     */
+    public void add(NTuple tuple) {
+        final Object[] values = tuple.values();
+        checkArity(values.length);
+        // Check all of the values before adding so that a failure does not leave a partial tuple
+        for (int j = 0; j < values.length; j++) {
+            checkValue(j, values[j]);
+        }
+        final int i = append();
+        for (int j = 0; j < values.length; j++) {
+            set(i, j, values[j]);
+        }
+    }
+
+    /**
+     * @return value {@code j} of tuple {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range or the arity is wrong
+     * @throws ClassCastException if value {@code j} is not an {@code int}
+     */
+    public int getInt(int i, int j) {
+        checkAccess(i, j, int.class);
+        return chunk(i).getInt(position(i, j));
+    }
+
+    /**
+     * @return value {@code j} of tuple {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range or the arity is wrong
+     * @throws ClassCastException if value {@code j} is not a {@code long}
+     */
+    public long getLong(int i, int j) {
+        checkAccess(i, j, long.class);
+        return chunk(i).getLong(position(i, j));
+    }
+
+    /**
+     * @return value {@code j} of tuple {@code i}
+     * @throws IndexOutOfBoundsException if the index is out of range or the arity is wrong
+     * @throws ClassCastException if value {@code j} is not a {@code double}
+     */
+    public double getDouble(int i, int j) {
+        checkAccess(i, j, double.class);
+        return chunk(i).getDouble(position(i, j));
+    }
+
+    /**
+     * Set value {@code j} of tuple {@code i}.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range or the arity is wrong
+     * @throws ClassCastException if value {@code j} is not an {@code int}
+     */
+    public void setInt(int i, int j, int value) {
+        checkAccess(i, j, int.class);
+        chunk(i).putInt(position(i, j), value);
+    }
+
+    /**
+     * Set value {@code j} of tuple {@code i}.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range or the arity is wrong
+     * @throws ClassCastException if value {@code j} is not a {@code long}
+     */
+    public void setLong(int i, int j, long value) {
+        checkAccess(i, j, long.class);
+        chunk(i).putLong(position(i, j), value);
+    }
+
+    /**
+     * Set value {@code j} of tuple {@code i}.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range or the arity is wrong
+     * @throws ClassCastException if value {@code j} is not a {@code double}
+     */
+    public void setDouble(int i, int j, double value) {
+        checkAccess(i, j, double.class);
+        chunk(i).putDouble(position(i, j), value);
+    }
+
+    /**
+     * Create the pair at index {@code i}.
+     *
+     * @param i the index
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @return a new pair of the boxed values
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the arity is not 2
+     * @throws ClassCastException if the expected type is not the actual type
+     */
+    public <T0, T1> Pair<T0, T1> toPair(int i) {
+        checkIndex(i, size);
+        checkArity(2);
+        return new Pair<>(get(i, 0), get(i, 1));
+    }
+
+    /**
+     * Create the triple at index {@code i}.
+     *
+     * @param i the index
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @return a new triple of the boxed values
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the arity is not 3
+     * @throws ClassCastException if the expected type is not the actual type
+     */
+    public <T0, T1, T2> Triple<T0, T1, T2> toTriple(int i) {
+        checkIndex(i, size);
+        checkArity(3);
+        return new Triple<>(get(i, 0), get(i, 1), get(i, 2));
+    }
+
+    /**
+     * Create the quad at index {@code i}.
+     *
+     * @param i the index
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @param <T3> the type of value 3
+     * @return a new quad of the boxed values
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the arity is not 4
+     * @throws ClassCastException if the expected type is not the actual type
+     */
+    public <T0, T1, T2, T3> Quad<T0, T1, T2, T3> toQuad(int i) {
+        checkIndex(i, size);
+        checkArity(4);
+        return new Quad<>(get(i, 0), get(i, 1), get(i, 2), get(i, 3));
+    }
+
+    /**
+     * Create the n-tuple at index {@code i}.
+     *
+     * @param i the index
+     * @return a new n-tuple of the boxed values
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public NTuple toNTuple(int i) {
+        checkIndex(i, size);
+        final Object[] values = new Object[types.length];
+        for (int j = 0; j < values.length; j++) {
+            values[j] = get(i, j);
+        }
+        return new NTuple(values);
+    }
+
+    /**
+     * Remove all of the tuples. The chunks are kept for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return a cursor positioned before the first tuple
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(int i, int j) {
+        final ByteBuffer chunk = chunk(i);
+        final int position = position(i, j);
+        final Class<?> type = types[j];
+        if (type == int.class) {
+            return (T) Integer.valueOf(chunk.getInt(position));
+        }
+        else if (type == long.class) {
+            return (T) Long.valueOf(chunk.getLong(position));
+        }
+        else {
+            return (T) Double.valueOf(chunk.getDouble(position));
+        }
+    }
+
+    /**
+     * Add a tuple without initialising its values.
+     *
+     * @return the index of the new tuple
+     */
+    private int append() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+
+    /**
+     * @return the value if it is a boxed value of the declared type of value {@code j}
+     */
+    private Object checkValue(int j, Object value) {
+        if (requireNonNull(value).getClass() != boxed(types[j])) {
+            throw new ClassCastException(
+                "Value " + j + " expected " + types[j].getName() + " but was " + value.getClass().getName());
+        }
+        return value;
+    }
+
+    private void set(int i, int j, Object value) {
+        final ByteBuffer chunk = chunk(i);
+        final int position = position(i, j);
+        final Class<?> type = types[j];
+        if (type == int.class) {
+            chunk.putInt(position, (Integer) value);
+        }
+        else if (type == long.class) {
+            chunk.putLong(position, (Long) value);
+        }
+        else {
+            chunk.putDouble(position, (Double) value);
+        }
+    }
+
+    private ByteBuffer chunk(int i) {
+        return chunks[i >>> chunkShift];
+    }
+
+    private int position(int i, int j) {
+        return (i & chunkMask) * recordSize + offsets[j];
+    }
+
+    private void checkAccess(int i, int j, Class<?> type) {
+        checkIndex(i, size);
+        checkType(j, type);
+    }
+
+    private void checkType(int j, Class<?> type) {
+        if (types[j] != type) {
+            throw new ClassCastException("Value " + j + " expected " + type.getName() + " but was " + types[j].getName());
+        }
+    }
+
+    private void checkArity(int arity) {
+        if (types.length != arity) {
+            throw new IllegalArgumentException("Expected arity " + types.length + " not " + arity);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        final int requiredChunks = ((required - 1) >>> chunkShift) + 1;
+        if (requiredChunks > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(requiredChunks, chunks.length * 2));
+        }
+        while (allocatedChunks < requiredChunks) {
+            chunks[allocatedChunks] = ByteBuffer.allocateDirect((chunkMask + 1) * recordSize).order(ByteOrder.nativeOrder());
+            allocatedChunks++;
+        }
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        }
+        else if (type == long.class) {
+            return Long.class;
+        }
+        else {
+            return Double.class;
+        }
+    }
+
+    private static int width(Class<?> type) {
+        if (type == int.class) {
+            return Integer.BYTES;
+        }
+        else if (type == long.class) {
+            return Long.BYTES;
+        }
+        else if (type == double.class) {
+            return Double.BYTES;
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported type " + type);
+        }
+    }
+
+    /**
+     * @return a new empty buffer
+     * @throws NullPointerException if any type is null
+     * @throws IllegalArgumentException if there are no types or a type is not {@code int}, {@code long} or
+     *         {@code double}
+     */
+    public static TupleBuffer create(Class<?>... types) {
+        return create(DEFAULT_CHUNK_RECORDS, types);
+    }
+
+    /**
+     * @param chunkRecords the number of tuples stored in each chunk, a power of two
+     * @return a new empty buffer
+     * @throws NullPointerException if any type is null
+     * @throws IllegalArgumentException if there are no types, a type is not {@code int}, {@code long} or
+     *         {@code double} or the chunk size is invalid
+     */
+    public static TupleBuffer create(int chunkRecords, Class<?>... types) {
+        if (types.length == 0) {
+            throw new IllegalArgumentException("No types");
+        }
+        if (chunkRecords <= 0 || Integer.bitCount(chunkRecords) != 1) {
+            throw new IllegalArgumentException("Chunk size not a power of two " + chunkRecords);
+        }
+        final Class<?>[] schema = Arrays.copyOf(types, types.length);
+        long recordSize = 0;
+        for (final Class<?> type : schema) {
+            recordSize += width(requireNonNull(type));
+        }
+        if (recordSize * chunkRecords > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size too large " + chunkRecords);
+        }
+        return new TupleBuffer(schema, chunkRecords);
+    }
+
+    /**
+     * A flyweight view of the tuple at the current position.
+     * <p>
+     * The view is only valid until tuples are added or removed.
+     */
+    public final class Cursor {
+        private int index = -1;
+        private ByteBuffer chunk;
+        private int base;
+
+        private Cursor() {
+        }
+
+        /**
+         * Advance to the next tuple.
+         *
+         * @return false if there are no more tuples
+         */
+        public boolean next() {
+            if (index + 1 < size) {
+                locate(index + 1);
+                return true;
+            }
+            else {
+                return false;
+            }
+        }
+
+        /**
+         * Move to the tuple at index {@code i}.
+         *
+         * @param i the index
+         * @return this cursor
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public Cursor moveTo(int i) {
+            locate(checkIndex(i, size));
+            return this;
+        }
+
+        /**
+         * @return the current index
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * @return value {@code j}
+         * @throws ClassCastException if value {@code j} is not an {@code int}
+         */
+        public int getInt(int j) {
+            checkType(j, int.class);
+            return chunk.getInt(base + offsets[j]);
+        }
+
+        /**
+         * @return value {@code j}
+         * @throws ClassCastException if value {@code j} is not a {@code long}
+         */
+        public long getLong(int j) {
+            checkType(j, long.class);
+            return chunk.getLong(base + offsets[j]);
+        }
+
+        /**
+         * @return value {@code j}
+         * @throws ClassCastException if value {@code j} is not a {@code double}
+         */
+        public double getDouble(int j) {
+            checkType(j, double.class);
+            return chunk.getDouble(base + offsets[j]);
+        }
+
+        /**
+         * Set value {@code j}.
+         *
+         * @throws ClassCastException if value {@code j} is not an {@code int}
+         */
+        public void setInt(int j, int value) {
+            checkType(j, int.class);
+            chunk.putInt(base + offsets[j], value);
+        }
+
+        /**
+         * Set value {@code j}.
+         *
+         * @throws ClassCastException if value {@code j} is not a {@code long}
+         */
+        public void setLong(int j, long value) {
+            checkType(j, long.class);
+            chunk.putLong(base + offsets[j], value);
+        }
+
+        /**
+         * Set value {@code j}.
+         *
+         * @throws ClassCastException if value {@code j} is not a {@code double}
+         */
+        public void setDouble(int j, double value) {
+            checkType(j, double.class);
+            chunk.putDouble(base + offsets[j], value);
+        }
+
+        /**
+         * @return a new pair of the current values
+         */
+        public <T0, T1> Pair<T0, T1> toPair() {
+            return TupleBuffer.this.toPair(index);
+        }
+
+        /**
+         * @return a new triple of the current values
+         */
+        public <T0, T1, T2> Triple<T0, T1, T2> toTriple() {
+            return TupleBuffer.this.toTriple(index);
+        }
+
+        /**
+         * @return a new quad of the current values
+         */
+        public <T0, T1, T2, T3> Quad<T0, T1, T2, T3> toQuad() {
+            return TupleBuffer.this.toQuad(index);
+        }
+
+        /**
+         * @return a new n-tuple of the current values
+         */
+        public NTuple toNTuple() {
+            return TupleBuffer.this.toNTuple(index);
+        }
+
+        private void locate(int i) {
+            index = i;
+            chunk = chunk(i);
+            base = position(i, 0);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Encodes and decodes tuples to and from a {@link ByteBuffer}.
+ * <p>
+ * Each tuple is written as its arity as a variable length integer, a bitmap of the null values and then each non-null
+ * value written by the codec of the value. The arity is checked when decoding. Batches of tuples are prefixed by their
+ * count and are decoded directly from the buffer, without copying.
+ *
+ * @param <T> the type of tuple
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class TupleCodec<T extends Tuple> {
+    private final ValueCodec<Object>[] codecs;
+    private final Accessor<T> accessor;
+    private final Function<Object[], T> factory;
+    private final int bitmapBytes;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TupleCodec(Accessor<T> accessor, Function<Object[], T> factory, ValueCodec<?>... codecs) {
+        this.codecs = new ValueCodec[codecs.length];
+        for (int i = 0; i < codecs.length; i++) {
+            this.codecs[i] = (ValueCodec<Object>) requireNonNull(codecs[i]);
+        }
+        this.accessor = accessor;
+        this.factory = factory;
+        bitmapBytes = (codecs.length + 7) >>> 3;
+    }
+
+    /**
+     * Write a tuple to the buffer.
+     *
+     * @param tuple the tuple
+     * @param buffer the buffer
+     * @throws java.nio.BufferOverflowException if there is not enough space in the buffer
+     * @throws IllegalArgumentException if the arity of an n-tuple is wrong, nothing is written
+     */
+    public void encode(T tuple, ByteBuffer buffer) {
+        checkArity(tuple);
+        write(tuple, buffer);
+    }
+
+    /**
+     * Read a tuple from the buffer.
+     *
+     * @param buffer the buffer
+     * @return the tuple
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes in the buffer
+     * @throws IllegalArgumentException if the arity of the encoded tuple is wrong
+     */
+    public T decode(ByteBuffer buffer) {
+        final long arity = ValueCodecs.getVarLong(buffer);
+        if (arity != codecs.length) {
+            throw new IllegalArgumentException("Expected arity " + codecs.length + " not " + arity);
+        }
+        if (buffer.remaining() < bitmapBytes) {
+            throw new BufferUnderflowException();
+        }
+        final int bitmap = buffer.position();
+        buffer.position(bitmap + bitmapBytes);
+        final Object[] values = new Object[codecs.length];
+        for (int i = 0; i < codecs.length; i++) {
+            if ((buffer.get(bitmap + (i >>> 3)) & (1 << (i & 7))) == 0) {
+                values[i] = codecs[i].decode(buffer);
+            }
+        }
+        return factory.apply(values);
+    }
+
+    /**
+     * Write a batch of tuples to the buffer.
+     *
+     * @param tuples the tuples
+     * @param buffer the buffer
+     * @throws java.nio.BufferOverflowException if there is not enough space in the buffer
+     * @throws IllegalArgumentException if the arity of an n-tuple is wrong, nothing is written
+     */
+    public void encodeAll(Collection<? extends T> tuples, ByteBuffer buffer) {
+        for (final T tuple : tuples) {
+            checkArity(tuple);
+        }
+        ValueCodecs.putVarLong(buffer, tuples.size());
+        for (final T tuple : tuples) {
+            write(tuple, buffer);
+        }
+    }
+
+    /**
+     * Read a batch of tuples from the buffer, passing each to the consumer as it is read.
+     *
+     * @param buffer the buffer
+     * @param consumer the consumer of the tuples
+     * @return the number of tuples read
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes in the buffer
+     * @throws IllegalArgumentException if the arity of an encoded tuple is wrong
+     */
+    public long decodeAll(ByteBuffer buffer, Consumer<? super T> consumer) {
+        final long count = ValueCodecs.getVarLong(buffer);
+        for (long i = 0; i < count; i++) {
+            consumer.accept(decode(buffer));
+        }
+        return count;
+    }
+
+    private void checkArity(T tuple) {
+        if (tuple.arity() != codecs.length) {
+            throw new IllegalArgumentException("Expected arity " + codecs.length + " not " + tuple.arity());
+        }
+    }
+
+    private void write(T tuple, ByteBuffer buffer) {
+        ValueCodecs.putVarLong(buffer, codecs.length);
+        final int bitmap = buffer.position();
+        for (int i = 0; i < bitmapBytes; i++) {
+            buffer.put((byte) 0);
+        }
+        for (int i = 0; i < codecs.length; i++) {
+            final Object value = accessor.get(tuple, i);
+            if (value == null) {
+                final int index = bitmap + (i >>> 3);
+                buffer.put(index, (byte) (buffer.get(index) | (1 << (i & 7))));
+            }
+            else {
+                codecs[i].encode(value, buffer);
+            }
+        }
+    }
+
+    /**
+     * @return a codec of pairs
+     * @throws NullPointerException if any codec is null
+     */
+    public static <T0, T1> TupleCodec<Pair<T0, T1>> pairs(ValueCodec<T0> codec0, ValueCodec<T1> codec1) {
+        return new TupleCodec<>(
+            (pair, i) -> i == 0 ? pair.v0() : pair.v1(),
+            values -> new Pair<>(value(values, 0), value(values, 1)),
+            codec0,
+            codec1);
+    }
+
+    /**
+     * @return a codec of triples
+     * @throws NullPointerException if any codec is null
+     */
+    public static <T0, T1, T2> TupleCodec<Triple<T0, T1, T2>> triples(
+            ValueCodec<T0> codec0,
+            ValueCodec<T1> codec1,
+            ValueCodec<T2> codec2) {
+        return new TupleCodec<>(
+            TupleCodec::tripleValue,
+            values -> new Triple<>(value(values, 0), value(values, 1), value(values, 2)),
+            codec0,
+            codec1,
+            codec2);
+    }
+
+    /**
+     * @return a codec of quads
+     * @throws NullPointerException if any codec is null
+     */
+    public static <T0, T1, T2, T3> TupleCodec<Quad<T0, T1, T2, T3>> quads(
+            ValueCodec<T0> codec0,
+            ValueCodec<T1> codec1,
+            ValueCodec<T2> codec2,
+            ValueCodec<T3> codec3) {
+        return new TupleCodec<>(
+            TupleCodec::quadValue,
+            values -> new Quad<>(value(values, 0), value(values, 1), value(values, 2), value(values, 3)),
+            codec0,
+            codec1,
+            codec2,
+            codec3);
+    }
+
+    /**
+     * @param codecs the codec of each value, the number of codecs is the arity of the n-tuples
+     * @return a codec of n-tuples
+     * @throws NullPointerException if any codec is null
+     */
+    public static TupleCodec<NTuple> nTuples(ValueCodec<?>... codecs) {
+        return new TupleCodec<>(NTuple::v, NTuple::new, codecs);
+    }
+
+    private static Object tripleValue(Triple<?, ?, ?> triple, int i) {
+        if (i == 0) {
+            return triple.v0();
+        }
+        else if (i == 1) {
+            return triple.v1();
+        }
+        else {
+            return triple.v2();
+        }
+    }
+
+    private static Object quadValue(Quad<?, ?, ?, ?> quad, int i) {
+        if (i == 0) {
+            return quad.v0();
+        }
+        else if (i == 1) {
+            return quad.v1();
+        }
+        else if (i == 2) {
+            return quad.v2();
+        }
+        else {
+            return quad.v3();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T value(Object[] values, int i) {
+        return (T) values[i];
+    }
+
+    /**
+     * Accesses a value of a tuple by index.
+     *
+     * @param <T> the type of tuple
+     */
+    @FunctionalInterface
+    private interface Accessor<T> {
+        Object get(T tuple, int i);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that produce tuples.
+ * <p>
+ * Each collector makes a single pass over the stream and supports parallel streams.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleCollectors {
+    private TupleCollectors() {
+    }
+
+    /**
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @return a collector of a list of each value of the pairs
+     */
+    public static <T0, T1> Collector<Pair<? extends T0, ? extends T1>, ?, Pair<List<T0>, List<T1>>> unzip() {
+        return Collector.of(
+            () -> new Pair<>(new ArrayList<>(), new ArrayList<>()),
+            (lists, pair) -> {
+                lists.v0().add(pair.v0());
+                lists.v1().add(pair.v1());
+            },
+            (left, right) -> {
+                left.v0().addAll(right.v0());
+                left.v1().addAll(right.v1());
+                return left;
+            });
+    }
+
+    /**
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @return a collector of a list of each value of the triples
+     */
+    public static <T0, T1, T2> Collector<Triple<? extends T0, ? extends T1, ? extends T2>, ?, Triple<List<T0>, List<T1>, List<T2>>>
+            unzip3() {
+        return Collector.of(
+            () -> new Triple<>(new ArrayList<>(), new ArrayList<>(), new ArrayList<>()),
+            (lists, triple) -> {
+                lists.v0().add(triple.v0());
+                lists.v1().add(triple.v1());
+                lists.v2().add(triple.v2());
+            },
+            (left, right) -> {
+                left.v0().addAll(right.v0());
+                left.v1().addAll(right.v1());
+                left.v2().addAll(right.v2());
+                return left;
+            });
+    }
+
+    /**
+     * @param predicate the predicate to partition by
+     * @param <T> the type of element
+     * @return a collector of a pair of the elements that match the predicate and the elements that do not
+     */
+    public static <T> Collector<T, ?, Pair<List<T>, List<T>>> partitioningToPair(Predicate<? super T> predicate) {
+        return partitioningToPair(predicate, toList());
+    }
+
+    /**
+     * @param predicate the predicate to partition by
+     * @param downstream the collector of each partition
+     * @param <T> the type of element
+     * @param <R> the type of result of each partition
+     * @return a collector of a pair of the results of the elements that match the predicate and the elements that do not
+     */
+    public static <T, A, R> Collector<T, ?, Pair<R, R>> partitioningToPair(
+            Predicate<? super T> predicate,
+            Collector<? super T, A, R> downstream) {
+        final Supplier<A> supplier = downstream.supplier();
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        final BinaryOperator<A> combiner = downstream.combiner();
+        final Function<A, R> finisher = downstream.finisher();
+        return Collector.of(
+            () -> new Pair<>(supplier.get(), supplier.get()),
+            (partitions, element) -> accumulator.accept(predicate.test(element) ? partitions.v0() : partitions.v1(), element),
+            (left, right) -> new Pair<>(combiner.apply(left.v0(), right.v0()), combiner.apply(left.v1(), right.v1())),
+            partitions -> new Pair<>(finisher.apply(partitions.v0()), finisher.apply(partitions.v1())),
+            characteristics(downstream));
+    }
+
+    /**
+     * @param downstream0 the collector of value 0
+     * @param downstream1 the collector of value 1
+     * @param <T> the type of element
+     * @param <R0> the type of value 0
+     * @param <R1> the type of value 1
+     * @return a collector of a pair of the results of each collector
+     */
+    public static <T, R0, R1> Collector<T, ?, Pair<R0, R1>> teeing(
+            Collector<? super T, ?, R0> downstream0,
+            Collector<? super T, ?, R1> downstream1) {
+        return teeing(
+            results -> new Pair<>(finish(results, 0), finish(results, 1)),
+            downstream0,
+            downstream1);
+    }
+
+    /**
+     * @param downstream0 the collector of value 0
+     * @param downstream1 the collector of value 1
+     * @param downstream2 the collector of value 2
+     * @param <T> the type of element
+     * @param <R0> the type of value 0
+     * @param <R1> the type of value 1
+     * @param <R2> the type of value 2
+     * @return a collector of a triple of the results of each collector
+     */
+    public static <T, R0, R1, R2> Collector<T, ?, Triple<R0, R1, R2>> teeing(
+            Collector<? super T, ?, R0> downstream0,
+            Collector<? super T, ?, R1> downstream1,
+            Collector<? super T, ?, R2> downstream2) {
+        return teeing(
+            results -> new Triple<>(finish(results, 0), finish(results, 1), finish(results, 2)),
+            downstream0,
+            downstream1,
+            downstream2);
+    }
+
+    /**
+     * @param downstream0 the collector of value 0
+     * @param downstream1 the collector of value 1
+     * @param downstream2 the collector of value 2
+     * @param downstream3 the collector of value 3
+     * @param <T> the type of element
+     * @param <R0> the type of value 0
+     * @param <R1> the type of value 1
+     * @param <R2> the type of value 2
+     * @param <R3> the type of value 3
+     * @return a collector of a quad of the results of each collector
+     */
+    public static <T, R0, R1, R2, R3> Collector<T, ?, Quad<R0, R1, R2, R3>> teeing(
+            Collector<? super T, ?, R0> downstream0,
+            Collector<? super T, ?, R1> downstream1,
+            Collector<? super T, ?, R2> downstream2,
+            Collector<? super T, ?, R3> downstream3) {
+        return teeing(
+            results -> new Quad<>(finish(results, 0), finish(results, 1), finish(results, 2), finish(results, 3)),
+            downstream0,
+            downstream1,
+            downstream2,
+            downstream3);
+    }
+
+    /**
+     * Compose collectors that each collect every element.
+     *
+     * @param finisher creates the result from the finished results of each collector
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T, R> Collector<T, ?, R> teeing(Function<Object[], R> finisher, Collector<?, ?, ?>... downstream) {
+        final int n = downstream.length;
+        final Supplier<Object>[] suppliers = new Supplier[n];
+        final BiConsumer<Object, T>[] accumulators = new BiConsumer[n];
+        final BinaryOperator<Object>[] combiners = new BinaryOperator[n];
+        final Function<Object, Object>[] finishers = new Function[n];
+        for (int i = 0; i < n; i++) {
+            final Collector<T, Object, Object> collector = (Collector<T, Object, Object>) downstream[i];
+            suppliers[i] = collector.supplier();
+            accumulators[i] = collector.accumulator();
+            combiners[i] = collector.combiner();
+            finishers[i] = collector.finisher();
+        }
+        return Collector.of(
+            () -> {
+                final Object[] containers = new Object[n];
+                for (int i = 0; i < n; i++) {
+                    containers[i] = suppliers[i].get();
+                }
+                return containers;
+            },
+            (containers, element) -> {
+                for (int i = 0; i < n; i++) {
+                    accumulators[i].accept(containers[i], element);
+                }
+            },
+            (left, right) -> {
+                for (int i = 0; i < n; i++) {
+                    left[i] = combiners[i].apply(left[i], right[i]);
+                }
+                return left;
+            },
+            containers -> {
+                for (int i = 0; i < n; i++) {
+                    containers[i] = finishers[i].apply(containers[i]);
+                }
+                return finisher.apply(containers);
+            },
+            characteristics(downstream));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R finish(Object[] results, int i) {
+        return (R) results[i];
+    }
+
+    /**
+     * @return unordered if all of the collectors are unordered
+     */
+    private static Collector.Characteristics[] characteristics(Collector<?, ?, ?>... downstream) {
+        for (final Collector<?, ?, ?> collector : downstream) {
+            if (!collector.characteristics().contains(Collector.Characteristics.UNORDERED)) {
+                return new Collector.Characteristics[0];
+            }
+        }
+        return new Collector.Characteristics[] {Collector.Characteristics.UNORDERED};
+    }
+}
@@ -0,0 +1,562 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Combines {@link Flow.Publisher}s into publishers of tuples.
+ * <p>
+ * The publishers are cold, each subscriber subscribes to the sources again. Each source is prefetched into a bounded
+ * buffer of {@link Flow#defaultBufferSize()} items and more items are requested in batches of three quarters of the
+ * buffer as they are consumed. Tuples are only emitted when they have been requested. An error from any source is
+ * passed on immediately and cancels the other sources. The latest items are combined in the order they arrived from
+ * the sources, including items buffered while there was no demand.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleFlows {
+    private static final int PREFETCH = Flow.defaultBufferSize();
+
+    private TupleFlows() {
+    }
+
+    /**
+     * Zip two publishers. The n-th pair contains the n-th item of each source. Completes when any source has
+     * completed and its items have been zipped.
+     *
+     * @return a publisher of pairs
+     */
+    @SuppressWarnings("unchecked")
+    public static <T0, T1> Flow.Publisher<Pair<T0, T1>> zip(
+            Flow.Publisher<? extends T0> p0,
+            Flow.Publisher<? extends T1> p1) {
+        return new CombiningPublisher<>(false, values -> new Pair<>((T0) values[0], (T1) values[1]), p0, p1);
+    }
+
+    /**
+     * Zip three publishers. The n-th triple contains the n-th item of each source. Completes when any source has
+     * completed and its items have been zipped.
+     *
+     * @return a publisher of triples
+     */
+    @SuppressWarnings("unchecked")
+    public static <T0, T1, T2> Flow.Publisher<Triple<T0, T1, T2>> zip(
+            Flow.Publisher<? extends T0> p0,
+            Flow.Publisher<? extends T1> p1,
+            Flow.Publisher<? extends T2> p2) {
+        return new CombiningPublisher<>(
+            false,
+            values -> new Triple<>((T0) values[0], (T1) values[1], (T2) values[2]),
+            p0,
+            p1,
+            p2);
+    }
+
+    /**
+     * Zip four publishers. The n-th quad contains the n-th item of each source. Completes when any source has
+     * completed and its items have been zipped.
+     *
+     * @return a publisher of quads
+     */
+    @SuppressWarnings("unchecked")
+    public static <T0, T1, T2, T3> Flow.Publisher<Quad<T0, T1, T2, T3>> zip(
+            Flow.Publisher<? extends T0> p0,
+            Flow.Publisher<? extends T1> p1,
+            Flow.Publisher<? extends T2> p2,
+            Flow.Publisher<? extends T3> p3) {
+        return new CombiningPublisher<>(
+            false,
+            values -> new Quad<>((T0) values[0], (T1) values[1], (T2) values[2], (T3) values[3]),
+            p0,
+            p1,
+            p2,
+            p3);
+    }
+
+    /**
+     * Combine the latest items of two publishers. A pair is emitted for each item once every source has produced an
+     * item. Completes when every source has completed or a source completes without producing an item.
+     *
+     * @return a publisher of pairs
+     */
+    @SuppressWarnings("unchecked")
+    public static <T0, T1> Flow.Publisher<Pair<T0, T1>> combineLatest(
+            Flow.Publisher<? extends T0> p0,
+            Flow.Publisher<? extends T1> p1) {
+        return new CombiningPublisher<>(true, values -> new Pair<>((T0) values[0], (T1) values[1]), p0, p1);
+    }
+
+    /**
+     * Combine the latest items of three publishers. A triple is emitted for each item once every source has produced
+     * an item. Completes when every source has completed or a source completes without producing an item.
+     *
+     * @return a publisher of triples
+     */
+    @SuppressWarnings("unchecked")
+    public static <T0, T1, T2> Flow.Publisher<Triple<T0, T1, T2>> combineLatest(
+            Flow.Publisher<? extends T0> p0,
+            Flow.Publisher<? extends T1> p1,
+            Flow.Publisher<? extends T2> p2) {
+        return new CombiningPublisher<>(
+            true,
+            values -> new Triple<>((T0) values[0], (T1) values[1], (T2) values[2]),
+            p0,
+            p1,
+            p2);
+    }
+
+    /**
+     * Combine the latest items of four publishers. A quad is emitted for each item once every source has produced an
+     * item. Completes when every source has completed or a source completes without producing an item.
+     *
+     * @return a publisher of quads
+     */
+    @SuppressWarnings("unchecked")
+    public static <T0, T1, T2, T3> Flow.Publisher<Quad<T0, T1, T2, T3>> combineLatest(
+            Flow.Publisher<? extends T0> p0,
+            Flow.Publisher<? extends T1> p1,
+            Flow.Publisher<? extends T2> p2,
+            Flow.Publisher<? extends T3> p3) {
+        return new CombiningPublisher<>(
+            true,
+            values -> new Quad<>((T0) values[0], (T1) values[1], (T2) values[2], (T3) values[3]),
+            p0,
+            p1,
+            p2,
+            p3);
+    }
+
+    /**
+     * Publisher that subscribes a new coordinator to the sources for each subscriber.
+     */
+    @ThreadSafe
+    private static final class CombiningPublisher<R> implements Flow.Publisher<R> {
+        private final boolean latest;
+        private final Function<Object[], R> combiner;
+        private final Flow.Publisher<?>[] sources;
+
+        CombiningPublisher(boolean latest, Function<Object[], R> combiner, Flow.Publisher<?>... sources) {
+            this.latest = latest;
+            this.combiner = combiner;
+            this.sources = sources.clone();
+            for (final Flow.Publisher<?> source : this.sources) {
+                requireNonNull(source);
+            }
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super R> subscriber) {
+            requireNonNull(subscriber);
+            final Coordinator<R> coordinator = new Coordinator<>(latest, subscriber, combiner, sources.length);
+            subscriber.onSubscribe(coordinator);
+            coordinator.subscribe(sources);
+        }
+    }
+
+    /**
+     * The subscription of a subscriber to combined sources.
+     * <p>
+     * Signals from the sources and requests from the subscriber schedule a drain of the buffers. Only one thread
+     * drains at a time, a drain that is requested while another thread is draining is performed by that thread, so
+     * the subscriber is signalled serially.
+     */
+    @ThreadSafe
+    private static final class Coordinator<R> implements Flow.Subscription {
+        private final boolean latest;
+        private final Flow.Subscriber<? super R> downstream;
+        private final Function<Object[], R> combiner;
+        private final Inner[] inners;
+        /**
+         * The values of the next tuple, or the latest values when combining the latest. Accessed only while draining.
+         */
+        private final Object[] values;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        /**
+         * The sequence of the next item to arrive from any source.
+         */
+        private final AtomicLong arrivals = new AtomicLong();
+        private volatile boolean cancelled;
+        /**
+         * The number of sources that have produced a latest item. Accessed only while draining.
+         */
+        private int seen;
+
+        Coordinator(boolean latest, Flow.Subscriber<? super R> downstream, Function<Object[], R> combiner, int arity) {
+            this.latest = latest;
+            this.downstream = downstream;
+            this.combiner = combiner;
+            inners = new Inner[arity];
+            for (int i = 0; i < arity; i++) {
+                inners[i] = new Inner(this);
+            }
+            values = new Object[arity];
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                fail(new IllegalArgumentException("Non-positive request " + n));
+                return;
+            }
+            long current;
+            long updated;
+            do {
+                current = requested.get();
+                updated = current + n < 0L ? Long.MAX_VALUE : current + n;
+            }
+            while (!requested.compareAndSet(current, updated));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelInners();
+                if (wip.getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        /**
+         * @return the sequence of an item that has arrived from a source
+         */
+        long nextArrival() {
+            return arrivals.getAndIncrement();
+        }
+
+        /**
+         * Subscribe to the sources.
+         */
+        void subscribe(Flow.Publisher<?>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                sources[i].subscribe(inners[i]);
+            }
+        }
+
+        /**
+         * Fail with the first error, later errors are dropped.
+         */
+        void fail(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                final long demand = requested.get();
+                final long emitted = latest ? drainLatest(demand) : drainZip(demand);
+                if (emitted < 0L) {
+                    return;
+                }
+                if (emitted != 0L && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+            }
+            while (missed != 0);
+        }
+
+        /**
+         * Emit up to {@code demand} tuples of the next item of each source.
+         *
+         * @return the number of tuples emitted or -1 if the subscription has terminated
+         */
+        private long drainZip(long demand) {
+            long emitted = 0L;
+            while (true) {
+                if (checkTerminated()) {
+                    return -1L;
+                }
+                final int ready = zipReady();
+                if (ready < 0) {
+                    complete();
+                    return -1L;
+                }
+                else if (ready == 0 || emitted == demand) {
+                    return emitted;
+                }
+                for (int i = 0; i < inners.length; i++) {
+                    values[i] = inners[i].poll();
+                }
+                downstream.onNext(combiner.apply(values));
+                emitted++;
+            }
+        }
+
+        /**
+         * @return 1 if every source has an item, -1 if a source has completed without an item and 0 otherwise
+         */
+        private int zipReady() {
+            int ready = 1;
+            for (final Inner inner : inners) {
+                final boolean done = inner.isDone();
+                if (inner.isEmpty()) {
+                    if (done) {
+                        return -1;
+                    }
+                    ready = 0;
+                }
+            }
+            return ready;
+        }
+
+        /**
+         * Emit up to {@code demand} tuples of the latest item of each source.
+         *
+         * @return the number of tuples emitted or -1 if the subscription has terminated
+         */
+        private long drainLatest(long demand) {
+            long emitted = 0L;
+            while (true) {
+                if (checkTerminated()) {
+                    return -1L;
+                }
+                if (isLatestFinished()) {
+                    complete();
+                    return -1L;
+                }
+                final int source = emitted == demand ? -1 : nextLatest();
+                if (source < 0) {
+                    return emitted;
+                }
+                if (values[source] == null) {
+                    seen++;
+                }
+                values[source] = inners[source].poll();
+                if (seen == values.length) {
+                    downstream.onNext(combiner.apply(values));
+                    emitted++;
+                }
+            }
+        }
+
+        /**
+         * @return the index of the source with the item that arrived first or -1 if there is none
+         */
+        private int nextLatest() {
+            int source = -1;
+            long oldest = Long.MAX_VALUE;
+            for (int i = 0; i < inners.length; i++) {
+                if (!inners[i].isEmpty()) {
+                    final long sequence = inners[i].peekSequence();
+                    if (sequence < oldest) {
+                        source = i;
+                        oldest = sequence;
+                    }
+                }
+            }
+            return source;
+        }
+
+        /**
+         * @return if every source has completed or a source has completed without producing an item
+         */
+        private boolean isLatestFinished() {
+            boolean finished = true;
+            for (int i = 0; i < inners.length; i++) {
+                final boolean exhausted = inners[i].isDone() && inners[i].isEmpty();
+                if (exhausted && values[i] == null) {
+                    return true;
+                }
+                finished &= exhausted;
+            }
+            return finished;
+        }
+
+        /**
+         * @return if the subscription has been cancelled or has failed, signalling the error if it has failed
+         */
+        private boolean checkTerminated() {
+            if (cancelled) {
+                clear();
+                return true;
+            }
+            final Throwable t = error.get();
+            if (t != null) {
+                cancelled = true;
+                cancelInners();
+                clear();
+                downstream.onError(t);
+                return true;
+            }
+            return false;
+        }
+
+        private void complete() {
+            cancelled = true;
+            cancelInners();
+            clear();
+            downstream.onComplete();
+        }
+
+        private void cancelInners() {
+            for (final Inner inner : inners) {
+                inner.cancel();
+            }
+        }
+
+        private void clear() {
+            for (final Inner inner : inners) {
+                inner.clear();
+            }
+            Arrays.fill(values, null);
+        }
+    }
+
+    /**
+     * Subscriber to a source that buffers its items.
+     * <p>
+     * The buffer is a single producer, single consumer ring. The source is the producer and never has more items
+     * outstanding than fit in the buffer. The draining thread is the consumer and requests more items each time
+     * {@code limit} items have been consumed. Each item is stored with the sequence it arrived in across the sources.
+     */
+    @ThreadSafe
+    private static final class Inner implements Flow.Subscriber<Object> {
+        private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+        private final Coordinator<?> parent;
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        private final Object[] buffer;
+        private final long[] sequences;
+        private final int mask;
+        private final int limit;
+        private volatile long producerIndex;
+        private volatile long consumerIndex;
+        private volatile boolean done;
+        /**
+         * The number of items consumed since more were requested. Accessed only while draining.
+         */
+        private int consumed;
+
+        Inner(Coordinator<?> parent) {
+            this.parent = parent;
+            final int capacity = Integer.highestOneBit(PREFETCH - 1) << 1;
+            buffer = new Object[Math.max(capacity, 1)];
+            sequences = new long[buffer.length];
+            mask = buffer.length - 1;
+            limit = Math.max(PREFETCH - (PREFETCH >> 2), 1);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription newSubscription) {
+            requireNonNull(newSubscription);
+            if (!subscription.compareAndSet(null, newSubscription)) {
+                newSubscription.cancel();
+            }
+            else if (parent.isCancelled()) {
+                cancel();
+            }
+            else {
+                newSubscription.request(PREFETCH);
+            }
+        }
+
+        @Override
+        public void onNext(Object item) {
+            requireNonNull(item);
+            if (done) {
+                return;
+            }
+            final long index = producerIndex;
+            if (index - consumerIndex >= buffer.length) {
+                cancel();
+                onError(new IllegalStateException("Source produced more items than requested"));
+                return;
+            }
+            final int slot = (int) index & mask;
+            sequences[slot] = parent.nextArrival();
+            buffer[slot] = item;
+            producerIndex = index + 1;
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            requireNonNull(throwable);
+            done = true;
+            parent.fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        boolean isEmpty() {
+            return consumerIndex == producerIndex;
+        }
+
+        /**
+         * @return the arrival sequence of the next item, the buffer must not be empty
+         */
+        long peekSequence() {
+            return sequences[(int) consumerIndex & mask];
+        }
+
+        /**
+         * Take the next item, requesting more items once enough have been consumed.
+         */
+        Object poll() {
+            final long index = consumerIndex;
+            final int slot = (int) index & mask;
+            final Object item = buffer[slot];
+            buffer[slot] = null;
+            consumerIndex = index + 1;
+            consumed++;
+            if (consumed == limit) {
+                consumed = 0;
+                subscription.get().request(limit);
+            }
+            return item;
+        }
+
+        void cancel() {
+            final Flow.Subscription current = subscription.getAndSet(CANCELLED);
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        void clear() {
+            Arrays.fill(buffer, null);
+            consumerIndex = producerIndex;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.Objects;
+
+/**
+ * The hash function of the tuples.
+ * <p>
+ * The hash code of each value is mixed in with the rounds of MurmurHash3 and the result is finished with its
+ * avalanche step. Tuples of similar small values, that collide when the hash codes are combined by multiplying by 31,
+ * are spread over the whole range of hash codes. Tuples that are equal to each other with different representations,
+ * such as {@link Pair} and {@link IntPair}, pass the same value hash codes so their hash codes are consistent.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+/*package*/ final class TupleHash {
+    /**
+     * The hash of no values, the initial hash passed to {@link #combine(int, int)} by the tuples.
+     */
+    /*package*/ static final int SEED = 0;
+    private static final int C1 = 0xCC9E2D51;
+    private static final int C2 = 0x1B873593;
+
+    private TupleHash() {
+    }
+
+    /**
+     * @param hash the hash of the previous values
+     * @param valueHash the hash code of the next value
+     * @return the hash of the values
+     */
+    /*package*/ static int combine(int hash, int valueHash) {
+        final int k = Integer.rotateLeft(valueHash * C1, 15) * C2;
+        return Integer.rotateLeft(hash ^ k, 13) * 5 + 0xE6546B64;
+    }
+
+    /**
+     * @param hash the hash of the values
+     * @param arity the number of values
+     * @return the hash code
+     */
+    /*package*/ static int finish(int hash, int arity) {
+        final int h0 = hash ^ arity;
+        final int h1 = (h0 ^ (h0 >>> 16)) * 0x85EBCA6B;
+        final int h2 = (h1 ^ (h1 >>> 13)) * 0xC2B2AE35;
+        return h2 ^ (h2 >>> 16);
+    }
+
+    /**
+     * @return the hash code of a tuple of the values
+     */
+    /*package*/ static int hash(Object[] values) {
+        int hash = SEED;
+        for (final Object value : values) {
+            hash = combine(hash, Objects.hashCode(value));
+        }
+        return finish(hash, values.length);
+    }
+
+    /**
+     * @return the hash code of a 1-tuple
+     */
+    /*package*/ static int hash(int h0) {
+        return finish(combine(SEED, h0), 1);
+    }
+
+    /**
+     * @return the hash code of a 2-tuple
+     */
+    /*package*/ static int hash(int h0, int h1) {
+        return finish(combine(combine(SEED, h0), h1), 2);
+    }
+
+    /**
+     * @return the hash code of a 3-tuple
+     */
+    /*package*/ static int hash(int h0, int h1, int h2) {
+        return finish(combine(combine(combine(SEED, h0), h1), h2), 3);
+    }
+
+    /**
+     * @return the hash code of a 4-tuple
+     */
+    /*package*/ static int hash(int h0, int h1, int h2, int h3) {
+        return finish(combine(combine(combine(combine(SEED, h0), h1), h2), h3), 4);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Returns a canonical instance for equal tuples.
+ * <p>
+ * Canonical instances can be compared with {@code ==}. Equality is determined by the {@code equals} and
+ * {@code hashCode} of the tuples. The tuples are weakly referenced so canonical instances that are no longer used
+ * elsewhere can be collected. The tuples are split across stripes, each guarded by its own lock, to reduce
+ * contention.
+ *
+ * @param <T> the type of tuple
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public final class TupleInterner<T> {
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int stripeBits;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private TupleInterner(int concurrency) {
+        stripeBits = Integer.numberOfTrailingZeros(concurrency);
+        stripeMask = concurrency - 1;
+        stripes = new Stripe[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Return the canonical instance of a tuple.
+     *
+     * @param tuple the tuple
+     * @return the canonical instance equal to the tuple, the tuple is the canonical instance if there is no other
+     * @throws NullPointerException if the tuple is null
+     */
+    @SuppressWarnings("unchecked")
+    public T intern(T tuple) {
+        final int hash = spread(tuple.hashCode());
+        final Object canonical = stripes[hash & stripeMask].putIfAbsent(tuple, hash >>> stripeBits);
+        if (canonical == null) {
+            misses.increment();
+            return tuple;
+        }
+        else {
+            hits.increment();
+            return (T) canonical;
+        }
+    }
+
+    /**
+     * @return the number of times an existing canonical instance was returned
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of times a tuple became a canonical instance
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the approximate number of canonical instances, may include instances that have been collected
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return a new interner
+     * @throws IllegalArgumentException if the concurrency is not a positive power of two
+     */
+    public static <T> TupleInterner<T> create(int concurrency) {
+        if (concurrency <= 0 || Integer.bitCount(concurrency) != 1) {
+            throw new IllegalArgumentException("Concurrency not a power of two " + concurrency);
+        }
+        return new TupleInterner<>(concurrency);
+    }
+
+    /**
+     * A hash set of weakly referenced tuples.
+     */
+    @ThreadSafe
+    private static final class Stripe {
+        private static final int INITIAL_CAPACITY = 16;
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        @GuardedBy("this")
+        private Entry[] table = new Entry[INITIAL_CAPACITY];
+        @GuardedBy("this")
+        private int count;
+
+        /**
+         * @return the existing equal tuple or null if the tuple was added
+         */
+        synchronized Object putIfAbsent(Object tuple, int hash) {
+            expunge();
+            final int index = hash & (table.length - 1);
+            for (Entry entry = table[index]; entry != null; entry = entry.next) {
+                final Object existing = entry.get();
+                if (entry.hash == hash && existing != null && existing.equals(tuple)) {
+                    return existing;
+                }
+            }
+            table[index] = new Entry(tuple, hash, table[index], queue);
+            count++;
+            if (count > table.length - (table.length >>> 2)) {
+                resize();
+            }
+            return null;
+        }
+
+        synchronized int size() {
+            expunge();
+            return count;
+        }
+
+        @GuardedBy("this")
+        private void expunge() {
+            for (Reference<?> cleared = queue.poll(); cleared != null; cleared = queue.poll()) {
+                final Entry entry = (Entry) cleared;
+                final int index = entry.hash & (table.length - 1);
+                Entry previous = null;
+                for (Entry current = table[index]; current != null; current = current.next) {
+                    if (current == entry) {
+                        if (previous == null) {
+                            table[index] = current.next;
+                        }
+                        else {
+                            previous.next = current.next;
+                        }
+                        count--;
+                        break;
+                    }
+                    previous = current;
+                }
+            }
+        }
+
+        @GuardedBy("this")
+        private void resize() {
+            final Entry[] newTable = new Entry[table.length * 2];
+            for (final Entry head : table) {
+                Entry entry = head;
+                while (entry != null) {
+                    final Entry next = entry.next;
+                    final int index = entry.hash & (newTable.length - 1);
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+            table = newTable;
+        }
+    }
+
+    /**
+     * A weakly referenced tuple in a chain of a stripe.
+     */
+    private static final class Entry extends WeakReference<Object> {
+        private final int hash;
+        private Entry next;
+
+        Entry(Object tuple, int hash, Entry next, ReferenceQueue<Object> queue) {
+            super(tuple, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * An open addressing hash table keyed by up to four values.
+ * <p>
+ * The values of each key are stored inline in a single array so that lookups do not create a tuple. Collisions are
+ * resolved by linear probing and removal shifts the following entries back so no tombstones are needed. The keys of
+ * lower arity tables pass {@code null} for the unused values.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+/*package*/ final class TupleKeyMap {
+    private static final int MIN_CAPACITY = 16;
+    private final int arity;
+    private Object[] keys;
+    private Object[] values;
+    /**
+     * The spread hash of each slot or zero if the slot is empty.
+     */
+    private int[] hashes;
+    private int size;
+    private int modCount;
+
+    TupleKeyMap(int arity, int expectedSize) {
+        this.arity = arity;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot of the key or -1 if it is not present
+     */
+    int find(int hash, Object k0, Object k1, Object k2, Object k3) {
+        final int mask = hashes.length - 1;
+        for (int slot = hash & mask; hashes[slot] != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(slot, k0, k1, k2, k3)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the value of the slot
+     */
+    Object value(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * @return value {@code j} of the key of the slot
+     */
+    Object key(int slot, int j) {
+        return keys[slot * arity + j];
+    }
+
+    /**
+     * Associate a value with a key.
+     *
+     * @return the previous value or null if there was none
+     */
+    Object put(int hash, Object k0, Object k1, Object k2, Object k3, Object value) {
+        final int mask = hashes.length - 1;
+        int slot = hash & mask;
+        for (; hashes[slot] != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(slot, k0, k1, k2, k3)) {
+                final Object previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        hashes[slot] = hash;
+        values[slot] = value;
+        final int base = slot * arity;
+        keys[base] = k0;
+        keys[base + 1] = k1;
+        if (arity > 2) {
+            keys[base + 2] = k2;
+        }
+        if (arity > 3) {
+            keys[base + 3] = k3;
+        }
+        size++;
+        modCount++;
+        if (size * 3 > hashes.length * 2) {
+            resize(hashes.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Remove the entry in a slot.
+     *
+     * @return the value of the removed entry
+     */
+    Object removeAt(int slot) {
+        final Object removed = values[slot];
+        final int mask = hashes.length - 1;
+        int gap = slot;
+        for (int i = (slot + 1) & mask; hashes[i] != 0; i = (i + 1) & mask) {
+            // Move the entry back to the gap unless the gap is before its ideal slot
+            if (((i - hashes[i]) & mask) >= ((i - gap) & mask)) {
+                move(i, gap);
+                gap = i;
+            }
+        }
+        hashes[gap] = 0;
+        values[gap] = null;
+        Arrays.fill(keys, gap * arity, gap * arity + arity, null);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    void clear() {
+        Arrays.fill(hashes, 0);
+        Arrays.fill(values, null);
+        Arrays.fill(keys, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @param keyFactory creates the key of an entry from its slot
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a view of the entries that creates the entries when iterated
+     */
+    <K, V> Set<Map.Entry<K, V>> entrySet(IntFunction<K> keyFactory) {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator<>(keyFactory);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private boolean matches(int slot, Object k0, Object k1, Object k2, Object k3) {
+        final int base = slot * arity;
+        return Objects.equals(keys[base], k0) &&
+            Objects.equals(keys[base + 1], k1) &&
+            matches(base, 2, k2) &&
+            matches(base, 3, k3);
+    }
+
+    private boolean matches(int base, int j, Object key) {
+        return j >= arity || Objects.equals(keys[base + j], key);
+    }
+
+    private void move(int from, int to) {
+        hashes[to] = hashes[from];
+        values[to] = values[from];
+        System.arraycopy(keys, from * arity, keys, to * arity, arity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity * arity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+    }
+
+    private void resize(int capacity) {
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int[] oldHashes = hashes;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                int slot = oldHashes[i] & mask;
+                while (hashes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                values[slot] = oldValues[i];
+                System.arraycopy(oldKeys, i * arity, keys, slot * arity, arity);
+            }
+        }
+    }
+
+    /*package*/ static int capacityFor(int expectedSize) {
+        final int minimum = Math.max(MIN_CAPACITY, expectedSize + (expectedSize >>> 1) + 1);
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+    /**
+     * @param hash the hash code of a key
+     * @return the spread hash of the key, never zero
+     */
+    static int spread(int hash) {
+        final int h = hash * 0x9E3779B9;
+        final int spread = h ^ (h >>> 16);
+        return spread == 0 ? 1 : spread;
+    }
+
+    /**
+     * Iterator over the entries that creates the keys.
+     */
+    private final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final IntFunction<K> keyFactory;
+        private final int expectedModCount = modCount;
+        private int slot = -1;
+        private int remaining = size;
+
+        EntryIterator(IntFunction<K> keyFactory) {
+            this.keyFactory = keyFactory;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            do {
+                slot++;
+            }
+            while (hashes[slot] == 0);
+            remaining--;
+            return new AbstractMap.SimpleImmutableEntry<>(keyFactory.apply(slot), (V) values[slot]);
+        }
+    }
+}
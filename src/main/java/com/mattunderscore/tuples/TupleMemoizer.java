@@ -0,0 +1,653 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes a function of two, three or four values.
+ * <p>
+ * The results are stored keyed by the values so no tuple is created for each call. The results are split across
+ * stripes, each guarded by its own lock. Results that have been computed are found without taking the lock. The
+ * result of each set of values is computed once, concurrent calls with equal values wait for the first call to
+ * compute it. If the function throws an exception no result is stored and the exception is thrown to the caller
+ * that computed it, waiting callers compute the result again.
+ * <p>
+ * The number of results is bounded. When a stripe is full a result that has not been used since the clock hand last
+ * passed it is evicted, approximating least recently used eviction. Results can also expire a fixed time after they
+ * were computed.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@ThreadSafe
+public abstract class TupleMemoizer {
+    private static final int DEFAULT_MAXIMUM_SIZE = 4096;
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final Object LOADING = new Object();
+    private static final Object FAILED = new Object();
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final long expireAfterNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /*package*/ TupleMemoizer(Builder builder) {
+        final int concurrency = Math.min(builder.concurrency, Integer.highestOneBit(builder.maximumSize));
+        final int capacity = (builder.maximumSize + concurrency - 1) / concurrency;
+        final int stripeBits = Integer.numberOfTrailingZeros(concurrency);
+        stripeMask = concurrency - 1;
+        stripes = new Stripe[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            stripes[i] = new Stripe(capacity, stripeBits, evictions);
+        }
+        expireAfterNanos = builder.expireAfterNanos;
+        ticker = builder.ticker;
+    }
+
+    /**
+     * @return the number of calls that used a stored result
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of calls that computed the result
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of results evicted to bound the size or because they expired
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of stored results, including results being computed
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Remove all stored results. Results being computed are not stored.
+     */
+    public void clear() {
+        for (final Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Compute the result of the function.
+     */
+    /*package*/ abstract Object load(Object k0, Object k1, Object k2, Object k3);
+
+    /**
+     * @return the stored or computed result for the values
+     */
+    /*package*/ final Object get(int hash, Object k0, Object k1, Object k2, Object k3) {
+        final Stripe stripe = stripes[hash & stripeMask];
+        while (true) {
+            final Entry found = stripe.find(hash, k0, k1, k2, k3);
+            if (found != null && !isExpired(found)) {
+                final Object value = found.await();
+                if (value != FAILED) {
+                    found.touch();
+                    hits.increment();
+                    return value;
+                }
+            }
+            else {
+                final Entry entry = new Entry(hash, k0, k1, k2, k3);
+                final Entry existing = stripe.putIfAbsent(entry, this);
+                if (existing == null) {
+                    misses.increment();
+                    return compute(stripe, entry);
+                }
+            }
+        }
+    }
+
+    private Object compute(Stripe stripe, Entry entry) {
+        boolean computed = false;
+        try {
+            final Object value = load(entry.k0, entry.k1, entry.k2, entry.k3);
+            entry.complete(value, expireAfterNanos == 0L ? 0L : ticker.getAsLong() + expireAfterNanos);
+            computed = true;
+            return value;
+        }
+        finally {
+            if (!computed) {
+                stripe.remove(entry);
+                entry.complete(FAILED, 0L);
+            }
+        }
+    }
+
+    /**
+     * @return if the result has expired, results being computed do not expire
+     */
+    private boolean isExpired(Entry entry) {
+        return expireAfterNanos != 0L && entry.value != LOADING && ticker.getAsLong() - entry.expiresAt >= 0L;
+    }
+
+    /**
+     * @return a builder of memoized functions
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Memoize a function of two values with the default bounds.
+     *
+     * @param function the function
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <R> the type of result
+     * @return the memoized function
+     */
+    public static <T0, T1, R> PairMemoizer<T0, T1, R> of(BiFunction<? super T0, ? super T1, ? extends R> function) {
+        return builder().of(function);
+    }
+
+    /**
+     * Memoize a function of three values with the default bounds.
+     *
+     * @param function the function
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @param <R> the type of result
+     * @return the memoized function
+     */
+    public static <T0, T1, T2, R> TripleMemoizer<T0, T1, T2, R> of(
+            TriFunction<? super T0, ? super T1, ? super T2, ? extends R> function) {
+        return builder().of(function);
+    }
+
+    /**
+     * Memoize a function of four values with the default bounds.
+     *
+     * @param function the function
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @param <T3> the type of value 3
+     * @param <R> the type of result
+     * @return the memoized function
+     */
+    public static <T0, T1, T2, T3, R> QuadMemoizer<T0, T1, T2, T3, R> of(
+            QuadFunction<? super T0, ? super T1, ? super T2, ? super T3, ? extends R> function) {
+        return builder().of(function);
+    }
+
+    /**
+     * Builder of memoized functions.
+     * <p>
+     * By default at most 4096 results are stored across 16 stripes and results do not expire.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private long expireAfterNanos;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of results stored. Each stripe stores an equal share of the results.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if the size is not positive
+         */
+        public Builder maximumSize(int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Maximum size not positive " + size);
+            }
+            maximumSize = size;
+            return this;
+        }
+
+        /**
+         * Set the number of stripes. The number of stripes is reduced if it is larger than the maximum size.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if the concurrency is not a positive power of two
+         */
+        public Builder concurrency(int stripes) {
+            if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+                throw new IllegalArgumentException("Concurrency not a power of two " + stripes);
+            }
+            concurrency = stripes;
+            return this;
+        }
+
+        /**
+         * Expire results a fixed time after they were computed.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if the duration is not positive
+         */
+        public Builder expireAfterWrite(Duration duration) {
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Expiry not positive " + duration);
+            }
+            expireAfterNanos = duration.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the source of time used for expiry, in nanoseconds. Defaults to {@link System#nanoTime()}.
+         *
+         * @return this builder
+         */
+        public Builder ticker(LongSupplier nanoTime) {
+            ticker = requireNonNull(nanoTime);
+            return this;
+        }
+
+        /**
+         * @return the memoized function
+         */
+        public <T0, T1, R> PairMemoizer<T0, T1, R> of(BiFunction<? super T0, ? super T1, ? extends R> function) {
+            return new PairMemoizer<>(this, requireNonNull(function));
+        }
+
+        /**
+         * @return the memoized function
+         */
+        public <T0, T1, T2, R> TripleMemoizer<T0, T1, T2, R> of(
+                TriFunction<? super T0, ? super T1, ? super T2, ? extends R> function) {
+            return new TripleMemoizer<>(this, requireNonNull(function));
+        }
+
+        /**
+         * @return the memoized function
+         */
+        public <T0, T1, T2, T3, R> QuadMemoizer<T0, T1, T2, T3, R> of(
+                QuadFunction<? super T0, ? super T1, ? super T2, ? super T3, ? extends R> function) {
+            return new QuadMemoizer<>(this, requireNonNull(function));
+        }
+    }
+
+    /**
+     * Memoized function of two values.
+     *
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <R> the type of result
+     */
+    @ThreadSafe
+    public static final class PairMemoizer<T0, T1, R> extends TupleMemoizer implements BiFunction<T0, T1, R> {
+        private final BiFunction<? super T0, ? super T1, ? extends R> function;
+
+        private PairMemoizer(Builder builder, BiFunction<? super T0, ? super T1, ? extends R> function) {
+            super(builder);
+            this.function = function;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(T0 v0, T1 v1) {
+            return (R) get(TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1)), v0, v1, null, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        /*package*/ Object load(Object k0, Object k1, Object k2, Object k3) {
+            return function.apply((T0) k0, (T1) k1);
+        }
+    }
+
+    /**
+     * Memoized function of three values.
+     *
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @param <R> the type of result
+     */
+    @ThreadSafe
+    public static final class TripleMemoizer<T0, T1, T2, R> extends TupleMemoizer implements TriFunction<T0, T1, T2, R> {
+        private final TriFunction<? super T0, ? super T1, ? super T2, ? extends R> function;
+
+        private TripleMemoizer(Builder builder, TriFunction<? super T0, ? super T1, ? super T2, ? extends R> function) {
+            super(builder);
+            this.function = function;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(T0 v0, T1 v1, T2 v2) {
+            final int hash = TupleHash.hash(Objects.hashCode(v0), Objects.hashCode(v1), Objects.hashCode(v2));
+            return (R) get(hash, v0, v1, v2, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        /*package*/ Object load(Object k0, Object k1, Object k2, Object k3) {
+            return function.apply((T0) k0, (T1) k1, (T2) k2);
+        }
+    }
+
+    /**
+     * Memoized function of four values.
+     *
+     * @param <T0> the type of value 0
+     * @param <T1> the type of value 1
+     * @param <T2> the type of value 2
+     * @param <T3> the type of value 3
+     * @param <R> the type of result
+     */
+    @ThreadSafe
+    public static final class QuadMemoizer<T0, T1, T2, T3, R> extends TupleMemoizer
+            implements QuadFunction<T0, T1, T2, T3, R> {
+        private final QuadFunction<? super T0, ? super T1, ? super T2, ? super T3, ? extends R> function;
+
+        private QuadMemoizer(
+                Builder builder,
+                QuadFunction<? super T0, ? super T1, ? super T2, ? super T3, ? extends R> function) {
+            super(builder);
+            this.function = function;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public R apply(T0 v0, T1 v1, T2 v2, T3 v3) {
+            final int hash = TupleHash.hash(
+                Objects.hashCode(v0),
+                Objects.hashCode(v1),
+                Objects.hashCode(v2),
+                Objects.hashCode(v3));
+            return (R) get(hash, v0, v1, v2, v3);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        /*package*/ Object load(Object k0, Object k1, Object k2, Object k3) {
+            return function.apply((T0) k0, (T1) k1, (T2) k2, (T3) k3);
+        }
+    }
+
+    /**
+     * A bounded hash table of results with lock-free lookups and clock eviction.
+     * <p>
+     * The entries are chained in the table and also held in a compact ring that the clock hand sweeps. Lookups
+     * without the lock may miss an entry that is being moved by a resize, the lookup is repeated with the lock held
+     * before a result is computed.
+     */
+    @ThreadSafe
+    private static final class Stripe {
+        private static final int INITIAL_CAPACITY = 16;
+        private final int capacity;
+        private final int shift;
+        private final LongAdder evictions;
+        private volatile Entry[] table = new Entry[INITIAL_CAPACITY];
+        @GuardedBy("this")
+        private Entry[] ring = new Entry[INITIAL_CAPACITY];
+        @GuardedBy("this")
+        private int count;
+        @GuardedBy("this")
+        private int hand;
+
+        Stripe(int capacity, int shift, LongAdder evictions) {
+            this.capacity = capacity;
+            this.shift = shift;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @return the entry for the values or null if it was not found
+         */
+        Entry find(int hash, Object k0, Object k1, Object k2, Object k3) {
+            final Entry[] current = table;
+            for (Entry entry = current[index(hash, current)]; entry != null; entry = entry.next) {
+                if (entry.matches(hash, k0, k1, k2, k3)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Add an entry unless there is an unexpired entry for the same values. Makes room by evicting an entry if the
+         * stripe is full.
+         *
+         * @return the existing entry or null if the entry was added
+         */
+        synchronized Entry putIfAbsent(Entry entry, TupleMemoizer memoizer) {
+            final Entry existing = find(entry.hash, entry.k0, entry.k1, entry.k2, entry.k3);
+            if (existing != null) {
+                if (!memoizer.isExpired(existing)) {
+                    return existing;
+                }
+                remove(existing);
+                evictions.increment();
+            }
+            if (count >= capacity) {
+                evict(memoizer);
+            }
+            if (count == ring.length) {
+                ring = Arrays.copyOf(ring, ring.length * 2);
+            }
+            entry.position = count;
+            ring[count] = entry;
+            count++;
+            final Entry[] current = table;
+            final int index = index(entry.hash, current);
+            entry.next = current[index];
+            current[index] = entry;
+            if (count > current.length - (current.length >>> 2)) {
+                resize();
+            }
+            return null;
+        }
+
+        /**
+         * Remove an entry if it is present.
+         */
+        synchronized void remove(Entry entry) {
+            final int position = entry.position;
+            if (position < 0 || ring[position] != entry) {
+                return;
+            }
+            final Entry[] current = table;
+            final int index = index(entry.hash, current);
+            if (current[index] == entry) {
+                current[index] = entry.next;
+            }
+            else {
+                Entry previous = current[index];
+                while (previous.next != entry) {
+                    previous = previous.next;
+                }
+                previous.next = entry.next;
+            }
+            count--;
+            ring[position] = ring[count];
+            ring[position].position = position;
+            ring[count] = null;
+            entry.position = -1;
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized void clear() {
+            for (int i = 0; i < count; i++) {
+                ring[i].position = -1;
+            }
+            table = new Entry[INITIAL_CAPACITY];
+            ring = new Entry[INITIAL_CAPACITY];
+            count = 0;
+            hand = 0;
+        }
+
+        /**
+         * Sweep the clock hand to evict an expired entry or an entry that has not been used since the hand last
+         * passed it. Entries being computed are skipped, if every entry is being computed none is evicted.
+         */
+        @GuardedBy("this")
+        private void evict(TupleMemoizer memoizer) {
+            for (int i = 0; i <= count * 2; i++) {
+                if (hand >= count) {
+                    hand = 0;
+                }
+                final Entry candidate = ring[hand];
+                if (candidate.value != LOADING) {
+                    if (!candidate.referenced || memoizer.isExpired(candidate)) {
+                        remove(candidate);
+                        evictions.increment();
+                        return;
+                    }
+                    candidate.referenced = false;
+                }
+                hand++;
+            }
+        }
+
+        @GuardedBy("this")
+        private void resize() {
+            final Entry[] oldTable = table;
+            final Entry[] newTable = new Entry[oldTable.length * 2];
+            for (final Entry head : oldTable) {
+                Entry entry = head;
+                while (entry != null) {
+                    final Entry next = entry.next;
+                    final int index = index(entry.hash, newTable);
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+            table = newTable;
+        }
+
+        private int index(int hash, Entry[] entries) {
+            return (hash >>> shift) & (entries.length - 1);
+        }
+    }
+
+    /**
+     * The result for a set of values.
+     * <p>
+     * The value is {@link #LOADING} until it has been computed and {@link #FAILED} if the computation threw an
+     * exception. Callers wait on the entry while it is loading.
+     */
+    @ThreadSafe
+    private static final class Entry {
+        private final int hash;
+        private final Object k0;
+        private final Object k1;
+        private final Object k2;
+        private final Object k3;
+        private volatile Entry next;
+        /**
+         * The thread computing the value, cleared once it is complete so the thread is not kept reachable.
+         */
+        private volatile Thread loader = Thread.currentThread();
+        private volatile Object value = LOADING;
+        private volatile boolean referenced;
+        /**
+         * Written before the value is published.
+         */
+        private long expiresAt;
+        /**
+         * The position in the ring of the stripe or -1 if it has been removed. Guarded by the stripe.
+         */
+        private int position = -1;
+
+        Entry(int hash, Object k0, Object k1, Object k2, Object k3) {
+            this.hash = hash;
+            this.k0 = k0;
+            this.k1 = k1;
+            this.k2 = k2;
+            this.k3 = k3;
+        }
+
+        boolean matches(int otherHash, Object v0, Object v1, Object v2, Object v3) {
+            return hash == otherHash && keysEqual(v0, v1, v2, v3);
+        }
+
+        private boolean keysEqual(Object v0, Object v1, Object v2, Object v3) {
+            return Objects.equals(k0, v0) &&
+                Objects.equals(k1, v1) &&
+                Objects.equals(k2, v2) &&
+                Objects.equals(k3, v3);
+        }
+
+        /**
+         * Mark the entry as used without writing to it if it is already marked.
+         */
+        void touch() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        /**
+         * @return the value once it has been computed
+         * @throws IllegalStateException if the value is being computed by the calling thread
+         */
+        Object await() {
+            Object current = value;
+            if (current != LOADING) {
+                return current;
+            }
+            if (loader == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive call with the same values");
+            }
+            boolean interrupted = false;
+            synchronized (this) {
+                current = value;
+                while (current == LOADING) {
+                    try {
+                        wait();
+                    }
+                    catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                    current = value;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return current;
+        }
+
+        synchronized void complete(Object result, long expiry) {
+            expiresAt = expiry;
+            value = result;
+            loader = null;
+            notifyAll();
+        }
+    }
+}
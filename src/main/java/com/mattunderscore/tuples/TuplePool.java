@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A pool of mutable tuples confined to the thread that created it.
+ * <p>
+ * Released tuples have their values cleared and are kept on a bounded stack until they are acquired again, tuples
+ * released to a full pool are left to be collected. The pool is not synchronized, using it from another thread throws
+ * an {@link IllegalStateException}. A pool for each thread can be held in a {@link ThreadLocal}. A tuple must not be
+ * used after it has been released.
+ *
+ * @param <M> the type of mutable tuple
+ * @author Matt Champion 18/10/2026
+ */
+@NotThreadSafe
+public final class TuplePool<M> {
+    private final Thread owner = Thread.currentThread();
+    private final Object[] free;
+    private final Supplier<M> factory;
+    private final Predicate<M> release;
+    private final Consumer<M> acquire;
+    private int size;
+    private long created;
+
+    private TuplePool(int capacity, Supplier<M> factory, Predicate<M> release, Consumer<M> acquire) {
+        free = new Object[capacity];
+        this.factory = factory;
+        this.release = release;
+        this.acquire = acquire;
+    }
+
+    /**
+     * Return a released tuple or create a new one if none is available. The values of a released tuple are null.
+     *
+     * @return a tuple
+     * @throws IllegalStateException if called from a thread other than the one that created the pool
+     */
+    @SuppressWarnings("unchecked")
+    public M acquire() {
+        checkOwner();
+        if (size == 0) {
+            created++;
+            return factory.get();
+        }
+        size--;
+        final M tuple = (M) free[size];
+        free[size] = null;
+        acquire.accept(tuple);
+        return tuple;
+    }
+
+    /**
+     * Release a tuple to the pool.
+     *
+     * @param tuple the tuple
+     * @throws IllegalStateException if called from a thread other than the one that created the pool
+     * @throws IllegalArgumentException if the tuple has already been released
+     */
+    public void release(M tuple) {
+        checkOwner();
+        if (!release.test(tuple)) {
+            throw new IllegalArgumentException("Tuple already released");
+        }
+        if (size < free.length) {
+            free[size] = tuple;
+            size++;
+        }
+    }
+
+    /**
+     * @return the number of released tuples available for reuse
+     */
+    public int available() {
+        return size;
+    }
+
+    /**
+     * @return the number of tuples created by the pool
+     */
+    public long created() {
+        return created;
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Pool used by " + Thread.currentThread() + " not by its owner " + owner);
+        }
+    }
+
+    /**
+     * @return a new pool
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    /*package*/ static <M> TuplePool<M> create(int capacity, Supplier<M> factory, Predicate<M> release, Consumer<M> acquire) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + capacity);
+        }
+        return new TuplePool<>(capacity, factory, release, acquire);
+    }
+}
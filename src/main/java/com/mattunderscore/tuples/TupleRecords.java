@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Conversions between records and tuples.
+ * <p>
+ * Converters are created the first time they are requested for a record and then reused. The access of the caller to
+ * the record is checked each time a converter is requested.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleRecords {
+    private static final ClassValue<AtomicReference<RecordConverter<?>>> CONVERTERS =
+        new ClassValue<AtomicReference<RecordConverter<?>>>() {
+            @Override
+            protected AtomicReference<RecordConverter<?>> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+
+    private TupleRecords() {
+    }
+
+    /**
+     * Return the converter for a record in this module or in a package open to it.
+     *
+     * @param type the type of record
+     * @param <R> the type of record
+     * @return the converter
+     * @throws IllegalArgumentException if the type is not a record or it is not open to this library, use
+     *         {@link #converter(MethodHandles.Lookup, Class)} for records that are not open to it
+     */
+    public static <R> RecordConverter<R> converter(Class<R> type) {
+        return converter(MethodHandles.lookup(), type);
+    }
+
+    /**
+     * Return the converter for a record using a lookup with access to it.
+     *
+     * @param lookup a lookup with full access to the module of the record, such as {@link MethodHandles#lookup()}
+     * @param type the type of record
+     * @param <R> the type of record
+     * @return the converter
+     * @throws IllegalArgumentException if the type is not a record or the lookup cannot access its members
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> RecordConverter<R> converter(MethodHandles.Lookup lookup, Class<R> type) {
+        final MethodHandles.Lookup recordLookup = RecordConverter.recordLookup(lookup, type);
+        final AtomicReference<RecordConverter<?>> cached = CONVERTERS.get(type);
+        final RecordConverter<?> converter = cached.get();
+        if (converter != null) {
+            return (RecordConverter<R>) converter;
+        }
+        // Converters created concurrently are equivalent, the first to be stored is kept
+        cached.compareAndSet(null, RecordConverter.create(recordLookup, type));
+        return (RecordConverter<R>) cached.get();
+    }
+}
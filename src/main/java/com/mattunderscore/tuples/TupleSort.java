@@ -0,0 +1,327 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Sorts columns of primitive values by computing the order of their indices.
+ * <p>
+ * The values are not moved. The order is a permutation of the indices that can be applied to each column, for
+ * example by {@link PairColumns#reorder(int[])}. Keys are compared lexicographically, the first key is the most
+ * significant. The sort is a stable least significant digit radix sort, a byte at a time. Passes where every value has
+ * the same byte are skipped. The parallel sort radix sorts ranges of the indices in parallel and merges them.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleSort {
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int BUCKET_MASK = BUCKETS - 1;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private TupleSort() {
+    }
+
+    /**
+     * @return a key of {@code int} values
+     */
+    public static Key key(int[] values) {
+        return key(values, values.length);
+    }
+
+    /**
+     * @return a key of the first {@code size} values
+     */
+    /*package*/ static Key key(int[] values, int size) {
+        return new Key(size, Integer.BYTES, i -> (values[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return a key of {@code long} values
+     */
+    public static Key key(long[] values) {
+        return key(values, values.length);
+    }
+
+    /**
+     * @return a key of the first {@code size} values
+     */
+    /*package*/ static Key key(long[] values, int size) {
+        return new Key(size, Long.BYTES, i -> values[i] ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * @return a key of {@code double} values, ordered as {@link Double#compare(double, double)}
+     */
+    public static Key key(double[] values) {
+        return key(values, values.length);
+    }
+
+    /**
+     * @return a key of the first {@code size} values
+     */
+    /*package*/ static Key key(double[] values, int size) {
+        return new Key(size, Double.BYTES, i -> sortableBits(values[i]));
+    }
+
+    /**
+     * Compute the order of the indices of the keys.
+     *
+     * @param keys the keys, the first key is the most significant
+     * @return the indices in sorted order
+     * @throws IllegalArgumentException if there are no keys or the keys are of different sizes
+     */
+    public static int[] order(Key... keys) {
+        return radixOrder(keys, 0, size(keys));
+    }
+
+    /**
+     * Compute the order of the indices of the keys in parallel.
+     *
+     * @param keys the keys, the first key is the most significant
+     * @return the indices in sorted order
+     * @throws IllegalArgumentException if there are no keys or the keys are of different sizes
+     */
+    public static int[] parallelOrder(Key... keys) {
+        final int size = size(keys);
+        if (size <= PARALLEL_THRESHOLD) {
+            return radixOrder(keys, 0, size);
+        }
+        else {
+            return ForkJoinPool.commonPool().invoke(new OrderTask(keys, 0, size));
+        }
+    }
+
+    /**
+     * @param values the values to reorder
+     * @param order the order of the indices
+     * @return a new array of the values in order
+     * @throws IndexOutOfBoundsException if the order contains an index out of range
+     */
+    public static long[] permute(long[] values, int[] order) {
+        final long[] permuted = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permuted[i] = values[order[i]];
+        }
+        return permuted;
+    }
+
+    /**
+     * @param values the values to reorder
+     * @param order the order of the indices
+     * @return a new array of the values in order
+     * @throws IndexOutOfBoundsException if the order contains an index out of range
+     */
+    public static int[] permute(int[] values, int[] order) {
+        final int[] permuted = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permuted[i] = values[order[i]];
+        }
+        return permuted;
+    }
+
+    /**
+     * @param values the values to reorder
+     * @param order the order of the indices
+     * @return a new array of the values in order
+     * @throws IndexOutOfBoundsException if the order contains an index out of range
+     */
+    public static double[] permute(double[] values, int[] order) {
+        final double[] permuted = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permuted[i] = values[order[i]];
+        }
+        return permuted;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the order is not a permutation of the indices up to {@code size}
+     */
+    /*package*/ static void checkPermutation(int[] order, int size) {
+        if (order.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " indices not " + order.length);
+        }
+        final boolean[] seen = new boolean[size];
+        for (final int index : order) {
+            if (index < 0 || index >= size || seen[index]) {
+                throw new IllegalArgumentException("Not a permutation, index " + index);
+            }
+            seen[index] = true;
+        }
+    }
+
+    private static int size(Key... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("No keys");
+        }
+        final int size = keys[0].size;
+        for (final Key key : keys) {
+            if (key.size != size) {
+                throw new IllegalArgumentException("Keys of different sizes " + size + " and " + key.size);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Radix sort a range of the indices.
+     */
+    private static int[] radixOrder(Key[] keys, int from, int to) {
+        final int n = to - from;
+        final Buffers buffers = new Buffers(n);
+        for (int i = 0; i < n; i++) {
+            buffers.order[i] = from + i;
+        }
+        // Sort by the least significant key first, the stability of each pass keeps the order of the later keys
+        for (int k = keys.length - 1; k >= 0; k--) {
+            final Key key = keys[k];
+            for (int i = 0; i < n; i++) {
+                buffers.bits[i] = key.bits.applyAsLong(buffers.order[i]);
+            }
+            for (int shift = 0; shift < key.bytes * Byte.SIZE; shift += RADIX_BITS) {
+                buffers.pass(shift);
+            }
+        }
+        return buffers.order;
+    }
+
+    /**
+     * Merge two sorted ranges of indices.
+     */
+    private static int[] merge(Key[] keys, int[] left, int[] right) {
+        final int[] merged = new int[left.length + right.length];
+        int l = 0;
+        int r = 0;
+        int i = 0;
+        while (l < left.length && r < right.length) {
+            // Take from the left when equal to keep the sort stable
+            merged[i++] = compare(keys, left[l], right[r]) <= 0 ? left[l++] : right[r++];
+        }
+        System.arraycopy(left, l, merged, i, left.length - l);
+        System.arraycopy(right, r, merged, i + left.length - l, right.length - r);
+        return merged;
+    }
+
+    private static int compare(Key[] keys, int a, int b) {
+        for (final Key key : keys) {
+            final int result = Long.compareUnsigned(key.bits.applyAsLong(a), key.bits.applyAsLong(b));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static long sortableBits(double value) {
+        final long bits = Double.doubleToLongBits(value);
+        // Flip all bits of negative values and the sign bit of positive values
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * A column of values to sort by.
+     * <p>
+     * The values are mapped to bits that sort in the same order when compared as unsigned integers.
+     */
+    @Immutable
+    public static final class Key {
+        private final int size;
+        private final int bytes;
+        private final IntToLongFunction bits;
+
+        private Key(int size, int bytes, IntToLongFunction bits) {
+            this.size = size;
+            this.bytes = bytes;
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * The indices and bits being sorted and the buffers they are scattered into.
+     */
+    private static final class Buffers {
+        private final int[] counts = new int[BUCKETS + 1];
+        private int[] order;
+        private long[] bits;
+        private int[] orderBuffer;
+        private long[] bitsBuffer;
+
+        Buffers(int n) {
+            order = new int[n];
+            bits = new long[n];
+            orderBuffer = new int[n];
+            bitsBuffer = new long[n];
+        }
+
+        /**
+         * Stable counting sort by the byte at {@code shift}.
+         */
+        void pass(int shift) {
+            final int n = order.length;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[bucket(bits[i], shift) + 1]++;
+            }
+            for (int b = 0; b < BUCKETS; b++) {
+                if (counts[b + 1] == n) {
+                    // Every value has the same byte
+                    return;
+                }
+                counts[b + 1] += counts[b];
+            }
+            for (int i = 0; i < n; i++) {
+                final int destination = counts[bucket(bits[i], shift)]++;
+                orderBuffer[destination] = order[i];
+                bitsBuffer[destination] = bits[i];
+            }
+            final int[] sortedOrder = orderBuffer;
+            orderBuffer = order;
+            order = sortedOrder;
+            final long[] sortedBits = bitsBuffer;
+            bitsBuffer = bits;
+            bits = sortedBits;
+        }
+
+        private static int bucket(long bits, int shift) {
+            return (int) (bits >>> shift) & BUCKET_MASK;
+        }
+    }
+
+    /**
+     * Orders a range of the indices, splitting it in half until it is small enough to radix sort.
+     */
+    private static final class OrderTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+        private final transient Key[] keys;
+        private final int from;
+        private final int to;
+
+        OrderTask(Key[] keys, int from, int to) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return radixOrder(keys, from, to);
+            }
+            else {
+                final int mid = (from + to) >>> 1;
+                final OrderTask left = new OrderTask(keys, from, mid);
+                left.fork();
+                final int[] right = new OrderTask(keys, mid, to).compute();
+                return merge(keys, left.join(), right);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Factory methods for working with tuples.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class Tuples {
+    private static final int DEFAULT_CONCURRENCY = 16;
+
+    private Tuples() {
+    }
+
+    /**
+     * @param <T> the type of tuple
+     * @return a new interner of tuples
+     */
+    public static <T> TupleInterner<T> interner() {
+        return TupleInterner.create(DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * @return the lexicographic order of tuples by the natural order of their values
+     */
+    public static LexicographicOrder lexicographic() {
+        return LexicographicOrder.NATURAL;
+    }
+
+    /**
+     * Zip lists into pairs. The stream is as long as the shortest list. Lists that support random access are split
+     * evenly by parallel streams.
+     *
+     * @return a stream of pairs of the values at each index
+     */
+    public static <T0, T1> Stream<Pair<T0, T1>> zip(List<? extends T0> list0, List<? extends T1> list1) {
+        if (list0 instanceof RandomAccess && list1 instanceof RandomAccess) {
+            return indexed(Math.min(list0.size(), list1.size()), i -> new Pair<>(list0.get(i), list1.get(i)));
+        }
+        else {
+            return zip(list0.spliterator(), list1.spliterator());
+        }
+    }
+
+    /**
+     * Zip lists into triples. The stream is as long as the shortest list. Lists that support random access are split
+     * evenly by parallel streams.
+     *
+     * @return a stream of triples of the values at each index
+     */
+    public static <T0, T1, T2> Stream<Triple<T0, T1, T2>> zip(
+            List<? extends T0> list0,
+            List<? extends T1> list1,
+            List<? extends T2> list2) {
+        if (list0 instanceof RandomAccess && list1 instanceof RandomAccess && list2 instanceof RandomAccess) {
+            return indexed(
+                Math.min(list0.size(), Math.min(list1.size(), list2.size())),
+                i -> new Triple<>(list0.get(i), list1.get(i), list2.get(i)));
+        }
+        else {
+            return zip(list0.spliterator(), list1.spliterator(), list2.spliterator());
+        }
+    }
+
+    /**
+     * Zip lists into quads. The stream is as long as the shortest list. Lists that support random access are split
+     * evenly by parallel streams.
+     *
+     * @return a stream of quads of the values at each index
+     */
+    public static <T0, T1, T2, T3> Stream<Quad<T0, T1, T2, T3>> zip(
+            List<? extends T0> list0,
+            List<? extends T1> list1,
+            List<? extends T2> list2,
+            List<? extends T3> list3) {
+        if (list0 instanceof RandomAccess && list1 instanceof RandomAccess &&
+            list2 instanceof RandomAccess && list3 instanceof RandomAccess) {
+            return indexed(
+                Math.min(Math.min(list0.size(), list1.size()), Math.min(list2.size(), list3.size())),
+                i -> new Quad<>(list0.get(i), list1.get(i), list2.get(i), list3.get(i)));
+        }
+        else {
+            return zip(list0.spliterator(), list1.spliterator(), list2.spliterator(), list3.spliterator());
+        }
+    }
+
+    /**
+     * Zip arrays into pairs. The stream is as long as the shortest array and is split evenly by parallel streams.
+     *
+     * @return a stream of pairs of the values at each index
+     */
+    public static <T0, T1> Stream<Pair<T0, T1>> zip(T0[] array0, T1[] array1) {
+        return indexed(Math.min(array0.length, array1.length), i -> new Pair<>(array0[i], array1[i]));
+    }
+
+    /**
+     * Zip arrays into triples. The stream is as long as the shortest array and is split evenly by parallel streams.
+     *
+     * @return a stream of triples of the values at each index
+     */
+    public static <T0, T1, T2> Stream<Triple<T0, T1, T2>> zip(T0[] array0, T1[] array1, T2[] array2) {
+        return indexed(
+            Math.min(array0.length, Math.min(array1.length, array2.length)),
+            i -> new Triple<>(array0[i], array1[i], array2[i]));
+    }
+
+    /**
+     * Zip arrays into quads. The stream is as long as the shortest array and is split evenly by parallel streams.
+     *
+     * @return a stream of quads of the values at each index
+     */
+    public static <T0, T1, T2, T3> Stream<Quad<T0, T1, T2, T3>> zip(T0[] array0, T1[] array1, T2[] array2, T3[] array3) {
+        return indexed(
+            Math.min(Math.min(array0.length, array1.length), Math.min(array2.length, array3.length)),
+            i -> new Quad<>(array0[i], array1[i], array2[i], array3[i]));
+    }
+
+    /**
+     * Zip spliterators into pairs. The stream is as long as the shortest spliterator. Parallel streams split it into
+     * batches.
+     *
+     * @return a stream of pairs of the next value of each spliterator
+     */
+    public static <T0, T1> Stream<Pair<T0, T1>> zip(Spliterator<? extends T0> source0, Spliterator<? extends T1> source1) {
+        return StreamSupport.stream(
+            new ZipSpliterator<>(values -> new Pair<T0, T1>(value(values, 0), value(values, 1)), source0, source1),
+            false);
+    }
+
+    /**
+     * Zip spliterators into triples. The stream is as long as the shortest spliterator. Parallel streams split it
+     * into batches.
+     *
+     * @return a stream of triples of the next value of each spliterator
+     */
+    public static <T0, T1, T2> Stream<Triple<T0, T1, T2>> zip(
+            Spliterator<? extends T0> source0,
+            Spliterator<? extends T1> source1,
+            Spliterator<? extends T2> source2) {
+        return StreamSupport.stream(
+            new ZipSpliterator<>(
+                values -> new Triple<T0, T1, T2>(value(values, 0), value(values, 1), value(values, 2)),
+                source0,
+                source1,
+                source2),
+            false);
+    }
+
+    /**
+     * Zip spliterators into quads. The stream is as long as the shortest spliterator. Parallel streams split it into
+     * batches.
+     *
+     * @return a stream of quads of the next value of each spliterator
+     */
+    public static <T0, T1, T2, T3> Stream<Quad<T0, T1, T2, T3>> zip(
+            Spliterator<? extends T0> source0,
+            Spliterator<? extends T1> source1,
+            Spliterator<? extends T2> source2,
+            Spliterator<? extends T3> source3) {
+        return StreamSupport.stream(
+            new ZipSpliterator<>(
+                values -> new Quad<T0, T1, T2, T3>(value(values, 0), value(values, 1), value(values, 2), value(values, 3)),
+                source0,
+                source1,
+                source2,
+                source3),
+            false);
+    }
+
+    private static <T> Stream<T> indexed(int size, IntFunction<T> zipper) {
+        return StreamSupport.stream(new IndexedZipSpliterator<>(zipper, 0, size), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T value(Object[] values, int i) {
+        return (T) values[i];
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import net.jcip.annotations.Immutable;
+
+import static com.mattunderscore.tuples.NTupleSchema.DOUBLE;
+import static com.mattunderscore.tuples.NTupleSchema.INT;
+import static com.mattunderscore.tuples.NTupleSchema.LONG;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A n-tuple with the arity and types of an {@link NTupleSchema}.
+ * <p>
+ * Avoids the boxing of primitive values required by {@link NTuple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+@Immutable
+public final class TypedNTuple {
+    private final NTupleSchema schema;
+    private final long[] primitives;
+    private final Object[] references;
+
+    /*package*/ TypedNTuple(NTupleSchema schema, long[] primitives, Object[] references) {
+        this.schema = schema;
+        this.primitives = primitives;
+        this.references = references;
+    }
+
+    /**
+     * @return the schema of the tuple
+     */
+    public NTupleSchema schema() {
+        return schema;
+    }
+
+    /**
+     * @return the arity of the tuple
+     */
+    public int arity() {
+        return schema.arity();
+    }
+
+    /**
+     * Return value {@code i}, primitive values are boxed.
+     *
+     * @param i the index of the value to access
+     * @param <T> the type of value {@code i}
+     * @return value {@code i}
+     * @throws ClassCastException if the expected type is not the actual type
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T v(int i) {
+        final int slot = schema.slot(i);
+        switch (schema.kind(i)) {
+            case INT:
+                return (T) Integer.valueOf((int) primitives[slot]);
+            case LONG:
+                return (T) Long.valueOf(primitives[slot]);
+            case DOUBLE:
+                return (T) Double.valueOf(Double.longBitsToDouble(primitives[slot]));
+            default:
+                return (T) references[slot];
+        }
+    }
+
+    /**
+     * @return value {@code i}
+     * @throws ClassCastException if value {@code i} is not an {@code int}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getInt(int i) {
+        return (int) primitives[schema.primitiveSlot(i, INT)];
+    }
+
+    /**
+     * @return value {@code i}
+     * @throws ClassCastException if value {@code i} is not a {@code long}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getLong(int i) {
+        return primitives[schema.primitiveSlot(i, LONG)];
+    }
+
+    /**
+     * @return value {@code i}
+     * @throws ClassCastException if value {@code i} is not a {@code double}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getDouble(int i) {
+        return Double.longBitsToDouble(primitives[schema.primitiveSlot(i, DOUBLE)]);
+    }
+
+    /**
+     * @return an n-tuple of the values, primitive values are boxed
+     */
+    public NTuple toNTuple() {
+        return new NTuple(values());
+    }
+
+    private Object[] values() {
+        final Object[] values = new Object[schema.arity()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = v(i);
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final TypedNTuple tuple = (TypedNTuple) o;
+        return schema.equals(tuple.schema) &&
+            Arrays.equals(primitives, tuple.primitives) &&
+            Arrays.equals(references, tuple.references);
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with the hash code of the boxed tuple
+        int hash = TupleHash.SEED;
+        for (int i = 0; i < schema.arity(); i++) {
+            hash = TupleHash.combine(hash, hashCode(i));
+        }
+        return TupleHash.finish(hash, schema.arity());
+    }
+
+    private int hashCode(int i) {
+        final int slot = schema.slot(i);
+        switch (schema.kind(i)) {
+            case INT:
+                return Integer.hashCode((int) primitives[slot]);
+            case LONG:
+                return Long.hashCode(primitives[slot]);
+            case DOUBLE:
+                return Double.hashCode(Double.longBitsToDouble(primitives[slot]));
+            default:
+                return Objects.hashCode(references[slot]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values());
+    }
+}
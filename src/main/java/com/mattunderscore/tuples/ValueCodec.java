@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes a value of a tuple.
+ * <p>
+ * Null values are recorded by the {@link TupleCodec} so are never passed to the codec.
+ *
+ * @param <T> the type of value
+ * @author Matt Champion 18/10/2026
+ */
+public interface ValueCodec<T> {
+    /**
+     * Write the value to the buffer.
+     *
+     * @throws java.nio.BufferOverflowException if there is not enough space in the buffer
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Read a value from the buffer.
+     *
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes in the buffer
+     */
+    T decode(ByteBuffer buffer);
+}
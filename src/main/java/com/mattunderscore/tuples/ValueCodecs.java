@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Codecs of common values and the variable length encoding of integers they use.
+ * <p>
+ * Integers are written seven bits at a time with the high bit of each byte set if more bytes follow. Signed
+ * integers are zigzag encoded first so that small negative values are also short.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class ValueCodecs {
+    private static final int MAX_VAR_LONG_BYTES = 10;
+    private static final ValueCodec<Integer> INTS = new ValueCodec<>() {
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            putVarLong(buffer, zigzag(value));
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return (int) unzigzag(getVarLong(buffer));
+        }
+    };
+    private static final ValueCodec<Long> LONGS = new ValueCodec<>() {
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            putVarLong(buffer, zigzag(value));
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return unzigzag(getVarLong(buffer));
+        }
+    };
+    private static final ValueCodec<Double> DOUBLES = new ValueCodec<>() {
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+    private static final ValueCodec<String> STRINGS = new ValueCodec<>() {
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            final byte[] bytes = value.getBytes(UTF_8);
+            putVarLong(buffer, bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            final long encodedLength = getVarLong(buffer);
+            if (encodedLength < 0L) {
+                throw new IllegalArgumentException("Negative string length " + encodedLength);
+            }
+            else if (encodedLength > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            final int length = (int) encodedLength;
+            final String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+            else {
+                final byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                value = new String(bytes, UTF_8);
+            }
+            return value;
+        }
+    };
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * @return a codec of {@code int} values using a variable length encoding
+     */
+    public static ValueCodec<Integer> ints() {
+        return INTS;
+    }
+
+    /**
+     * @return a codec of {@code long} values using a variable length encoding
+     */
+    public static ValueCodec<Long> longs() {
+        return LONGS;
+    }
+
+    /**
+     * @return a codec of {@code double} values
+     */
+    public static ValueCodec<Double> doubles() {
+        return DOUBLES;
+    }
+
+    /**
+     * @return a codec of UTF-8 strings prefixed with their length
+     */
+    public static ValueCodec<String> strings() {
+        return STRINGS;
+    }
+
+    /**
+     * Write an unsigned variable length integer.
+     *
+     * @throws java.nio.BufferOverflowException if there is not enough space in the buffer
+     */
+    public static void putVarLong(ByteBuffer buffer, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Read an unsigned variable length integer.
+     *
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes in the buffer
+     * @throws IllegalArgumentException if the integer is longer than ten bytes
+     */
+    public static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int i = 0; i < MAX_VAR_LONG_BYTES; i++) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << (i * 7);
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Variable length integer too long");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A spliterator of tuples zipped from other spliterators.
+ * <p>
+ * The sources cannot be split at the same position so a split takes a batch of tuples into an array, as
+ * {@link Spliterators#spliteratorUnknownSize(java.util.Iterator, int)} does. The batches grow with each split.
+ *
+ * @param <T> the type of tuple
+ * @author Matt Champion 18/10/2026
+ */
+/*package*/ final class ZipSpliterator<T> implements Spliterator<T> {
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private final Spliterator<?>[] sources;
+    private final Function<Object[], T> zipper;
+    private final Object[] values;
+    private final Consumer<Object>[] setters;
+    private final int characteristics;
+    private int batch;
+
+    /**
+     * @param zipper creates the tuple from the next value of each source
+     * @param sources the sources
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ZipSpliterator(Function<Object[], T> zipper, Spliterator<?>... sources) {
+        this.sources = sources;
+        this.zipper = zipper;
+        values = new Object[sources.length];
+        setters = new Consumer[sources.length];
+        int common = ORDERED | SIZED;
+        for (int i = 0; i < sources.length; i++) {
+            final int j = i;
+            setters[i] = value -> values[j] = value;
+            common &= sources[i].characteristics();
+        }
+        characteristics = common | NONNULL;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (advanceSources()) {
+            action.accept(zipper.apply(values));
+            return true;
+        }
+        else {
+            return false;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long size = estimateSize();
+        if (size <= 1) {
+            return null;
+        }
+        final int n = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), size);
+        final Object[] tuples = new Object[n];
+        int taken = 0;
+        while (taken < n && advanceSources()) {
+            tuples[taken++] = zipper.apply(values);
+        }
+        if (taken == 0) {
+            return null;
+        }
+        batch = taken;
+        return Spliterators.spliterator(tuples, 0, taken, (characteristics & ORDERED) | NONNULL);
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = Long.MAX_VALUE;
+        for (final Spliterator<?> source : sources) {
+            size = Math.min(size, source.estimateSize());
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    /**
+     * Take the next value of each source.
+     *
+     * @return false if any source has no more values
+     */
+    @SuppressWarnings("unchecked")
+    private boolean advanceSources() {
+        for (int i = 0; i < sources.length; i++) {
+            if (!((Spliterator<Object>) sources[i]).tryAdvance(setters[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AtomicLongPair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class AtomicLongPairTest {
+
+    /**
+     * Test getting and setting the values.
+     */
+    @Test
+    public void testGetAndSet() {
+        final AtomicLongPair pair = AtomicLongPair.of(1L, 2L);
+
+        assertEquals(LongPair.of(1L, 2L), pair.get());
+        pair.set(3L, 4L);
+        assertEquals(3L, pair.v0());
+        assertEquals(4L, pair.v1());
+        final long[] values = new long[2];
+        pair.get(values);
+        assertArrayEquals(new long[] {3L, 4L}, values);
+        assertEquals(7L, pair.applyAsLong(Long::sum));
+        assertEquals("[3, 4]", pair.toString());
+    }
+
+    /**
+     * Test getting the values into an array that is too short.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetShortArray() {
+        AtomicLongPair.of(1L, 2L).get(new long[1]);
+    }
+
+    /**
+     * Test compare and set.
+     */
+    @Test
+    public void testCompareAndSet() {
+        final AtomicLongPair pair = AtomicLongPair.of(1L, 2L);
+
+        assertFalse(pair.compareAndSet(1L, 3L, 5L, 6L));
+        assertTrue(pair.compareAndSet(1L, 2L, 5L, 6L));
+        assertEquals(LongPair.of(5L, 6L), pair.get());
+    }
+
+    /**
+     * Test accumulating a minimum and maximum.
+     */
+    @Test
+    public void testAccumulateAndGet() {
+        final AtomicLongPair pair = AtomicLongPair.of(Long.MAX_VALUE, Long.MIN_VALUE);
+
+        pair.accumulateAndGet(5L, 5L, Math::min, Math::max);
+        pair.accumulateAndGet(3L, 3L, Math::min, Math::max);
+        assertEquals(LongPair.of(3L, 8L), pair.accumulateAndGet(8L, 8L, Math::min, Math::max));
+    }
+
+    /**
+     * Test updating the values.
+     */
+    @Test
+    public void testUpdateAndGet() {
+        final AtomicLongPair pair = AtomicLongPair.of(1L, 2L);
+
+        assertEquals(LongPair.of(2L, 1L), pair.updateAndGet(p -> LongPair.of(p.v1(), p.v0())));
+        assertEquals(LongPair.of(2L, 1L), pair.get());
+    }
+
+    /**
+     * Test readers always see values written together while writers update them concurrently.
+     */
+    @Test
+    public void testConcurrentConsistency() throws InterruptedException, ExecutionException {
+        final AtomicLongPair pair = AtomicLongPair.of(0L, 0L);
+        final AtomicBoolean inconsistent = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        pair.accumulateAndGet(1L, -1L, Long::sum, Long::sum);
+                    }
+                }));
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        if (pair.applyAsLong(Long::sum) != 0L) {
+                            inconsistent.set(true);
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertFalse(inconsistent.get());
+        assertEquals(LongPair.of(20000L, -20000L), pair.get());
+    }
+}
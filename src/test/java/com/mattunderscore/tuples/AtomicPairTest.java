@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AtomicPair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class AtomicPairTest {
+
+    /**
+     * Test getting and setting the values.
+     */
+    @Test
+    public void testGetAndSet() {
+        final AtomicPair<String, Integer> pair = AtomicPair.of("a", 1);
+
+        assertEquals(Pair.of("a", 1), pair.get());
+        assertEquals(Pair.of("a", 1), pair.getAndSet("b", 2));
+        assertEquals("b", pair.v0());
+        assertEquals(2, (int) pair.v1());
+        pair.set("c", 3);
+        assertEquals(Pair.of("c", 3), pair.get());
+        assertEquals("[c, 3]", pair.toString());
+    }
+
+    /**
+     * Test compare and set compares the values by identity.
+     */
+    @Test
+    public void testCompareAndSet() {
+        final String a = "a";
+        final String b = "b";
+        final AtomicPair<String, String> pair = AtomicPair.of(a, b);
+
+        assertFalse(pair.compareAndSet(a, new String("b"), b, a));
+        assertFalse(pair.compareAndSet(b, b, b, a));
+        assertTrue(pair.compareAndSet(a, b, b, a));
+        assertEquals(Pair.of("b", "a"), pair.get());
+    }
+
+    /**
+     * Test updating the values.
+     */
+    @Test
+    public void testUpdateAndGet() {
+        final AtomicPair<Integer, Integer> pair = AtomicPair.of(1, 2);
+
+        assertEquals(Pair.of(2, 1), pair.updateAndGet(p -> Pair.of(p.v1(), p.v0())));
+        assertEquals(Pair.of(2, 1), pair.get());
+    }
+
+    /**
+     * Test accumulating values.
+     */
+    @Test
+    public void testAccumulateAndGet() {
+        final AtomicPair<Integer, Integer> pair = AtomicPair.of(5, 5);
+
+        pair.accumulateAndGet(Pair.of(3, 3), (p, x) -> Pair.of(Math.min(p.v0(), x.v0()), Math.max(p.v1(), x.v1())));
+        pair.accumulateAndGet(Pair.of(8, 8), (p, x) -> Pair.of(Math.min(p.v0(), x.v0()), Math.max(p.v1(), x.v1())));
+
+        assertEquals(Pair.of(3, 8), pair.get());
+    }
+
+    /**
+     * Test concurrent updates are not lost.
+     */
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException, ExecutionException {
+        final AtomicPair<Integer, Integer> pair = AtomicPair.of(0, 0);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        pair.updateAndGet(p -> Pair.of(p.v0() + 1, p.v1() - 1));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(Pair.of(40000, -40000), pair.get());
+    }
+}
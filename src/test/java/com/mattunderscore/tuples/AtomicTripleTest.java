@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AtomicTriple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class AtomicTripleTest {
+
+    /**
+     * Test getting and setting the values.
+     */
+    @Test
+    public void testGetAndSet() {
+        final AtomicTriple<String, Integer, Long> triple = AtomicTriple.of("a", 1, 2L);
+
+        assertEquals(Triple.of("a", 1, 2L), triple.get());
+        assertEquals(Triple.of("a", 1, 2L), triple.getAndSet("b", 2, 3L));
+        assertEquals("b", triple.v0());
+        assertEquals(2, (int) triple.v1());
+        assertEquals(3L, (long) triple.v2());
+        triple.set("c", 3, 4L);
+        assertEquals(Triple.of("c", 3, 4L), triple.get());
+    }
+
+    /**
+     * Test compare and set compares the values by identity.
+     */
+    @Test
+    public void testCompareAndSet() {
+        final String a = "a";
+        final String b = "b";
+        final AtomicTriple<String, String, String> triple = AtomicTriple.of(a, b, a);
+
+        assertFalse(triple.compareAndSet(a, b, new String("a"), b, b, b));
+        assertTrue(triple.compareAndSet(a, b, a, b, b, b));
+        assertEquals(Triple.of("b", "b", "b"), triple.get());
+    }
+
+    /**
+     * Test updating and accumulating the values.
+     */
+    @Test
+    public void testUpdateAndAccumulate() {
+        final AtomicTriple<Integer, Integer, Integer> triple = AtomicTriple.of(1, 2, 3);
+
+        assertEquals(Triple.of(3, 2, 1), triple.updateAndGet(t -> Triple.of(t.v2(), t.v1(), t.v0())));
+        assertEquals(
+            Triple.of(4, 4, 4),
+            triple.accumulateAndGet(Triple.of(1, 2, 3), (t, x) -> Triple.of(t.v0() + x.v0(), t.v1() + x.v1(), t.v2() + x.v2())));
+    }
+
+    /**
+     * Test concurrent updates are not lost.
+     */
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException, ExecutionException {
+        final AtomicTriple<Integer, Integer, Integer> triple = AtomicTriple.of(0, 0, 0);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        triple.updateAndGet(t -> Triple.of(t.v0() + 1, t.v1() + 2, t.v2() + 3));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(Triple.of(40000, 80000, 120000), triple.get());
+    }
+}
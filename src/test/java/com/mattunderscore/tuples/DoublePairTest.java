@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link DoublePair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class DoublePairTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private DoubleConsumer doubleConsumer;
+    @Mock
+    private DoubleFunction<Object> doubleFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final DoublePair pair = DoublePair.of(1.0, 2.0);
+
+        assertEquals(1.0, pair.v0(), 0.0);
+        assertEquals(2.0, pair.v1(), 0.0);
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final DoublePair pair = DoublePair.of(1.0, 2.0);
+
+        pair.acceptV0(doubleConsumer);
+        verify(doubleConsumer).accept(1.0);
+
+        pair.acceptV1(doubleConsumer);
+        verify(doubleConsumer).accept(2.0);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final DoublePair pair = DoublePair.of(1.0, 2.0);
+
+        pair.applyV0(doubleFunction);
+        verify(doubleFunction).apply(1.0);
+
+        pair.applyV1(doubleFunction);
+        verify(doubleFunction).apply(2.0);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+        final DoublePair pair1 = pair0.mapV0(v -> v + 1.0);
+
+        assertEquals(DoublePair.of(2.0, 2.0), pair1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+        final DoublePair pair1 = pair0.mapV1(v -> v + 1.0);
+
+        assertEquals(DoublePair.of(1.0, 3.0), pair1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+        final DoublePair pair1 = pair0.map(v -> v + 1.0, v -> v + 1.0);
+
+        assertEquals(DoublePair.of(2.0, 3.0), pair1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final DoublePair pair = DoublePair.of(1.0, 2.0);
+
+        assertEquals("[1.0, 2.0]", pair.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+        final DoublePair pair1 = DoublePair.of(1.0, 2.0);
+
+        assertTrue(pair0.equals(pair1));
+        assertTrue(pair1.equals(pair0));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+
+        assertFalse(pair0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+
+        assertFalse(pair0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+        final DoublePair pair1 = DoublePair.of(1.0, 5.0);
+
+        assertFalse(pair0.equals(pair1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+
+        assertTrue(pair0.equals(pair0));
+    }
+
+    /**
+     * Test conversion to and from {@link Pair}.
+     */
+    @Test
+    public void testToPair() {
+        final DoublePair pair0 = DoublePair.of(1.0, 2.0);
+        final Pair<Double, Double> boxed = pair0.toPair();
+
+        assertEquals(Pair.of(1.0, 2.0), boxed);
+        assertEquals(pair0.hashCode(), boxed.hashCode());
+        assertEquals(pair0, DoublePair.from(boxed));
+    }
+
+    /**
+     * Test NaN values are equal, consistent with {@link Double#equals(Object)}.
+     */
+    @Test
+    public void testEqualsNaN() {
+        final DoublePair pair0 = DoublePair.of(Double.NaN, 2.0);
+        final DoublePair pair1 = DoublePair.of(Double.NaN, 2.0);
+
+        assertTrue(pair0.equals(pair1));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        DoublePair.from(Pair.of(1.0, null));
+    }
+}
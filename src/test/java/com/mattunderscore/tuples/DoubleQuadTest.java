@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link DoubleQuad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class DoubleQuadTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private DoubleConsumer doubleConsumer;
+    @Mock
+    private DoubleFunction<Object> doubleFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final DoubleQuad quad = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        assertEquals(1.0, quad.v0(), 0.0);
+        assertEquals(2.0, quad.v1(), 0.0);
+        assertEquals(3.0, quad.v2(), 0.0);
+        assertEquals(4.0, quad.v3(), 0.0);
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final DoubleQuad quad = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        quad.acceptV0(doubleConsumer);
+        verify(doubleConsumer).accept(1.0);
+
+        quad.acceptV1(doubleConsumer);
+        verify(doubleConsumer).accept(2.0);
+
+        quad.acceptV2(doubleConsumer);
+        verify(doubleConsumer).accept(3.0);
+
+        quad.acceptV3(doubleConsumer);
+        verify(doubleConsumer).accept(4.0);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final DoubleQuad quad = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        quad.applyV0(doubleFunction);
+        verify(doubleFunction).apply(1.0);
+
+        quad.applyV1(doubleFunction);
+        verify(doubleFunction).apply(2.0);
+
+        quad.applyV2(doubleFunction);
+        verify(doubleFunction).apply(3.0);
+
+        quad.applyV3(doubleFunction);
+        verify(doubleFunction).apply(4.0);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = quad0.mapV0(v -> v + 1.0);
+
+        assertEquals(DoubleQuad.of(2.0, 2.0, 3.0, 4.0), quad1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = quad0.mapV1(v -> v + 1.0);
+
+        assertEquals(DoubleQuad.of(1.0, 3.0, 3.0, 4.0), quad1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = quad0.mapV2(v -> v + 1.0);
+
+        assertEquals(DoubleQuad.of(1.0, 2.0, 4.0, 4.0), quad1);
+    }
+
+    /**
+     * Test mapping value 3.
+     */
+    @Test
+    public void testMapV3() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = quad0.mapV3(v -> v + 1.0);
+
+        assertEquals(DoubleQuad.of(1.0, 2.0, 3.0, 5.0), quad1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = quad0.map(v -> v + 1.0, v -> v + 1.0, v -> v + 1.0, v -> v + 1.0);
+
+        assertEquals(DoubleQuad.of(2.0, 3.0, 4.0, 5.0), quad1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final DoubleQuad quad = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        assertEquals("[1.0, 2.0, 3.0, 4.0]", quad.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        assertTrue(quad0.equals(quad1));
+        assertTrue(quad1.equals(quad0));
+        assertEquals(quad0.hashCode(), quad1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        assertFalse(quad0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        assertFalse(quad0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = DoubleQuad.of(1.0, 2.0, 3.0, 5.0);
+
+        assertFalse(quad0.equals(quad1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+
+        assertTrue(quad0.equals(quad0));
+    }
+
+    /**
+     * Test conversion to and from {@link Quad}.
+     */
+    @Test
+    public void testToQuad() {
+        final DoubleQuad quad0 = DoubleQuad.of(1.0, 2.0, 3.0, 4.0);
+        final Quad<Double, Double, Double, Double> boxed = quad0.toQuad();
+
+        assertEquals(Quad.of(1.0, 2.0, 3.0, 4.0), boxed);
+        assertEquals(quad0.hashCode(), boxed.hashCode());
+        assertEquals(quad0, DoubleQuad.from(boxed));
+    }
+
+    /**
+     * Test NaN values are equal, consistent with {@link Double#equals(Object)}.
+     */
+    @Test
+    public void testEqualsNaN() {
+        final DoubleQuad quad0 = DoubleQuad.of(Double.NaN, 2.0, 3.0, 4.0);
+        final DoubleQuad quad1 = DoubleQuad.of(Double.NaN, 2.0, 3.0, 4.0);
+
+        assertTrue(quad0.equals(quad1));
+        assertEquals(quad0.hashCode(), quad1.hashCode());
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        DoubleQuad.from(Quad.of(1.0, 2.0, 3.0, null));
+    }
+}
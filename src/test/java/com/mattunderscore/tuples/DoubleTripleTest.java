@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link DoubleTriple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class DoubleTripleTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private DoubleConsumer doubleConsumer;
+    @Mock
+    private DoubleFunction<Object> doubleFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final DoubleTriple triple = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        assertEquals(1.0, triple.v0(), 0.0);
+        assertEquals(2.0, triple.v1(), 0.0);
+        assertEquals(3.0, triple.v2(), 0.0);
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final DoubleTriple triple = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        triple.acceptV0(doubleConsumer);
+        verify(doubleConsumer).accept(1.0);
+
+        triple.acceptV1(doubleConsumer);
+        verify(doubleConsumer).accept(2.0);
+
+        triple.acceptV2(doubleConsumer);
+        verify(doubleConsumer).accept(3.0);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final DoubleTriple triple = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        triple.applyV0(doubleFunction);
+        verify(doubleFunction).apply(1.0);
+
+        triple.applyV1(doubleFunction);
+        verify(doubleFunction).apply(2.0);
+
+        triple.applyV2(doubleFunction);
+        verify(doubleFunction).apply(3.0);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final DoubleTriple triple1 = triple0.mapV0(v -> v + 1.0);
+
+        assertEquals(DoubleTriple.of(2.0, 2.0, 3.0), triple1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final DoubleTriple triple1 = triple0.mapV1(v -> v + 1.0);
+
+        assertEquals(DoubleTriple.of(1.0, 3.0, 3.0), triple1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final DoubleTriple triple1 = triple0.mapV2(v -> v + 1.0);
+
+        assertEquals(DoubleTriple.of(1.0, 2.0, 4.0), triple1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final DoubleTriple triple1 = triple0.map(v -> v + 1.0, v -> v + 1.0, v -> v + 1.0);
+
+        assertEquals(DoubleTriple.of(2.0, 3.0, 4.0), triple1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final DoubleTriple triple = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        assertEquals("[1.0, 2.0, 3.0]", triple.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final DoubleTriple triple1 = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        assertTrue(triple0.equals(triple1));
+        assertTrue(triple1.equals(triple0));
+        assertEquals(triple0.hashCode(), triple1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        assertFalse(triple0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        assertFalse(triple0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final DoubleTriple triple1 = DoubleTriple.of(1.0, 2.0, 5.0);
+
+        assertFalse(triple0.equals(triple1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+
+        assertTrue(triple0.equals(triple0));
+    }
+
+    /**
+     * Test conversion to and from {@link Triple}.
+     */
+    @Test
+    public void testToTriple() {
+        final DoubleTriple triple0 = DoubleTriple.of(1.0, 2.0, 3.0);
+        final Triple<Double, Double, Double> boxed = triple0.toTriple();
+
+        assertEquals(Triple.of(1.0, 2.0, 3.0), boxed);
+        assertEquals(triple0.hashCode(), boxed.hashCode());
+        assertEquals(triple0, DoubleTriple.from(boxed));
+    }
+
+    /**
+     * Test NaN values are equal, consistent with {@link Double#equals(Object)}.
+     */
+    @Test
+    public void testEqualsNaN() {
+        final DoubleTriple triple0 = DoubleTriple.of(Double.NaN, 2.0, 3.0);
+        final DoubleTriple triple1 = DoubleTriple.of(Double.NaN, 2.0, 3.0);
+
+        assertTrue(triple0.equals(triple1));
+        assertEquals(triple0.hashCode(), triple1.hashCode());
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        DoubleTriple.from(Triple.of(1.0, 2.0, null));
+    }
+}
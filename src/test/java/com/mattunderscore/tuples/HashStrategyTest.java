@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HashStrategy}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class HashStrategyTest {
+
+    /**
+     * Test the polynomial strategy is the same as {@link Objects#hash(Object...)}.
+     */
+    @Test
+    public void testPolynomial() {
+        final HashStrategy strategy = HashStrategy.polynomial();
+
+        assertEquals(Objects.hash(1, "a"), strategy.hash(1, "a".hashCode()));
+        assertEquals(Objects.hash(1, 2, 3), strategy.hash(1, 2, 3));
+        assertEquals(Objects.hash(1, 2, 3, 4), strategy.hash(1, 2, 3, 4));
+        assertEquals(strategy.hash(0, 31), strategy.hash(1, 0));
+    }
+
+    /**
+     * Test the mixed strategy is the same as the hash code of the tuples.
+     */
+    @Test
+    public void testMixed() {
+        final HashStrategy strategy = HashStrategy.mixed();
+
+        assertEquals(Pair.of(1, "a").hashCode(), strategy.hash(1, "a".hashCode()));
+        assertEquals(Triple.of(1, 2, 3).hashCode(), strategy.hash(1, 2, 3));
+        assertEquals(Quad.of(1, 2, 3, 4).hashCode(), strategy.hash(1, 2, 3, 4));
+        assertTrue(strategy.hash(0, 31) != strategy.hash(1, 0));
+    }
+
+    /**
+     * Test the hash codes of pairs of small integers do not collide.
+     */
+    @Test
+    public void testGridDistribution() {
+        final Set<Integer> hashes = new HashSet<>();
+        final Set<Integer> buckets = new HashSet<>();
+        for (int i = 0; i < 64; i++) {
+            for (int j = 0; j < 64; j++) {
+                final int hash = Pair.of(i, j).hashCode();
+                hashes.add(hash);
+                buckets.add((hash ^ (hash >>> 16)) & 4095);
+            }
+        }
+
+        assertEquals(4096, hashes.size());
+        // A random hash fills about 63% of the buckets
+        assertTrue("Filled " + buckets.size(), buckets.size() > 2400);
+    }
+
+    /**
+     * Test a map keyed with the polynomial strategy.
+     */
+    @Test
+    public void testMapStrategy() {
+        final PairMap<Integer, Integer, String> map = PairMap.create(0, HashStrategy.polynomial());
+        map.put(0, 31, "a");
+        map.put(1, 0, "b");
+
+        assertEquals(2, map.size());
+        assertEquals("a", map.get(0, 31));
+        assertEquals("b", map.get(1, 0));
+    }
+}
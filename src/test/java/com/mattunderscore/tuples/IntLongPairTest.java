@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link IntLongPair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class IntLongPairTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private IntConsumer intConsumer;
+    @Mock
+    private IntFunction<Object> intFunction;
+    @Mock
+    private LongConsumer longConsumer;
+    @Mock
+    private LongFunction<Object> longFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final IntLongPair pair = IntLongPair.of(1, 2L);
+
+        assertEquals(1, pair.v0());
+        assertEquals(2L, pair.v1());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final IntLongPair pair = IntLongPair.of(1, 2L);
+
+        pair.acceptV0(intConsumer);
+        verify(intConsumer).accept(1);
+
+        pair.acceptV1(longConsumer);
+        verify(longConsumer).accept(2L);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final IntLongPair pair = IntLongPair.of(1, 2L);
+
+        pair.applyV0(intFunction);
+        verify(intFunction).apply(1);
+
+        pair.applyV1(longFunction);
+        verify(longFunction).apply(2L);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+        final IntLongPair pair1 = pair0.mapV0(v -> v + 1);
+
+        assertEquals(IntLongPair.of(2, 2L), pair1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+        final IntLongPair pair1 = pair0.mapV1(v -> v + 1L);
+
+        assertEquals(IntLongPair.of(1, 3L), pair1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+        final IntLongPair pair1 = pair0.map(v -> v + 1, v -> v + 1L);
+
+        assertEquals(IntLongPair.of(2, 3L), pair1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final IntLongPair pair = IntLongPair.of(1, 2L);
+
+        assertEquals("[1, 2]", pair.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+        final IntLongPair pair1 = IntLongPair.of(1, 2L);
+
+        assertTrue(pair0.equals(pair1));
+        assertTrue(pair1.equals(pair0));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+
+        assertFalse(pair0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+
+        assertFalse(pair0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+        final IntLongPair pair1 = IntLongPair.of(1, 5L);
+
+        assertFalse(pair0.equals(pair1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+
+        assertTrue(pair0.equals(pair0));
+    }
+
+    /**
+     * Test conversion to and from {@link Pair}.
+     */
+    @Test
+    public void testToPair() {
+        final IntLongPair pair0 = IntLongPair.of(1, 2L);
+        final Pair<Integer, Long> boxed = pair0.toPair();
+
+        assertEquals(Pair.of(1, 2L), boxed);
+        assertEquals(pair0.hashCode(), boxed.hashCode());
+        assertEquals(pair0, IntLongPair.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        IntLongPair.from(Pair.of(1, null));
+    }
+}
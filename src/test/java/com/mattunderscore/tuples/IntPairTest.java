@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link IntPair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class IntPairTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private IntConsumer intConsumer;
+    @Mock
+    private IntFunction<Object> intFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final IntPair pair = IntPair.of(1, 2);
+
+        assertEquals(1, pair.v0());
+        assertEquals(2, pair.v1());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final IntPair pair = IntPair.of(1, 2);
+
+        pair.acceptV0(intConsumer);
+        verify(intConsumer).accept(1);
+
+        pair.acceptV1(intConsumer);
+        verify(intConsumer).accept(2);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final IntPair pair = IntPair.of(1, 2);
+
+        pair.applyV0(intFunction);
+        verify(intFunction).apply(1);
+
+        pair.applyV1(intFunction);
+        verify(intFunction).apply(2);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final IntPair pair0 = IntPair.of(1, 2);
+        final IntPair pair1 = pair0.mapV0(v -> v + 1);
+
+        assertEquals(IntPair.of(2, 2), pair1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final IntPair pair0 = IntPair.of(1, 2);
+        final IntPair pair1 = pair0.mapV1(v -> v + 1);
+
+        assertEquals(IntPair.of(1, 3), pair1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final IntPair pair0 = IntPair.of(1, 2);
+        final IntPair pair1 = pair0.map(v -> v + 1, v -> v + 1);
+
+        assertEquals(IntPair.of(2, 3), pair1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final IntPair pair = IntPair.of(1, 2);
+
+        assertEquals("[1, 2]", pair.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final IntPair pair0 = IntPair.of(1, 2);
+        final IntPair pair1 = IntPair.of(1, 2);
+
+        assertTrue(pair0.equals(pair1));
+        assertTrue(pair1.equals(pair0));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final IntPair pair0 = IntPair.of(1, 2);
+
+        assertFalse(pair0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final IntPair pair0 = IntPair.of(1, 2);
+
+        assertFalse(pair0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final IntPair pair0 = IntPair.of(1, 2);
+        final IntPair pair1 = IntPair.of(1, 5);
+
+        assertFalse(pair0.equals(pair1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final IntPair pair0 = IntPair.of(1, 2);
+
+        assertTrue(pair0.equals(pair0));
+    }
+
+    /**
+     * Test conversion to and from {@link Pair}.
+     */
+    @Test
+    public void testToPair() {
+        final IntPair pair0 = IntPair.of(1, 2);
+        final Pair<Integer, Integer> boxed = pair0.toPair();
+
+        assertEquals(Pair.of(1, 2), boxed);
+        assertEquals(pair0.hashCode(), boxed.hashCode());
+        assertEquals(pair0, IntPair.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        IntPair.from(Pair.of(1, null));
+    }
+}
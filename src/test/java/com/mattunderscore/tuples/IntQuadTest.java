@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link IntQuad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class IntQuadTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private IntConsumer intConsumer;
+    @Mock
+    private IntFunction<Object> intFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final IntQuad quad = IntQuad.of(1, 2, 3, 4);
+
+        assertEquals(1, quad.v0());
+        assertEquals(2, quad.v1());
+        assertEquals(3, quad.v2());
+        assertEquals(4, quad.v3());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final IntQuad quad = IntQuad.of(1, 2, 3, 4);
+
+        quad.acceptV0(intConsumer);
+        verify(intConsumer).accept(1);
+
+        quad.acceptV1(intConsumer);
+        verify(intConsumer).accept(2);
+
+        quad.acceptV2(intConsumer);
+        verify(intConsumer).accept(3);
+
+        quad.acceptV3(intConsumer);
+        verify(intConsumer).accept(4);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final IntQuad quad = IntQuad.of(1, 2, 3, 4);
+
+        quad.applyV0(intFunction);
+        verify(intFunction).apply(1);
+
+        quad.applyV1(intFunction);
+        verify(intFunction).apply(2);
+
+        quad.applyV2(intFunction);
+        verify(intFunction).apply(3);
+
+        quad.applyV3(intFunction);
+        verify(intFunction).apply(4);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = quad0.mapV0(v -> v + 1);
+
+        assertEquals(IntQuad.of(2, 2, 3, 4), quad1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = quad0.mapV1(v -> v + 1);
+
+        assertEquals(IntQuad.of(1, 3, 3, 4), quad1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = quad0.mapV2(v -> v + 1);
+
+        assertEquals(IntQuad.of(1, 2, 4, 4), quad1);
+    }
+
+    /**
+     * Test mapping value 3.
+     */
+    @Test
+    public void testMapV3() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = quad0.mapV3(v -> v + 1);
+
+        assertEquals(IntQuad.of(1, 2, 3, 5), quad1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = quad0.map(v -> v + 1, v -> v + 1, v -> v + 1, v -> v + 1);
+
+        assertEquals(IntQuad.of(2, 3, 4, 5), quad1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final IntQuad quad = IntQuad.of(1, 2, 3, 4);
+
+        assertEquals("[1, 2, 3, 4]", quad.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = IntQuad.of(1, 2, 3, 4);
+
+        assertTrue(quad0.equals(quad1));
+        assertTrue(quad1.equals(quad0));
+        assertEquals(quad0.hashCode(), quad1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+
+        assertFalse(quad0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+
+        assertFalse(quad0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final IntQuad quad1 = IntQuad.of(1, 2, 3, 5);
+
+        assertFalse(quad0.equals(quad1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+
+        assertTrue(quad0.equals(quad0));
+    }
+
+    /**
+     * Test conversion to and from {@link Quad}.
+     */
+    @Test
+    public void testToQuad() {
+        final IntQuad quad0 = IntQuad.of(1, 2, 3, 4);
+        final Quad<Integer, Integer, Integer, Integer> boxed = quad0.toQuad();
+
+        assertEquals(Quad.of(1, 2, 3, 4), boxed);
+        assertEquals(quad0.hashCode(), boxed.hashCode());
+        assertEquals(quad0, IntQuad.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        IntQuad.from(Quad.of(1, 2, 3, null));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link IntTriple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class IntTripleTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private IntConsumer intConsumer;
+    @Mock
+    private IntFunction<Object> intFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final IntTriple triple = IntTriple.of(1, 2, 3);
+
+        assertEquals(1, triple.v0());
+        assertEquals(2, triple.v1());
+        assertEquals(3, triple.v2());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final IntTriple triple = IntTriple.of(1, 2, 3);
+
+        triple.acceptV0(intConsumer);
+        verify(intConsumer).accept(1);
+
+        triple.acceptV1(intConsumer);
+        verify(intConsumer).accept(2);
+
+        triple.acceptV2(intConsumer);
+        verify(intConsumer).accept(3);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final IntTriple triple = IntTriple.of(1, 2, 3);
+
+        triple.applyV0(intFunction);
+        verify(intFunction).apply(1);
+
+        triple.applyV1(intFunction);
+        verify(intFunction).apply(2);
+
+        triple.applyV2(intFunction);
+        verify(intFunction).apply(3);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final IntTriple triple1 = triple0.mapV0(v -> v + 1);
+
+        assertEquals(IntTriple.of(2, 2, 3), triple1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final IntTriple triple1 = triple0.mapV1(v -> v + 1);
+
+        assertEquals(IntTriple.of(1, 3, 3), triple1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final IntTriple triple1 = triple0.mapV2(v -> v + 1);
+
+        assertEquals(IntTriple.of(1, 2, 4), triple1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final IntTriple triple1 = triple0.map(v -> v + 1, v -> v + 1, v -> v + 1);
+
+        assertEquals(IntTriple.of(2, 3, 4), triple1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final IntTriple triple = IntTriple.of(1, 2, 3);
+
+        assertEquals("[1, 2, 3]", triple.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final IntTriple triple1 = IntTriple.of(1, 2, 3);
+
+        assertTrue(triple0.equals(triple1));
+        assertTrue(triple1.equals(triple0));
+        assertEquals(triple0.hashCode(), triple1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+
+        assertFalse(triple0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+
+        assertFalse(triple0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final IntTriple triple1 = IntTriple.of(1, 2, 5);
+
+        assertFalse(triple0.equals(triple1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+
+        assertTrue(triple0.equals(triple0));
+    }
+
+    /**
+     * Test conversion to and from {@link Triple}.
+     */
+    @Test
+    public void testToTriple() {
+        final IntTriple triple0 = IntTriple.of(1, 2, 3);
+        final Triple<Integer, Integer, Integer> boxed = triple0.toTriple();
+
+        assertEquals(Triple.of(1, 2, 3), boxed);
+        assertEquals(triple0.hashCode(), boxed.hashCode());
+        assertEquals(triple0, IntTriple.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        IntTriple.from(Triple.of(1, 2, null));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyPair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LazyPairTest {
+
+    /**
+     * Test values are computed once when accessed.
+     */
+    @Test
+    public void testComputedOnce() {
+        final AtomicInteger count0 = new AtomicInteger();
+        final AtomicInteger count1 = new AtomicInteger();
+        final LazyPair<String, Integer> pair = LazyPair.of(
+            () -> "a" + count0.incrementAndGet(),
+            () -> count1.incrementAndGet());
+
+        assertEquals(0, count0.get());
+        assertEquals("a1", pair.v0());
+        assertEquals("a1", pair.applyV0(v -> v));
+        pair.acceptV0(v -> assertEquals("a1", v));
+        assertEquals(1, count0.get());
+        assertEquals(0, count1.get());
+        assertEquals(Integer.valueOf(1), pair.v1());
+        assertEquals(1, count1.get());
+    }
+
+    /**
+     * Test mapping does not compute the values.
+     */
+    @Test
+    public void testMapIsLazy() {
+        final AtomicInteger count = new AtomicInteger();
+        final LazyPair<Integer, Integer> pair = LazyPair.of(count::incrementAndGet, () -> 5);
+        final LazyPair<Integer, Integer> mapped = pair.mapV0(v -> v * 10).mapV1(v -> v + 1).map(v -> v + 1, v -> v);
+
+        assertEquals(0, count.get());
+        assertEquals(Pair.of(11, 6), mapped.toPair());
+        assertEquals(Integer.valueOf(1), pair.v0());
+        assertEquals(1, count.get());
+    }
+
+    /**
+     * Test equality, hash code and string representation.
+     */
+    @Test
+    public void testEquality() {
+        final LazyPair<String, String> pair0 = LazyPair.of(() -> "a", () -> null);
+        final LazyPair<String, String> pair1 = LazyPair.of(() -> "a", () -> null);
+
+        assertTrue(pair0.equals(pair1));
+        assertFalse(pair0.equals(LazyPair.of(() -> "b", () -> null)));
+        assertFalse(pair0.equals(Pair.of("a", null)));
+        assertEquals(Pair.of("a", null).hashCode(), pair0.hashCode());
+        assertEquals("[a, null]", pair0.toString());
+    }
+
+    /**
+     * Test concurrent access computes the value once.
+     */
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final LazyPair<Integer, Integer> pair = LazyPair.of(count::incrementAndGet, () -> 0);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    latch.await();
+                    return pair.v0();
+                }));
+            }
+            latch.countDown();
+
+            for (final Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(1), future.get());
+            }
+            assertEquals(1, count.get());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test a null supplier throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        LazyPair.of(() -> "a", null);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyQuad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LazyQuadTest {
+
+    /**
+     * Test mapping does not compute the values and each value is computed once.
+     */
+    @Test
+    public void testMapIsLazy() {
+        final AtomicInteger count = new AtomicInteger();
+        final LazyQuad<Integer, Integer, Integer, Integer> quad =
+            LazyQuad.of(count::incrementAndGet, () -> 2, () -> 3, () -> 4);
+        final LazyQuad<Integer, Integer, Integer, String> mapped = quad
+            .mapV0(v -> v * 10)
+            .mapV1(v -> v * 10)
+            .mapV2(v -> v * 10)
+            .mapV3(v -> "v" + v)
+            .map(v -> v, v -> v, v -> v, v -> v);
+
+        assertEquals(0, count.get());
+        assertEquals(Quad.of(10, 20, 30, "v4"), mapped.toQuad());
+        assertEquals(Quad.of(1, 2, 3, 4), quad.toQuad());
+        assertEquals(1, count.get());
+    }
+
+    /**
+     * Test equality and hash code.
+     */
+    @Test
+    public void testEquality() {
+        final LazyQuad<String, String, String, String> quad = LazyQuad.of(() -> "a", () -> "b", () -> "c", () -> "d");
+
+        assertEquals(LazyQuad.of(() -> "a", () -> "b", () -> "c", () -> "d"), quad);
+        assertEquals(Quad.of("a", "b", "c", "d").hashCode(), quad.hashCode());
+        assertEquals("[a, b, c, d]", quad.toString());
+    }
+}
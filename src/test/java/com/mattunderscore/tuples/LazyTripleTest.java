@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyTriple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LazyTripleTest {
+
+    /**
+     * Test mapping does not compute the values and each value is computed once.
+     */
+    @Test
+    public void testMapIsLazy() {
+        final AtomicInteger count = new AtomicInteger();
+        final LazyTriple<Integer, Integer, Integer> triple =
+            LazyTriple.of(count::incrementAndGet, count::incrementAndGet, count::incrementAndGet);
+        final LazyTriple<Integer, Integer, String> mapped = triple
+            .mapV0(v -> v * 10)
+            .mapV1(v -> v * 10)
+            .mapV2(v -> "v" + v)
+            .map(v -> v, v -> v, v -> v);
+
+        assertEquals(0, count.get());
+        assertEquals(Integer.valueOf(10), mapped.v0());
+        assertEquals("v2", mapped.v2());
+        assertEquals(Triple.of(10, 30, "v2"), mapped.toTriple());
+        assertEquals(3, count.get());
+        assertEquals(Triple.of(1, 3, 2), triple.toTriple());
+        assertEquals(3, count.get());
+    }
+
+    /**
+     * Test equality and hash code.
+     */
+    @Test
+    public void testEquality() {
+        final LazyTriple<String, String, String> triple = LazyTriple.of(() -> "a", () -> "b", () -> "c");
+
+        assertEquals(LazyTriple.of(() -> "a", () -> "b", () -> "c"), triple);
+        assertEquals(Triple.of("a", "b", "c").hashCode(), triple.hashCode());
+        assertEquals("[a, b, c]", triple.toString());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.Comparator.reverseOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LexicographicOrder}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LexicographicOrderTest {
+
+    /**
+     * Test ordering pairs.
+     */
+    @Test
+    public void testPairs() {
+        final List<Pair<String, Integer>> pairs = new ArrayList<>(asList(
+            Pair.of("b", 1),
+            Pair.of("a", 2),
+            Pair.of("a", -1)));
+        pairs.sort(Tuples.lexicographic().forPairs());
+
+        assertEquals(asList(Pair.of("a", -1), Pair.of("a", 2), Pair.of("b", 1)), pairs);
+    }
+
+    /**
+     * Test ordering triples with a comparator for a value.
+     */
+    @Test
+    public void testTriples() {
+        final List<Triple<Long, Integer, Double>> triples = new ArrayList<>(asList(
+            Triple.of(1L, 1, 1.0),
+            Triple.of(1L, 2, 0.5),
+            Triple.of(1L, 2, 1.5),
+            Triple.of(0L, 3, 0.0)));
+        triples.sort(Tuples.lexicographic().withComparator(1, reverseOrder()).forTriples());
+
+        assertEquals(
+            asList(Triple.of(0L, 3, 0.0), Triple.of(1L, 2, 0.5), Triple.of(1L, 2, 1.5), Triple.of(1L, 1, 1.0)),
+            triples);
+    }
+
+    /**
+     * Test ordering quads with null values first.
+     */
+    @Test
+    public void testQuadsNullsFirst() {
+        final Comparator<Quad<String, String, String, String>> comparator = Tuples.lexicographic().nullsFirst().forQuads();
+
+        assertTrue(comparator.compare(Quad.of("a", "b", "c", null), Quad.of("a", "b", "c", "d")) < 0);
+        assertTrue(comparator.compare(Quad.of("a", "b", "c", "d"), Quad.of("a", "b", "c", null)) > 0);
+        assertEquals(0, comparator.compare(Quad.of(null, "b", "c", "d"), Quad.of(null, "b", "c", "d")));
+    }
+
+    /**
+     * Test ordering pairs with null values last.
+     */
+    @Test
+    public void testNullsLast() {
+        final Comparator<Pair<Integer, Integer>> comparator = Tuples.lexicographic().nullsLast().forPairs();
+
+        assertTrue(comparator.compare(Pair.of(null, 1), Pair.of(1, 1)) > 0);
+        assertTrue(comparator.compare(Pair.of(1, 1), Pair.of(1, null)) < 0);
+    }
+
+    /**
+     * Test ordering null values by natural order.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testNullsNatural() {
+        Tuples.lexicographic().<Integer, Integer>forPairs().compare(Pair.of(null, 1), Pair.of(1, 1));
+    }
+
+    /**
+     * Test ordering n-tuples of different arities.
+     */
+    @Test
+    public void testNTuples() {
+        final List<NTuple> tuples = new ArrayList<>(asList(
+            NTuple.of("a", 2, "x"),
+            NTuple.of("a", 2),
+            NTuple.of("a", 1, "z")));
+        tuples.sort(Tuples.lexicographic().forNTuples());
+
+        assertEquals(asList(NTuple.of("a", 1, "z"), NTuple.of("a", 2), NTuple.of("a", 2, "x")), tuples);
+    }
+
+    /**
+     * Test ordering tuples of any arity with a comparator for a value.
+     */
+    @Test
+    public void testTuples() {
+        final Comparator<Tuple> comparator = Tuples
+            .lexicographic()
+            .withComparator(2, Comparator.comparingInt(String::length))
+            .forTuples();
+
+        assertTrue(comparator.compare(Triple.of(1, 2, "zz"), Triple.of(1, 2, "aaa")) < 0);
+        assertTrue(comparator.compare(Pair.of(1, 2), Triple.of(1, 2, "a")) < 0);
+        assertTrue(comparator.compare(Container.of(2), Quad.of(1, 2, 3, 4)) > 0);
+    }
+
+    /**
+     * Test a comparator for a negative index.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIndex() {
+        Tuples.lexicographic().withComparator(-1, reverseOrder());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link LongDoublePair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LongDoublePairTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private LongConsumer longConsumer;
+    @Mock
+    private LongFunction<Object> longFunction;
+    @Mock
+    private DoubleConsumer doubleConsumer;
+    @Mock
+    private DoubleFunction<Object> doubleFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final LongDoublePair pair = LongDoublePair.of(1L, 2.0);
+
+        assertEquals(1L, pair.v0());
+        assertEquals(2.0, pair.v1(), 0.0);
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final LongDoublePair pair = LongDoublePair.of(1L, 2.0);
+
+        pair.acceptV0(longConsumer);
+        verify(longConsumer).accept(1L);
+
+        pair.acceptV1(doubleConsumer);
+        verify(doubleConsumer).accept(2.0);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final LongDoublePair pair = LongDoublePair.of(1L, 2.0);
+
+        pair.applyV0(longFunction);
+        verify(longFunction).apply(1L);
+
+        pair.applyV1(doubleFunction);
+        verify(doubleFunction).apply(2.0);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+        final LongDoublePair pair1 = pair0.mapV0(v -> v + 1L);
+
+        assertEquals(LongDoublePair.of(2L, 2.0), pair1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+        final LongDoublePair pair1 = pair0.mapV1(v -> v + 1.0);
+
+        assertEquals(LongDoublePair.of(1L, 3.0), pair1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+        final LongDoublePair pair1 = pair0.map(v -> v + 1L, v -> v + 1.0);
+
+        assertEquals(LongDoublePair.of(2L, 3.0), pair1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final LongDoublePair pair = LongDoublePair.of(1L, 2.0);
+
+        assertEquals("[1, 2.0]", pair.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+        final LongDoublePair pair1 = LongDoublePair.of(1L, 2.0);
+
+        assertTrue(pair0.equals(pair1));
+        assertTrue(pair1.equals(pair0));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+
+        assertFalse(pair0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+
+        assertFalse(pair0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+        final LongDoublePair pair1 = LongDoublePair.of(1L, 5.0);
+
+        assertFalse(pair0.equals(pair1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+
+        assertTrue(pair0.equals(pair0));
+    }
+
+    /**
+     * Test conversion to and from {@link Pair}.
+     */
+    @Test
+    public void testToPair() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, 2.0);
+        final Pair<Long, Double> boxed = pair0.toPair();
+
+        assertEquals(Pair.of(1L, 2.0), boxed);
+        assertEquals(pair0.hashCode(), boxed.hashCode());
+        assertEquals(pair0, LongDoublePair.from(boxed));
+    }
+
+    /**
+     * Test NaN values are equal, consistent with {@link Double#equals(Object)}.
+     */
+    @Test
+    public void testEqualsNaN() {
+        final LongDoublePair pair0 = LongDoublePair.of(1L, Double.NaN);
+        final LongDoublePair pair1 = LongDoublePair.of(1L, Double.NaN);
+
+        assertTrue(pair0.equals(pair1));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        LongDoublePair.from(Pair.of(1L, null));
+    }
+}
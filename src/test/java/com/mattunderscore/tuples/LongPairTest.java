@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link LongPair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LongPairTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private LongConsumer longConsumer;
+    @Mock
+    private LongFunction<Object> longFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final LongPair pair = LongPair.of(1L, 2L);
+
+        assertEquals(1L, pair.v0());
+        assertEquals(2L, pair.v1());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final LongPair pair = LongPair.of(1L, 2L);
+
+        pair.acceptV0(longConsumer);
+        verify(longConsumer).accept(1L);
+
+        pair.acceptV1(longConsumer);
+        verify(longConsumer).accept(2L);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final LongPair pair = LongPair.of(1L, 2L);
+
+        pair.applyV0(longFunction);
+        verify(longFunction).apply(1L);
+
+        pair.applyV1(longFunction);
+        verify(longFunction).apply(2L);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+        final LongPair pair1 = pair0.mapV0(v -> v + 1L);
+
+        assertEquals(LongPair.of(2L, 2L), pair1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+        final LongPair pair1 = pair0.mapV1(v -> v + 1L);
+
+        assertEquals(LongPair.of(1L, 3L), pair1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+        final LongPair pair1 = pair0.map(v -> v + 1L, v -> v + 1L);
+
+        assertEquals(LongPair.of(2L, 3L), pair1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final LongPair pair = LongPair.of(1L, 2L);
+
+        assertEquals("[1, 2]", pair.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+        final LongPair pair1 = LongPair.of(1L, 2L);
+
+        assertTrue(pair0.equals(pair1));
+        assertTrue(pair1.equals(pair0));
+        assertEquals(pair0.hashCode(), pair1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+
+        assertFalse(pair0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+
+        assertFalse(pair0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+        final LongPair pair1 = LongPair.of(1L, 5L);
+
+        assertFalse(pair0.equals(pair1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+
+        assertTrue(pair0.equals(pair0));
+    }
+
+    /**
+     * Test conversion to and from {@link Pair}.
+     */
+    @Test
+    public void testToPair() {
+        final LongPair pair0 = LongPair.of(1L, 2L);
+        final Pair<Long, Long> boxed = pair0.toPair();
+
+        assertEquals(Pair.of(1L, 2L), boxed);
+        assertEquals(pair0.hashCode(), boxed.hashCode());
+        assertEquals(pair0, LongPair.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        LongPair.from(Pair.of(1L, null));
+    }
+}
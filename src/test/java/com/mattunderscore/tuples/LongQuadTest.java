@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link LongQuad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LongQuadTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private LongConsumer longConsumer;
+    @Mock
+    private LongFunction<Object> longFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final LongQuad quad = LongQuad.of(1L, 2L, 3L, 4L);
+
+        assertEquals(1L, quad.v0());
+        assertEquals(2L, quad.v1());
+        assertEquals(3L, quad.v2());
+        assertEquals(4L, quad.v3());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final LongQuad quad = LongQuad.of(1L, 2L, 3L, 4L);
+
+        quad.acceptV0(longConsumer);
+        verify(longConsumer).accept(1L);
+
+        quad.acceptV1(longConsumer);
+        verify(longConsumer).accept(2L);
+
+        quad.acceptV2(longConsumer);
+        verify(longConsumer).accept(3L);
+
+        quad.acceptV3(longConsumer);
+        verify(longConsumer).accept(4L);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final LongQuad quad = LongQuad.of(1L, 2L, 3L, 4L);
+
+        quad.applyV0(longFunction);
+        verify(longFunction).apply(1L);
+
+        quad.applyV1(longFunction);
+        verify(longFunction).apply(2L);
+
+        quad.applyV2(longFunction);
+        verify(longFunction).apply(3L);
+
+        quad.applyV3(longFunction);
+        verify(longFunction).apply(4L);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = quad0.mapV0(v -> v + 1L);
+
+        assertEquals(LongQuad.of(2L, 2L, 3L, 4L), quad1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = quad0.mapV1(v -> v + 1L);
+
+        assertEquals(LongQuad.of(1L, 3L, 3L, 4L), quad1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = quad0.mapV2(v -> v + 1L);
+
+        assertEquals(LongQuad.of(1L, 2L, 4L, 4L), quad1);
+    }
+
+    /**
+     * Test mapping value 3.
+     */
+    @Test
+    public void testMapV3() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = quad0.mapV3(v -> v + 1L);
+
+        assertEquals(LongQuad.of(1L, 2L, 3L, 5L), quad1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = quad0.map(v -> v + 1L, v -> v + 1L, v -> v + 1L, v -> v + 1L);
+
+        assertEquals(LongQuad.of(2L, 3L, 4L, 5L), quad1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final LongQuad quad = LongQuad.of(1L, 2L, 3L, 4L);
+
+        assertEquals("[1, 2, 3, 4]", quad.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = LongQuad.of(1L, 2L, 3L, 4L);
+
+        assertTrue(quad0.equals(quad1));
+        assertTrue(quad1.equals(quad0));
+        assertEquals(quad0.hashCode(), quad1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+
+        assertFalse(quad0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+
+        assertFalse(quad0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final LongQuad quad1 = LongQuad.of(1L, 2L, 3L, 5L);
+
+        assertFalse(quad0.equals(quad1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+
+        assertTrue(quad0.equals(quad0));
+    }
+
+    /**
+     * Test conversion to and from {@link Quad}.
+     */
+    @Test
+    public void testToQuad() {
+        final LongQuad quad0 = LongQuad.of(1L, 2L, 3L, 4L);
+        final Quad<Long, Long, Long, Long> boxed = quad0.toQuad();
+
+        assertEquals(Quad.of(1L, 2L, 3L, 4L), boxed);
+        assertEquals(quad0.hashCode(), boxed.hashCode());
+        assertEquals(quad0, LongQuad.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        LongQuad.from(Quad.of(1L, 2L, 3L, null));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link LongTriple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class LongTripleTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private LongConsumer longConsumer;
+    @Mock
+    private LongFunction<Object> longFunction;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final LongTriple triple = LongTriple.of(1L, 2L, 3L);
+
+        assertEquals(1L, triple.v0());
+        assertEquals(2L, triple.v1());
+        assertEquals(3L, triple.v2());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final LongTriple triple = LongTriple.of(1L, 2L, 3L);
+
+        triple.acceptV0(longConsumer);
+        verify(longConsumer).accept(1L);
+
+        triple.acceptV1(longConsumer);
+        verify(longConsumer).accept(2L);
+
+        triple.acceptV2(longConsumer);
+        verify(longConsumer).accept(3L);
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final LongTriple triple = LongTriple.of(1L, 2L, 3L);
+
+        triple.applyV0(longFunction);
+        verify(longFunction).apply(1L);
+
+        triple.applyV1(longFunction);
+        verify(longFunction).apply(2L);
+
+        triple.applyV2(longFunction);
+        verify(longFunction).apply(3L);
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final LongTriple triple1 = triple0.mapV0(v -> v + 1L);
+
+        assertEquals(LongTriple.of(2L, 2L, 3L), triple1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final LongTriple triple1 = triple0.mapV1(v -> v + 1L);
+
+        assertEquals(LongTriple.of(1L, 3L, 3L), triple1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final LongTriple triple1 = triple0.mapV2(v -> v + 1L);
+
+        assertEquals(LongTriple.of(1L, 2L, 4L), triple1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final LongTriple triple1 = triple0.map(v -> v + 1L, v -> v + 1L, v -> v + 1L);
+
+        assertEquals(LongTriple.of(2L, 3L, 4L), triple1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final LongTriple triple = LongTriple.of(1L, 2L, 3L);
+
+        assertEquals("[1, 2, 3]", triple.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final LongTriple triple1 = LongTriple.of(1L, 2L, 3L);
+
+        assertTrue(triple0.equals(triple1));
+        assertTrue(triple1.equals(triple0));
+        assertEquals(triple0.hashCode(), triple1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+
+        assertFalse(triple0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+
+        assertFalse(triple0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final LongTriple triple1 = LongTriple.of(1L, 2L, 5L);
+
+        assertFalse(triple0.equals(triple1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+
+        assertTrue(triple0.equals(triple0));
+    }
+
+    /**
+     * Test conversion to and from {@link Triple}.
+     */
+    @Test
+    public void testToTriple() {
+        final LongTriple triple0 = LongTriple.of(1L, 2L, 3L);
+        final Triple<Long, Long, Long> boxed = triple0.toTriple();
+
+        assertEquals(Triple.of(1L, 2L, 3L), boxed);
+        assertEquals(triple0.hashCode(), boxed.hashCode());
+        assertEquals(triple0, LongTriple.from(boxed));
+    }
+
+    /**
+     * Test unboxing null values throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testFromNull() {
+        LongTriple.from(Triple.of(1L, 2L, null));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MutablePair}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class MutablePairTest {
+
+    /**
+     * Test accessing the values.
+     */
+    @Test
+    public void testAccess() {
+        final MutablePair<String, Integer> pair = MutablePair.of("a", 1);
+        final AtomicReference<Object> accepted = new AtomicReference<>();
+
+        assertEquals("a", pair.v0());
+        assertEquals(1, (int) pair.v1());
+        pair.acceptV0(accepted::set);
+        assertEquals("a", accepted.get());
+        pair.acceptV1(accepted::set);
+        assertEquals(1, accepted.get());
+        assertEquals("a!", pair.applyV0(v -> v + "!"));
+        assertEquals(2, (int) pair.applyV1(v -> v + 1));
+        assertEquals("[a, 1]", pair.toString());
+    }
+
+    /**
+     * Test setting and mapping the values in place.
+     */
+    @Test
+    public void testUpdateInPlace() {
+        final MutablePair<String, Integer> pair = MutablePair.of("a", 1);
+
+        assertTrue(pair == pair.setV0("b").setV1(2));
+        assertEquals(Pair.of("b", 2), pair.freeze());
+        assertTrue(pair == pair.mapV0(v -> v + "c").mapV1(v -> v * 2));
+        assertEquals(Pair.of("bc", 4), pair.freeze());
+        assertTrue(pair == pair.map(v -> v + "d", v -> v + 1));
+        assertEquals(Pair.of("bcd", 5), pair.freeze());
+        assertTrue(pair == pair.set("e", 6));
+        assertEquals(Pair.of("e", 6), pair.freeze());
+        assertTrue(pair == pair.set(Pair.of("f", 7)));
+        assertEquals(Pair.of("f", 7), pair.freeze());
+    }
+
+    /**
+     * Test freezing does not share state with the mutable pair.
+     */
+    @Test
+    public void testFreeze() {
+        final MutablePair<String, Integer> pair = MutablePair.from(Pair.of("a", 1));
+        final Pair<String, Integer> frozen = pair.freeze();
+
+        pair.set("b", 2);
+        assertEquals(Pair.of("a", 1), frozen);
+    }
+
+    /**
+     * Test pooled pairs are reused.
+     */
+    @Test
+    public void testPool() {
+        final TuplePool<MutablePair<String, Integer>> pool = MutablePair.pool(4);
+        final MutablePair<String, Integer> pair = pool.acquire().set("a", 1);
+
+        pool.release(pair);
+        final MutablePair<String, Integer> reused = pool.acquire();
+        assertTrue(pair == reused);
+        assertNull(reused.v0());
+        assertNull(reused.v1());
+        assertEquals(1, pool.created());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MutableQuad}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class MutableQuadTest {
+
+    /**
+     * Test accessing the values.
+     */
+    @Test
+    public void testAccess() {
+        final MutableQuad<String, Integer, Long, Double> quad = MutableQuad.of("a", 1, 2L, 3.0);
+        final AtomicReference<Object> accepted = new AtomicReference<>();
+
+        assertEquals("a", quad.v0());
+        assertEquals(3.0, quad.v3(), 0.0);
+        quad.acceptV3(accepted::set);
+        assertEquals(3.0, accepted.get());
+        assertEquals(4.0, quad.applyV3(v -> v + 1), 0.0);
+        assertEquals("[a, 1, 2, 3.0]", quad.toString());
+    }
+
+    /**
+     * Test setting and mapping the values in place.
+     */
+    @Test
+    public void testUpdateInPlace() {
+        final MutableQuad<String, Integer, Long, Double> quad = MutableQuad.of("a", 1, 2L, 3.0);
+
+        assertTrue(quad == quad.setV3(4.0).mapV3(v -> v * 2));
+        assertEquals(Quad.of("a", 1, 2L, 8.0), quad.freeze());
+        assertTrue(quad == quad.map(v -> v + "b", v -> v + 1, v -> v + 1, v -> v + 1));
+        assertEquals(Quad.of("ab", 2, 3L, 9.0), quad.freeze());
+        assertTrue(quad == quad.set(Quad.of("c", 3, 4L, 5.0)));
+        assertEquals(Quad.of("c", 3, 4L, 5.0), MutableQuad.from(quad.freeze()).freeze());
+    }
+
+    /**
+     * Test pooled quads are reused.
+     */
+    @Test
+    public void testPool() {
+        final TuplePool<MutableQuad<String, Integer, Long, Double>> pool = MutableQuad.pool(1);
+        final MutableQuad<String, Integer, Long, Double> quad = pool.acquire().set("a", 1, 2L, 3.0);
+
+        pool.release(quad);
+        final MutableQuad<String, Integer, Long, Double> reused = pool.acquire();
+        assertTrue(quad == reused);
+        assertNull(reused.v3());
+    }
+}
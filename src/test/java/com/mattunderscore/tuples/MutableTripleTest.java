@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MutableTriple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class MutableTripleTest {
+
+    /**
+     * Test accessing the values.
+     */
+    @Test
+    public void testAccess() {
+        final MutableTriple<String, Integer, Long> triple = MutableTriple.of("a", 1, 2L);
+        final AtomicReference<Object> accepted = new AtomicReference<>();
+
+        assertEquals("a", triple.v0());
+        assertEquals(1, (int) triple.v1());
+        assertEquals(2L, (long) triple.v2());
+        triple.acceptV2(accepted::set);
+        assertEquals(2L, accepted.get());
+        assertEquals(3L, (long) triple.applyV2(v -> v + 1));
+        assertEquals("[a, 1, 2]", triple.toString());
+    }
+
+    /**
+     * Test setting and mapping the values in place.
+     */
+    @Test
+    public void testUpdateInPlace() {
+        final MutableTriple<String, Integer, Long> triple = MutableTriple.of("a", 1, 2L);
+
+        assertTrue(triple == triple.setV0("b").setV1(2).setV2(3L));
+        assertEquals(Triple.of("b", 2, 3L), triple.freeze());
+        assertTrue(triple == triple.mapV0(v -> v + "c").mapV1(v -> v * 2).mapV2(v -> v * 3));
+        assertEquals(Triple.of("bc", 4, 9L), triple.freeze());
+        assertTrue(triple == triple.map(v -> v + "d", v -> v + 1, v -> v + 1));
+        assertEquals(Triple.of("bcd", 5, 10L), triple.freeze());
+        assertTrue(triple == triple.set(Triple.of("e", 6, 7L)));
+        assertEquals(Triple.of("e", 6, 7L), triple.freeze());
+    }
+
+    /**
+     * Test pooled triples are reused.
+     */
+    @Test
+    public void testPool() {
+        final TuplePool<MutableTriple<String, Integer, Long>> pool = MutableTriple.pool(4);
+        final MutableTriple<String, Integer, Long> triple = pool.acquire().set("a", 1, 2L);
+
+        pool.release(triple);
+        final MutableTriple<String, Integer, Long> reused = pool.acquire();
+        assertTrue(triple == reused);
+        assertNull(reused.v0());
+        assertNull(reused.v2());
+        assertEquals(MutableTriple.from(Triple.of("a", 1, 2L)).freeze(), reused.set("a", 1, 2L).freeze());
+    }
+}
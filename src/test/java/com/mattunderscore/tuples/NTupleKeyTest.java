@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link NTupleKey}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class NTupleKeyTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<Object> consumer;
+    @Mock
+    private Function<Object, Object> function;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final NTupleKey key = NTupleKey.of("a", "b");
+
+        assertEquals("a", key.v(0));
+        assertEquals("b", key.v(1));
+    }
+
+    /**
+     * Test value accessing value with wrong arity throws exception.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAccessWrongArity() {
+        final NTupleKey key = NTupleKey.of("a", "b");
+
+        final Object v = key.v(3);
+        fail("Exception expected when returning " + v);
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final NTupleKey key = NTupleKey.of("a", "b");
+
+        key.acceptV(0, consumer);
+        verify(consumer).accept("a");
+
+        key.acceptV(1, consumer);
+        verify(consumer).accept("b");
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final NTupleKey key = NTupleKey.of("a", "b");
+
+        key.applyV(0, function);
+        verify(function).apply("a");
+
+        key.applyV(1, function);
+        verify(function).apply("b");
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final NTupleKey key0 = NTupleKey.of("a", "b");
+        final NTupleKey key1 = key0.mapV(1, Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final NTupleKey key = NTupleKey.of("a", "b");
+
+        assertEquals("[a, b]", key.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final NTupleKey key0 = NTupleKey.of("a", "b", null);
+        final NTupleKey key1 = NTupleKey.of("a", "b", null);
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final NTupleKey key0 = NTupleKey.of("a", "b");
+
+        assertFalse(key0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final NTupleKey key0 = NTupleKey.of("a", "b");
+
+        assertFalse(key0.equals(NTuple.of("a", "b")));
+    }
+
+    /**
+     * Test not equal to key with different values after the hash codes are cached.
+     */
+    @Test
+    public void testNotEqualsDifferentHashed() {
+        final NTupleKey key0 = NTupleKey.of("a", "b");
+        final NTupleKey key1 = NTupleKey.of("a", "c");
+        key0.hashCode();
+        key1.hashCode();
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test the hash code is the same as the hash code of {@link NTuple}.
+     */
+    @Test
+    public void testHashCodeConsistent() {
+        final NTupleKey key = NTupleKey.of("a", "b");
+
+        assertEquals(NTuple.of("a", "b").hashCode(), key.hashCode());
+        assertEquals(NTuple.of("a", "b").hashCode(), key.hashCode());
+    }
+
+    /**
+     * Test conversion to and from {@link NTuple}.
+     */
+    @Test
+    public void testToNTuple() {
+        final NTuple tuple = NTuple.of("a", "b");
+        final NTupleKey key = NTupleKey.from(tuple);
+
+        assertEquals(tuple, key.toNTuple());
+        assertEquals(NTupleKey.of("a", "b"), key);
+    }
+
+    /**
+     * Test a key from a wrapped array does not change with the array.
+     */
+    @Test
+    public void testFromWrapped() {
+        final Object[] values = {"a", "b"};
+        final NTupleKey key = NTupleKey.from(NTuple.wrap(values));
+        final int hash = key.hashCode();
+
+        values[0] = "c";
+
+        assertEquals(NTupleKey.of("a", "b"), key);
+        assertEquals(hash, key.hashCode());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link NTupleSchema}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class NTupleSchemaTest {
+    private final NTupleSchema schema = NTupleSchema.of(long.class, String.class, double.class, int.class);
+
+    /**
+     * Test creating a tuple from values.
+     */
+    @Test
+    public void testCreate() {
+        final TypedNTuple tuple = schema.create(1L, "a", 2.5, 3);
+
+        assertEquals(4, tuple.arity());
+        assertEquals(1L, tuple.getLong(0));
+        assertEquals("a", tuple.v(1));
+        assertEquals(2.5, tuple.getDouble(2), 0.0);
+        assertEquals(3, tuple.getInt(3));
+        assertEquals(Long.valueOf(1L), tuple.v(0));
+    }
+
+    /**
+     * Test creating a tuple with the wrong arity.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWrongArity() {
+        schema.create(1L, "a");
+    }
+
+    /**
+     * Test creating a tuple with a value of the wrong type.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testCreateWrongType() {
+        schema.create(1, "a", 2.5, 3);
+    }
+
+    /**
+     * Test creating a tuple with a reference of the wrong type.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testCreateWrongReferenceType() {
+        schema.create(1L, 2, 2.5, 3);
+    }
+
+    /**
+     * Test creating a tuple with a null primitive value.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testCreateNullPrimitive() {
+        schema.create(null, "a", 2.5, 3);
+    }
+
+    /**
+     * Test a schema with an unsupported primitive type.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedPrimitive() {
+        NTupleSchema.of(boolean.class);
+    }
+
+    /**
+     * Test building a tuple.
+     */
+    @Test
+    public void testBuilder() {
+        final NTupleSchema.Builder builder = schema.builder().setLong(0, 5L).setInt(3, 7);
+        final TypedNTuple first = builder.build();
+        final TypedNTuple second = builder.setDouble(2, 1.5).set(1, "b").build();
+
+        assertEquals(schema.create(5L, null, 0.0, 7), first);
+        assertNull(first.v(1));
+        assertEquals(schema.create(5L, "b", 1.5, 7), second);
+    }
+
+    /**
+     * Test reading a value as the wrong primitive type.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testWrongPrimitiveAccessor() {
+        schema.create(1L, "a", 2.5, 3).getInt(0);
+    }
+
+    /**
+     * Test setting a value of the wrong primitive type.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testBuilderWrongType() {
+        schema.builder().setDouble(0, 1.0);
+    }
+
+    /**
+     * Test converting to and from n-tuples.
+     */
+    @Test
+    public void testNTuple() {
+        final NTuple nTuple = NTuple.of(1L, "a", 2.5, 3);
+        final TypedNTuple tuple = schema.create(nTuple);
+
+        assertEquals(nTuple, tuple.toNTuple());
+        assertEquals(nTuple.hashCode(), tuple.hashCode());
+        assertEquals(nTuple.toString(), tuple.toString());
+    }
+}
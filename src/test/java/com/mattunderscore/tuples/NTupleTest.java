@@ -6,6 +6,7 @@ package com.mattunderscore.tuples;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.verify;
@@ -206,4 +207,170 @@ public final class NTupleTest {
 
         assertTrue(tuple1.equals(tuple1));
     }
+
+    /**
+     * Test slicing.
+     */
+    @Test
+    public void testSlice() {
+        final NTuple tuple = NTuple.of("a", "b", "c", "d");
+        final NTuple slice = tuple.slice(1, 3);
+
+        assertEquals(2, slice.arity());
+        assertEquals(NTuple.of("b", "c"), slice);
+        assertEquals(NTuple.of("b", "c").hashCode(), slice.hashCode());
+        assertEquals(NTuple.of("c"), slice.slice(1, 2));
+        assertEquals("[b, c]", slice.toString());
+    }
+
+    /**
+     * Test slicing out of range.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSliceOutOfRange() {
+        NTuple.of("a", "b").slice(1, 3);
+    }
+
+    /**
+     * Test accessing a value outside of a slice.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSliceAccessOutOfRange() {
+        NTuple.of("a", "b", "c").slice(0, 1).v(1);
+    }
+
+    /**
+     * Test concatenating.
+     */
+    @Test
+    public void testConcat() {
+        final NTuple tuple = NTuple.of("a", "b").concat(NTuple.of("c"));
+
+        assertEquals(NTuple.of("a", "b", "c"), tuple);
+        assertEquals(NTuple.of("b", "c"), tuple.slice(1, 3));
+        assertEquals(NTuple.of("a", "b", "c", null), tuple.append(null));
+        assertEquals(NTuple.of("a", "b", "c", "d").hashCode(), tuple.append("d").hashCode());
+    }
+
+    /**
+     * Test a long chain of appended values.
+     */
+    @Test
+    public void testAppendChain() {
+        final Object[] values = new Object[10000];
+        NTuple tuple = NTuple.of();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+            tuple = tuple.append(i);
+        }
+
+        assertEquals(values.length, tuple.arity());
+        assertEquals(9999, (int) tuple.v(9999));
+        assertEquals(NTuple.of(values), tuple);
+        assertEquals(NTuple.of(values).hashCode(), tuple.hashCode());
+    }
+
+    /**
+     * Test a long chain of slices, appends and projections.
+     */
+    @Test
+    public void testViewChain() {
+        NTuple tuple = NTuple.of("a", "b");
+        for (int i = 0; i < 10000; i++) {
+            tuple = tuple.append(i).slice(1, 3).project(1, 0);
+        }
+
+        assertEquals(NTuple.of(9999, "b"), tuple);
+    }
+
+    /**
+     * Test projecting.
+     */
+    @Test
+    public void testProject() {
+        final NTuple tuple = NTuple.of("a", "b", "c", "d").project(3, 0, 0);
+
+        assertEquals(NTuple.of("d", "a", "a"), tuple);
+        assertEquals(NTuple.of("a", "d"), tuple.project(1, 0));
+        assertEquals(NTuple.of("d", "a", "a", "e"), tuple.append("e"));
+    }
+
+    /**
+     * Test projecting an index out of range.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testProjectOutOfRange() {
+        NTuple.of("a", "b").project(0, 2);
+    }
+
+    /**
+     * Test mapping a value of a view.
+     */
+    @Test
+    public void testMapView() {
+        final NTuple tuple = NTuple.of("a", "b", "c").slice(1, 3).mapV(0, v -> "x");
+
+        assertEquals(NTuple.of("x", "c"), tuple);
+    }
+
+    /**
+     * Test compacting.
+     */
+    @Test
+    public void testCompact() {
+        final NTuple tuple = NTuple.of("a", "b");
+        final NTuple view = tuple.append("c").slice(1, 3);
+
+        assertSame(tuple, tuple.compact());
+        assertEquals(NTuple.of("b", "c"), view.compact());
+        assertEquals(NTupleKey.of("b", "c"), NTupleKey.from(view));
+    }
+
+    /**
+     * Test building a tuple.
+     */
+    @Test
+    public void testBuilder() {
+        final NTuple.Builder builder = NTuple.builder(3).set(0, "a").set(2, 1).mapV(2, (Integer v) -> v + 1);
+        final NTuple tuple0 = builder.build();
+        final NTuple tuple1 = builder.set(1, "b").build();
+
+        assertEquals(3, builder.arity());
+        assertEquals(NTuple.of("a", null, 2), tuple0);
+        assertEquals(NTuple.of("a", "b", 2), tuple1);
+    }
+
+    /**
+     * Test building from a tuple does not change the tuple.
+     */
+    @Test
+    public void testToBuilder() {
+        final NTuple tuple = NTuple.of("a", "b");
+        final NTuple.Builder builder = tuple.toBuilder();
+
+        assertSame(tuple.values(), builder.build().values());
+        assertEquals(NTuple.of("c", "b"), builder.set(0, "c").build());
+        assertEquals(NTuple.of("a", "b"), tuple);
+        assertEquals(NTuple.of("b", "d"), tuple.slice(1, 2).toBuilder().mapV(0, v -> v).build().append("d"));
+    }
+
+    /**
+     * Test setting a value out of range.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBuilderOutOfRange() {
+        NTuple.builder(1).set(1, "a");
+    }
+
+    /**
+     * Test wrapping an array shares it.
+     */
+    @Test
+    public void testWrap() {
+        final Object[] values = {"a", "b"};
+        final NTuple tuple = NTuple.wrap(values);
+
+        assertSame(values, tuple.values());
+        assertEquals(NTuple.of("a", "b"), tuple);
+    }
 }
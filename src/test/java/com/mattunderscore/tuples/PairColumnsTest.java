@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PairColumns}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class PairColumnsTest {
+
+    /**
+     * Test adding and accessing values.
+     */
+    @Test
+    public void testAddAndGet() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+        columns.add(Pair.of(2, "b"));
+
+        assertEquals(2, columns.size());
+        assertEquals(Pair.of(1, "a"), columns.get(0));
+        assertEquals(Pair.of(2, "b"), columns.get(1));
+        assertEquals(Integer.valueOf(2), columns.v0(1));
+        assertEquals("b", columns.v1(1));
+    }
+
+    /**
+     * Test the columns grow beyond their initial capacity.
+     */
+    @Test
+    public void testGrow() {
+        final PairColumns<Long, Object> columns = PairColumns.create(long.class, Object.class, 1);
+        for (int i = 0; i < 100; i++) {
+            columns.add((long) i, i);
+        }
+
+        assertEquals(100, columns.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Pair.of((long) i, i), columns.get(i));
+        }
+    }
+
+    /**
+     * Test bulk addition.
+     */
+    @Test
+    public void testAddAll() {
+        final PairColumns<Double, String> columns0 = PairColumns.create(double.class, String.class, 0);
+        columns0.addAll(asList(Pair.of(1.0, "a"), Pair.of(2.0, "b")));
+        final PairColumns<Object, Object> columns1 = PairColumns.create(Object.class, Object.class);
+        columns1.add("x", "y");
+        columns1.addAll(columns0);
+
+        assertEquals(2, columns0.size());
+        assertEquals(3, columns1.size());
+        assertEquals(Pair.of("x", "y"), columns1.get(0));
+        assertEquals(Pair.of(2.0, "b"), columns1.get(2));
+    }
+
+    /**
+     * Test null values of reference columns.
+     */
+    @Test
+    public void testNull() {
+        final PairColumns<String, String> columns = PairColumns.create(String.class, String.class);
+        columns.add(null, "a");
+
+        assertEquals(Pair.of(null, "a"), columns.get(0));
+    }
+
+    /**
+     * Test null values of primitive columns are rejected.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testPrimitiveNull() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+
+        columns.add(null, "a");
+    }
+
+    /**
+     * Test accessing beyond the size throws exception.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+
+        columns.get(1);
+    }
+
+    /**
+     * Test iterating with a cursor.
+     */
+    @Test
+    public void testCursor() {
+        final PairColumns<Integer, Long> columns = PairColumns.create(int.class, long.class);
+        columns.add(1, 10L);
+        columns.add(2, 20L);
+
+        final PairColumns<Integer, Long>.Cursor cursor = columns.cursor();
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.index());
+        assertEquals(1, cursor.intV0());
+        assertEquals(10L, cursor.longV1());
+        assertTrue(cursor.next());
+        assertEquals(Integer.valueOf(2), cursor.v0());
+        assertEquals(Pair.of(2, 20L), cursor.toPair());
+        assertFalse(cursor.next());
+
+        assertEquals(Long.valueOf(10L), cursor.moveTo(0).v1());
+    }
+
+    /**
+     * Test primitive access of reference columns unboxes.
+     */
+    @Test
+    public void testCursorUnboxing() {
+        final PairColumns<Integer, Double> columns = PairColumns.create(Integer.class, Double.class);
+        columns.add(1, 2.0);
+
+        final PairColumns<Integer, Double>.Cursor cursor = columns.cursor().moveTo(0);
+        assertEquals(1, cursor.intV0());
+        assertEquals(2.0, cursor.doubleV1(), 0.0);
+    }
+
+    /**
+     * Test primitive access of the wrong type throws exception.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testCursorWrongType() {
+        final PairColumns<Integer, Double> columns = PairColumns.create(int.class, double.class);
+        columns.add(1, 2.0);
+
+        columns.cursor().moveTo(0).longV0();
+    }
+
+    /**
+     * Test streaming the pairs.
+     */
+    @Test
+    public void testStream() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+        columns.add(2, "b");
+
+        final List<Pair<Integer, String>> pairs = columns.stream().collect(toList());
+        assertEquals(asList(Pair.of(1, "a"), Pair.of(2, "b")), pairs);
+    }
+
+    /**
+     * Test clearing the columns.
+     */
+    @Test
+    public void testClear() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+        columns.clear();
+
+        assertTrue(columns.isEmpty());
+        assertFalse(columns.cursor().next());
+    }
+
+    /**
+     * Test sorting by value 0 then value 1.
+     */
+    @Test
+    public void testSort() {
+        final PairColumns<Integer, Double> columns = PairColumns.create(int.class, double.class);
+        columns.add(2, 1.0);
+        columns.add(-1, 3.0);
+        columns.add(2, -0.5);
+        columns.add(0, 2.0);
+        columns.sort();
+
+        assertEquals(
+            asList(Pair.of(-1, 3.0), Pair.of(0, 2.0), Pair.of(2, -0.5), Pair.of(2, 1.0)),
+            columns.stream().collect(toList()));
+    }
+
+    /**
+     * Test sorting columns of references.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testSortReferences() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+        columns.sort();
+    }
+
+    /**
+     * Test reordering the columns.
+     */
+    @Test
+    public void testReorder() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+        columns.add(2, "b");
+        columns.add(3, "c");
+        columns.reorder(new int[] {2, 0, 1});
+
+        assertEquals(asList(Pair.of(3, "c"), Pair.of(1, "a"), Pair.of(2, "b")), columns.stream().collect(toList()));
+    }
+
+    /**
+     * Test reordering the columns with an order that is not a permutation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testReorderNotPermutation() {
+        final PairColumns<Integer, String> columns = PairColumns.create(int.class, String.class);
+        columns.add(1, "a");
+        columns.add(2, "b");
+        columns.reorder(new int[] {1, 1});
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link PairKey}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class PairKeyTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<Object> consumer;
+    @Mock
+    private Function<Object, Object> function;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final PairKey<Object, String> key = PairKey.of("a", "b");
+
+        assertEquals("a", key.v0());
+        assertEquals("b", key.v1());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final PairKey<Object, String> key = PairKey.of("a", "b");
+
+        key.acceptV0(consumer);
+        verify(consumer).accept("a");
+
+        key.acceptV1(consumer);
+        verify(consumer).accept("b");
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final PairKey<Object, String> key = PairKey.of("a", "b");
+
+        key.applyV0(function);
+        verify(function).apply("a");
+
+        key.applyV1(function);
+        verify(function).apply("b");
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+        final PairKey<Object, String> key1 = key0.mapV0(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+        final PairKey<Object, String> key1 = key0.mapV1(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+        final PairKey<Object, String> key1 = key0.map(Function.identity(), Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final PairKey<Object, String> key = PairKey.of("a", "b");
+
+        assertEquals("[a, b]", key.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+        final PairKey<Object, String> key1 = PairKey.of("a", "b");
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test two distinct objects wrapping null are equal.
+     */
+    @Test
+    public void testEqualsWrappingNull() {
+        final PairKey<Object, String> key0 = PairKey.of(null, "b");
+        final PairKey<Object, String> key1 = PairKey.of(null, "b");
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+
+        assertFalse(key0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+
+        assertFalse(key0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to key with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+        final PairKey<Object, String> key1 = PairKey.of("a", "e");
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test not equal to key with different values after the hash codes are cached.
+     */
+    @Test
+    public void testNotEqualsDifferentHashed() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+        final PairKey<Object, String> key1 = PairKey.of("a", "e");
+        key0.hashCode();
+        key1.hashCode();
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final PairKey<Object, String> key0 = PairKey.of("a", "b");
+
+        assertTrue(key0.equals(key0));
+    }
+
+    /**
+     * Test the hash code is the same as the hash code of {@link Pair}.
+     */
+    @Test
+    public void testHashCodeConsistent() {
+        final PairKey<Object, String> key = PairKey.of("a", "b");
+
+        assertEquals(Pair.of("a", "b").hashCode(), key.hashCode());
+        assertEquals(Pair.of("a", "b").hashCode(), key.hashCode());
+    }
+
+    /**
+     * Test conversion to and from {@link Pair}.
+     */
+    @Test
+    public void testToPair() {
+        final Pair<Object, String> pair = Pair.of("a", "b");
+        final PairKey<Object, String> key = PairKey.from(pair);
+
+        assertEquals(pair, key.toPair());
+        assertEquals(PairKey.of("a", "b"), key);
+    }
+}
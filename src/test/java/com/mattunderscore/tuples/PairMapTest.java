@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PairMap}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class PairMapTest {
+
+    /**
+     * Test adding and accessing values.
+     */
+    @Test
+    public void testPutAndGet() {
+        final PairMap<String, Integer, String> map = PairMap.create();
+
+        assertEquals(null, map.put("a", 1, "x"));
+        assertEquals("x", map.put("a", 1, "y"));
+        map.put("a", 2, "z");
+
+        assertEquals(2, map.size());
+        assertEquals("y", map.get("a", 1));
+        assertEquals("z", map.get("a", 2));
+        assertEquals(null, map.get("b", 1));
+        assertEquals("w", map.getOrDefault("b", 1, "w"));
+        assertTrue(map.containsKey("a", 1));
+        assertFalse(map.containsKey("b", 1));
+    }
+
+    /**
+     * Test null keys and values.
+     */
+    @Test
+    public void testNull() {
+        final PairMap<String, String, String> map = PairMap.create();
+        map.put(null, null, null);
+
+        assertEquals(1, map.size());
+        assertTrue(map.containsKey(null, null));
+        assertEquals(null, map.getOrDefault(null, null, "x"));
+        assertEquals(null, map.remove(null, null));
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Test computing absent values.
+     */
+    @Test
+    public void testComputeIfAbsent() {
+        final PairMap<Integer, Integer, Integer> map = PairMap.create();
+
+        assertEquals(Integer.valueOf(3), map.computeIfAbsent(1, 2, Integer::sum));
+        assertEquals(Integer.valueOf(3), map.computeIfAbsent(1, 2, (k0, k1) -> 0));
+        assertEquals(null, map.computeIfAbsent(2, 2, (k0, k1) -> null));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Test the map against a {@link HashMap} with random additions and removals.
+     */
+    @Test
+    public void testRandomOperations() {
+        final PairMap<Integer, Integer, Integer> map = PairMap.create(0);
+        final Map<Pair<Integer, Integer>, Integer> expected = new HashMap<>();
+        final Random random = new Random(7L);
+        for (int i = 0; i < 10000; i++) {
+            final int k0 = random.nextInt(20);
+            final int k1 = random.nextInt(20);
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(Pair.of(k0, k1), i), map.put(k0, k1, i));
+            }
+            else {
+                assertEquals(expected.remove(Pair.of(k0, k1)), map.remove(k0, k1));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (int k0 = 0; k0 < 20; k0++) {
+            for (int k1 = 0; k1 < 20; k1++) {
+                assertEquals(expected.get(Pair.of(k0, k1)), map.get(k0, k1));
+            }
+        }
+        final Map<Pair<Integer, Integer>, Integer> entries = new HashMap<>();
+        for (final Map.Entry<Pair<Integer, Integer>, Integer> entry : map.entrySet()) {
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        assertEquals(expected, entries);
+    }
+
+    /**
+     * Test clearing the map.
+     */
+    @Test
+    public void testClear() {
+        final PairMap<String, String, String> map = PairMap.create();
+        map.put("a", "b", "c");
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertEquals(null, map.get("a", "b"));
+        assertTrue(map.entrySet().isEmpty());
+    }
+
+    /**
+     * Test creating a map with a negative size throws exception.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize() {
+        PairMap.create(-1);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QuadColumns}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class QuadColumnsTest {
+
+    /**
+     * Test adding and accessing values.
+     */
+    @Test
+    public void testAddAndGet() {
+        final QuadColumns<Integer, Long, Double, String> columns =
+            QuadColumns.create(int.class, long.class, double.class, String.class, 1);
+        columns.add(1, 2L, 3.0, "a");
+        columns.add(Quad.of(4, 5L, 6.0, "b"));
+
+        assertEquals(2, columns.size());
+        assertEquals(Quad.of(1, 2L, 3.0, "a"), columns.get(0));
+        assertEquals(Quad.of(4, 5L, 6.0, "b"), columns.get(1));
+        assertEquals("b", columns.v3(1));
+    }
+
+    /**
+     * Test iterating with a cursor.
+     */
+    @Test
+    public void testCursor() {
+        final QuadColumns<Integer, Long, Double, String> columns =
+            QuadColumns.create(int.class, long.class, double.class, String.class);
+        columns.add(1, 2L, 3.0, "a");
+
+        final QuadColumns<Integer, Long, Double, String>.Cursor cursor = columns.cursor();
+        assertTrue(cursor.next());
+        assertEquals(1, cursor.intV0());
+        assertEquals(2L, cursor.longV1());
+        assertEquals(3.0, cursor.doubleV2(), 0.0);
+        assertEquals("a", cursor.v3());
+        assertFalse(cursor.next());
+    }
+
+    /**
+     * Test streaming the quads.
+     */
+    @Test
+    public void testStream() {
+        final QuadColumns<Integer, Long, Double, String> columns =
+            QuadColumns.create(int.class, long.class, double.class, String.class);
+        columns.add(1, 2L, 3.0, "a");
+
+        assertEquals(asList(Quad.of(1, 2L, 3.0, "a")), columns.stream().collect(toList()));
+    }
+}
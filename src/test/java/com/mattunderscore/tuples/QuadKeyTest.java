@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link QuadKey}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class QuadKeyTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<Object> consumer;
+    @Mock
+    private Function<Object, Object> function;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final QuadKey<Object, String, String, String> key = QuadKey.of("a", "b", "c", "d");
+
+        assertEquals("a", key.v0());
+        assertEquals("b", key.v1());
+        assertEquals("c", key.v2());
+        assertEquals("d", key.v3());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final QuadKey<Object, String, String, String> key = QuadKey.of("a", "b", "c", "d");
+
+        key.acceptV0(consumer);
+        verify(consumer).accept("a");
+
+        key.acceptV1(consumer);
+        verify(consumer).accept("b");
+
+        key.acceptV2(consumer);
+        verify(consumer).accept("c");
+
+        key.acceptV3(consumer);
+        verify(consumer).accept("d");
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final QuadKey<Object, String, String, String> key = QuadKey.of("a", "b", "c", "d");
+
+        key.applyV0(function);
+        verify(function).apply("a");
+
+        key.applyV1(function);
+        verify(function).apply("b");
+
+        key.applyV2(function);
+        verify(function).apply("c");
+
+        key.applyV3(function);
+        verify(function).apply("d");
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = key0.mapV0(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = key0.mapV1(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = key0.mapV2(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping value 3.
+     */
+    @Test
+    public void testMapV3() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = key0.mapV3(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = key0.map(
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final QuadKey<Object, String, String, String> key = QuadKey.of("a", "b", "c", "d");
+
+        assertEquals("[a, b, c, d]", key.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = QuadKey.of("a", "b", "c", "d");
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test two distinct objects wrapping null are equal.
+     */
+    @Test
+    public void testEqualsWrappingNull() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of(null, "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = QuadKey.of(null, "b", "c", "d");
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+
+        assertFalse(key0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+
+        assertFalse(key0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to key with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = QuadKey.of("a", "b", "c", "e");
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test not equal to key with different values after the hash codes are cached.
+     */
+    @Test
+    public void testNotEqualsDifferentHashed() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key1 = QuadKey.of("a", "b", "c", "e");
+        key0.hashCode();
+        key1.hashCode();
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final QuadKey<Object, String, String, String> key0 = QuadKey.of("a", "b", "c", "d");
+
+        assertTrue(key0.equals(key0));
+    }
+
+    /**
+     * Test the hash code is the same as the hash code of {@link Quad}.
+     */
+    @Test
+    public void testHashCodeConsistent() {
+        final QuadKey<Object, String, String, String> key = QuadKey.of("a", "b", "c", "d");
+
+        assertEquals(Quad.of("a", "b", "c", "d").hashCode(), key.hashCode());
+        assertEquals(Quad.of("a", "b", "c", "d").hashCode(), key.hashCode());
+    }
+
+    /**
+     * Test conversion to and from {@link Quad}.
+     */
+    @Test
+    public void testToQuad() {
+        final Quad<Object, String, String, String> quad = Quad.of("a", "b", "c", "d");
+        final QuadKey<Object, String, String, String> key = QuadKey.from(quad);
+
+        assertEquals(quad, key.toQuad());
+        assertEquals(QuadKey.of("a", "b", "c", "d"), key);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QuadMap}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class QuadMapTest {
+
+    /**
+     * Test adding, accessing and removing values.
+     */
+    @Test
+    public void testPutGetAndRemove() {
+        final QuadMap<String, Integer, Long, Long, String> map = QuadMap.create();
+        map.put("a", 1, 2L, 4L, "x");
+        map.put("a", 1, 3L, 4L, "y");
+
+        assertEquals("x", map.get("a", 1, 2L, 4L));
+        assertEquals("y", map.remove("a", 1, 3L, 4L));
+        assertEquals(null, map.get("a", 1, 3L, 4L));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Test computing absent values.
+     */
+    @Test
+    public void testComputeIfAbsent() {
+        final QuadMap<Integer, Integer, Integer, Integer, Integer> map = QuadMap.create();
+
+        assertEquals(Integer.valueOf(10), map.computeIfAbsent(1, 2, 3, 4, (k0, k1, k2, k3) -> k0 + k1 + k2 + k3));
+        assertTrue(map.containsKey(1, 2, 3, 4));
+    }
+
+    /**
+     * Test iterating the entries.
+     */
+    @Test
+    public void testEntrySet() {
+        final QuadMap<String, String, String, String, String> map = QuadMap.create();
+        map.put("a", "b", "c", "e", "d");
+
+        assertEquals(
+            singletonMap(Quad.of("a", "b", "c", "e"), "d").entrySet(),
+            map.entrySet());
+        assertEquals(new AbstractMap.SimpleImmutableEntry<>(Quad.of("a", "b", "c", "e"), "d"), map.entrySet().iterator().next());
+    }
+}
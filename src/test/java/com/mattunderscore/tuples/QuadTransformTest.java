@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QuadTransform}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class QuadTransformTest {
+
+    /**
+     * Test transforming values.
+     */
+    @Test
+    public void testApply() {
+        final QuadTransform<Integer, String, Integer, String, String, String, Integer, String> transform = QuadTransform
+            .<Integer, String, Integer, String>of()
+            .mapV0(v -> v + 1)
+            .mapV2(v -> v * 2)
+            .mapV0(v -> "v" + v);
+
+        assertEquals(Quad.of("v2", "a", 6, "b"), transform.apply(Quad.of(1, "a", 3, "b")));
+    }
+
+    /**
+     * Test each function is applied once.
+     */
+    @Test
+    public void testSinglePass() {
+        final AtomicInteger count = new AtomicInteger();
+        final QuadTransform<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> transform = QuadTransform
+            .<Integer, Integer, Integer, Integer>of()
+            .mapV1(v -> v + count.incrementAndGet())
+            .mapV3(v -> v + count.incrementAndGet());
+
+        assertEquals(Quad.of(0, 1, 0, 2), transform.apply(Quad.of(0, 0, 0, 0)));
+        assertEquals(2, count.get());
+    }
+
+    /**
+     * Test the original quad is returned if no value changes.
+     */
+    @Test
+    public void testUnchanged() {
+        final Quad<String, String, String, String> quad = Quad.of("a", "b", "c", "d");
+
+        assertTrue(quad == QuadTransform.<String, String, String, String>of().apply(quad));
+        assertTrue(quad == QuadTransform.<String, String, String, String>of().mapV3(v -> v).apply(quad));
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link Quint}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class QuintTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<Object> consumer;
+    @Mock
+    private Function<Object, Object> function;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final Quint<Object, String, String, String, String> quint = Quint.of("a", "b", "c", "d", "e");
+
+        assertEquals("a", quint.v0());
+        assertEquals("b", quint.v1());
+        assertEquals("c", quint.v2());
+        assertEquals("d", quint.v3());
+        assertEquals("e", quint.v4());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final Quint<Object, String, String, String, String> quint = Quint.of("a", "b", "c", "d", "e");
+
+        quint.acceptV0(consumer);
+        verify(consumer).accept("a");
+
+        quint.acceptV1(consumer);
+        verify(consumer).accept("b");
+
+        quint.acceptV2(consumer);
+        verify(consumer).accept("c");
+
+        quint.acceptV3(consumer);
+        verify(consumer).accept("d");
+
+        quint.acceptV4(consumer);
+        verify(consumer).accept("e");
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final Quint<Object, String, String, String, String> quint = Quint.of("a", "b", "c", "d", "e");
+
+        quint.applyV0(function);
+        verify(function).apply("a");
+
+        quint.applyV1(function);
+        verify(function).apply("b");
+
+        quint.applyV2(function);
+        verify(function).apply("c");
+
+        quint.applyV3(function);
+        verify(function).apply("d");
+
+        quint.applyV4(function);
+        verify(function).apply("e");
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = quint0.mapV0(Function.identity());
+
+        assertEquals(quint0, quint1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = quint0.mapV1(Function.identity());
+
+        assertEquals(quint0, quint1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = quint0.mapV2(Function.identity());
+
+        assertEquals(quint0, quint1);
+    }
+
+    /**
+     * Test mapping value 3.
+     */
+    @Test
+    public void testMapV3() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = quint0.mapV3(Function.identity());
+
+        assertEquals(quint0, quint1);
+    }
+
+    /**
+     * Test mapping value 4.
+     */
+    @Test
+    public void testMapV4() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = quint0.mapV4(Function.identity());
+
+        assertEquals(quint0, quint1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = quint0.map(
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity());
+
+        assertEquals(quint0, quint1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final Quint<Object, String, String, String, String> quint = Quint.of("a", "b", "c", "d", "e");
+
+        assertEquals("[a, b, c, d, e]", quint.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = Quint.of("a", "b", "c", "d", "e");
+
+        assertTrue(quint0.equals(quint1));
+        assertTrue(quint1.equals(quint0));
+        assertEquals(quint0.hashCode(), quint1.hashCode());
+    }
+
+    /**
+     * Test two distinct objects wrapping null are equal.
+     */
+    @Test
+    public void testEqualsWrappingNull() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of(null, "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = Quint.of(null, "b", "c", "d", "e");
+
+        assertTrue(quint0.equals(quint1));
+        assertTrue(quint1.equals(quint0));
+        assertEquals(quint0.hashCode(), quint1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+
+        assertFalse(quint0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+
+        assertFalse(quint0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+        final Quint<Object, String, String, String, String> quint1 = Quint.of("a", "b", "c", "d", "z");
+
+        assertFalse(quint0.equals(quint1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final Quint<Object, String, String, String, String> quint0 = Quint.of("a", "b", "c", "d", "e");
+
+        assertTrue(quint0.equals(quint0));
+    }
+}
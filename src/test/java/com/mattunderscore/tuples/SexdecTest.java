@@ -0,0 +1,531 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link Sexdec}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class SexdecTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<Object> consumer;
+    @Mock
+    private Function<Object, Object> function;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertEquals("a", sexdec.v0());
+        assertEquals("b", sexdec.v1());
+        assertEquals("c", sexdec.v2());
+        assertEquals("d", sexdec.v3());
+        assertEquals("e", sexdec.v4());
+        assertEquals("f", sexdec.v5());
+        assertEquals("g", sexdec.v6());
+        assertEquals("h", sexdec.v7());
+        assertEquals("i", sexdec.v8());
+        assertEquals("j", sexdec.v9());
+        assertEquals("k", sexdec.v10());
+        assertEquals("l", sexdec.v11());
+        assertEquals("m", sexdec.v12());
+        assertEquals("n", sexdec.v13());
+        assertEquals("o", sexdec.v14());
+        assertEquals("p", sexdec.v15());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        sexdec.acceptV0(consumer);
+        verify(consumer).accept("a");
+
+        sexdec.acceptV1(consumer);
+        verify(consumer).accept("b");
+
+        sexdec.acceptV2(consumer);
+        verify(consumer).accept("c");
+
+        sexdec.acceptV3(consumer);
+        verify(consumer).accept("d");
+
+        sexdec.acceptV4(consumer);
+        verify(consumer).accept("e");
+
+        sexdec.acceptV5(consumer);
+        verify(consumer).accept("f");
+
+        sexdec.acceptV6(consumer);
+        verify(consumer).accept("g");
+
+        sexdec.acceptV7(consumer);
+        verify(consumer).accept("h");
+
+        sexdec.acceptV8(consumer);
+        verify(consumer).accept("i");
+
+        sexdec.acceptV9(consumer);
+        verify(consumer).accept("j");
+
+        sexdec.acceptV10(consumer);
+        verify(consumer).accept("k");
+
+        sexdec.acceptV11(consumer);
+        verify(consumer).accept("l");
+
+        sexdec.acceptV12(consumer);
+        verify(consumer).accept("m");
+
+        sexdec.acceptV13(consumer);
+        verify(consumer).accept("n");
+
+        sexdec.acceptV14(consumer);
+        verify(consumer).accept("o");
+
+        sexdec.acceptV15(consumer);
+        verify(consumer).accept("p");
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        sexdec.applyV0(function);
+        verify(function).apply("a");
+
+        sexdec.applyV1(function);
+        verify(function).apply("b");
+
+        sexdec.applyV2(function);
+        verify(function).apply("c");
+
+        sexdec.applyV3(function);
+        verify(function).apply("d");
+
+        sexdec.applyV4(function);
+        verify(function).apply("e");
+
+        sexdec.applyV5(function);
+        verify(function).apply("f");
+
+        sexdec.applyV6(function);
+        verify(function).apply("g");
+
+        sexdec.applyV7(function);
+        verify(function).apply("h");
+
+        sexdec.applyV8(function);
+        verify(function).apply("i");
+
+        sexdec.applyV9(function);
+        verify(function).apply("j");
+
+        sexdec.applyV10(function);
+        verify(function).apply("k");
+
+        sexdec.applyV11(function);
+        verify(function).apply("l");
+
+        sexdec.applyV12(function);
+        verify(function).apply("m");
+
+        sexdec.applyV13(function);
+        verify(function).apply("n");
+
+        sexdec.applyV14(function);
+        verify(function).apply("o");
+
+        sexdec.applyV15(function);
+        verify(function).apply("p");
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV0(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV1(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV2(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 3.
+     */
+    @Test
+    public void testMapV3() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV3(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 4.
+     */
+    @Test
+    public void testMapV4() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV4(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 5.
+     */
+    @Test
+    public void testMapV5() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV5(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 6.
+     */
+    @Test
+    public void testMapV6() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV6(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 7.
+     */
+    @Test
+    public void testMapV7() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV7(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 8.
+     */
+    @Test
+    public void testMapV8() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV8(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 9.
+     */
+    @Test
+    public void testMapV9() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV9(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 10.
+     */
+    @Test
+    public void testMapV10() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV10(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 11.
+     */
+    @Test
+    public void testMapV11() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV11(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 12.
+     */
+    @Test
+    public void testMapV12() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV12(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 13.
+     */
+    @Test
+    public void testMapV13() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV13(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 14.
+     */
+    @Test
+    public void testMapV14() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV14(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping value 15.
+     */
+    @Test
+    public void testMapV15() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.mapV15(Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = sexdec0.map(
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity(),
+            Function.identity());
+
+        assertEquals(sexdec0, sexdec1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertEquals("[a, b, c, d, e, f, g, h, i, j, k, l, m, n, o, p]", sexdec.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertTrue(sexdec0.equals(sexdec1));
+        assertTrue(sexdec1.equals(sexdec0));
+        assertEquals(sexdec0.hashCode(), sexdec1.hashCode());
+    }
+
+    /**
+     * Test two distinct objects wrapping null are equal.
+     */
+    @Test
+    public void testEqualsWrappingNull() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of(null, "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = Sexdec.of(null, "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertTrue(sexdec0.equals(sexdec1));
+        assertTrue(sexdec1.equals(sexdec0));
+        assertEquals(sexdec0.hashCode(), sexdec1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertFalse(sexdec0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertFalse(sexdec0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to tuple with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec1 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "z");
+
+        assertFalse(sexdec0.equals(sexdec1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final Sexdec<Object, String, String, String, String, String, String, String, String, String, String, String,
+            String, String, String, String> sexdec0 = Sexdec.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+            "l", "m", "n", "o", "p");
+
+        assertTrue(sexdec0.equals(sexdec0));
+    }
+}
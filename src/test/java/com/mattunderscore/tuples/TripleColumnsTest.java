@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TripleColumns}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TripleColumnsTest {
+
+    /**
+     * Test adding and accessing values.
+     */
+    @Test
+    public void testAddAndGet() {
+        final TripleColumns<Integer, Long, String> columns = TripleColumns.create(int.class, long.class, String.class, 1);
+        columns.add(1, 2L, "a");
+        columns.add(Triple.of(3, 4L, "b"));
+
+        assertEquals(2, columns.size());
+        assertEquals(Triple.of(1, 2L, "a"), columns.get(0));
+        assertEquals(Triple.of(3, 4L, "b"), columns.get(1));
+        assertEquals("b", columns.v2(1));
+    }
+
+    /**
+     * Test iterating with a cursor.
+     */
+    @Test
+    public void testCursor() {
+        final TripleColumns<Integer, Long, Double> columns = TripleColumns.create(int.class, long.class, double.class);
+        columns.addAll(asList(Triple.of(1, 2L, 3.0)));
+
+        final TripleColumns<Integer, Long, Double>.Cursor cursor = columns.cursor();
+        assertTrue(cursor.next());
+        assertEquals(1, cursor.intV0());
+        assertEquals(2L, cursor.longV1());
+        assertEquals(3.0, cursor.doubleV2(), 0.0);
+        assertFalse(cursor.next());
+    }
+
+    /**
+     * Test streaming the triples.
+     */
+    @Test
+    public void testStream() {
+        final TripleColumns<Integer, Long, String> columns = TripleColumns.create(int.class, long.class, String.class);
+        columns.add(1, 2L, "a");
+
+        assertEquals(asList(Triple.of(1, 2L, "a")), columns.stream().collect(toList()));
+    }
+}
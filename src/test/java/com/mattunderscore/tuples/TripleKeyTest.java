@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+/**
+ * Unit test for {@link TripleKey}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TripleKeyTest {
+    /**
+     * Mockito rule.
+     */
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<Object> consumer;
+    @Mock
+    private Function<Object, Object> function;
+
+    /**
+     * Test value access.
+     */
+    @Test
+    public void testAccess() {
+        final TripleKey<Object, String, String> key = TripleKey.of("a", "b", "c");
+
+        assertEquals("a", key.v0());
+        assertEquals("b", key.v1());
+        assertEquals("c", key.v2());
+    }
+
+    /**
+     * Test value consumers.
+     */
+    @Test
+    public void testAccept() {
+        final TripleKey<Object, String, String> key = TripleKey.of("a", "b", "c");
+
+        key.acceptV0(consumer);
+        verify(consumer).accept("a");
+
+        key.acceptV1(consumer);
+        verify(consumer).accept("b");
+
+        key.acceptV2(consumer);
+        verify(consumer).accept("c");
+    }
+
+    /**
+     * Test applying functions to values.
+     */
+    @Test
+    public void testApply() {
+        final TripleKey<Object, String, String> key = TripleKey.of("a", "b", "c");
+
+        key.applyV0(function);
+        verify(function).apply("a");
+
+        key.applyV1(function);
+        verify(function).apply("b");
+
+        key.applyV2(function);
+        verify(function).apply("c");
+    }
+
+    /**
+     * Test mapping value 0.
+     */
+    @Test
+    public void testMapV0() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = key0.mapV0(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping value 1.
+     */
+    @Test
+    public void testMapV1() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = key0.mapV1(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping value 2.
+     */
+    @Test
+    public void testMapV2() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = key0.mapV2(Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test mapping all values.
+     */
+    @Test
+    public void testMap() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = key0.map(Function.identity(), Function.identity(), Function.identity());
+
+        assertEquals(key0, key1);
+    }
+
+    /**
+     * Test toString implementation.
+     */
+    @Test
+    public void testToString() {
+        final TripleKey<Object, String, String> key = TripleKey.of("a", "b", "c");
+
+        assertEquals("[a, b, c]", key.toString());
+    }
+
+    /**
+     * Test two distinct objects are equal.
+     */
+    @Test
+    public void testEquals() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = TripleKey.of("a", "b", "c");
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test two distinct objects wrapping null are equal.
+     */
+    @Test
+    public void testEqualsWrappingNull() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of(null, "b", "c");
+        final TripleKey<Object, String, String> key1 = TripleKey.of(null, "b", "c");
+
+        assertTrue(key0.equals(key1));
+        assertTrue(key1.equals(key0));
+        assertEquals(key0.hashCode(), key1.hashCode());
+    }
+
+    /**
+     * Test not equal to null.
+     */
+    @Test
+    public void testNotEqualsNull() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+
+        assertFalse(key0.equals(null));
+    }
+
+    /**
+     * Test not equal to object of different type.
+     */
+    @Test
+    public void testNotEqualsObject() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+
+        assertFalse(key0.equals(new Object()));
+    }
+
+    /**
+     * Test not equal to key with different values.
+     */
+    @Test
+    public void testNotEqualsDifferent() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = TripleKey.of("a", "b", "e");
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test not equal to key with different values after the hash codes are cached.
+     */
+    @Test
+    public void testNotEqualsDifferentHashed() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+        final TripleKey<Object, String, String> key1 = TripleKey.of("a", "b", "e");
+        key0.hashCode();
+        key1.hashCode();
+
+        assertFalse(key0.equals(key1));
+    }
+
+    /**
+     * Test object equals self.
+     */
+    @Test
+    public void testEqualsSelf() {
+        final TripleKey<Object, String, String> key0 = TripleKey.of("a", "b", "c");
+
+        assertTrue(key0.equals(key0));
+    }
+
+    /**
+     * Test the hash code is the same as the hash code of {@link Triple}.
+     */
+    @Test
+    public void testHashCodeConsistent() {
+        final TripleKey<Object, String, String> key = TripleKey.of("a", "b", "c");
+
+        assertEquals(Triple.of("a", "b", "c").hashCode(), key.hashCode());
+        assertEquals(Triple.of("a", "b", "c").hashCode(), key.hashCode());
+    }
+
+    /**
+     * Test conversion to and from {@link Triple}.
+     */
+    @Test
+    public void testToTriple() {
+        final Triple<Object, String, String> triple = Triple.of("a", "b", "c");
+        final TripleKey<Object, String, String> key = TripleKey.from(triple);
+
+        assertEquals(triple, key.toTriple());
+        assertEquals(TripleKey.of("a", "b", "c"), key);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TripleMap}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TripleMapTest {
+
+    /**
+     * Test adding, accessing and removing values.
+     */
+    @Test
+    public void testPutGetAndRemove() {
+        final TripleMap<String, Integer, Long, String> map = TripleMap.create();
+        map.put("a", 1, 2L, "x");
+        map.put("a", 1, 3L, "y");
+
+        assertEquals("x", map.get("a", 1, 2L));
+        assertEquals("y", map.remove("a", 1, 3L));
+        assertEquals(null, map.get("a", 1, 3L));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Test computing absent values.
+     */
+    @Test
+    public void testComputeIfAbsent() {
+        final TripleMap<Integer, Integer, Integer, Integer> map = TripleMap.create();
+
+        assertEquals(Integer.valueOf(6), map.computeIfAbsent(1, 2, 3, (k0, k1, k2) -> k0 + k1 + k2));
+        assertTrue(map.containsKey(1, 2, 3));
+    }
+
+    /**
+     * Test iterating the entries.
+     */
+    @Test
+    public void testEntrySet() {
+        final TripleMap<String, String, String, String> map = TripleMap.create();
+        map.put("a", "b", "c", "d");
+
+        assertEquals(
+            singletonMap(Triple.of("a", "b", "c"), "d").entrySet(),
+            map.entrySet());
+        assertEquals(new AbstractMap.SimpleImmutableEntry<>(Triple.of("a", "b", "c"), "d"), map.entrySet().iterator().next());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TripleTransform}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TripleTransformTest {
+
+    /**
+     * Test transforming values of a stream.
+     */
+    @Test
+    public void testApply() {
+        final TripleTransform<Integer, Integer, Integer, String, Integer, Integer> transform = TripleTransform
+            .<Integer, Integer, Integer>of()
+            .mapV0(Object::toString)
+            .mapV2(v -> -v);
+
+        assertEquals(
+            asList(Triple.of("1", 2, -3), Triple.of("4", 5, -6)),
+            asList(Triple.of(1, 2, 3), Triple.of(4, 5, 6)).stream().map(transform).collect(toList()));
+    }
+
+    /**
+     * Test the original triple is returned if no value changes.
+     */
+    @Test
+    public void testUnchanged() {
+        final Triple<String, String, String> triple = Triple.of("a", "b", "c");
+
+        assertTrue(triple == TripleTransform.<String, String, String>of().mapV1(String::intern).apply(triple));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleBuffer}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleBufferTest {
+
+    /**
+     * Test setting and getting values.
+     */
+    @Test
+    public void testSetAndGet() {
+        final TupleBuffer buffer = TupleBuffer.create(long.class, int.class, double.class);
+        final int i = buffer.add();
+        buffer.setLong(i, 0, 5L);
+        buffer.setInt(i, 1, 6);
+        buffer.setDouble(i, 2, 7.0);
+
+        assertEquals(3, buffer.arity());
+        assertEquals(1, buffer.size());
+        assertEquals(5L, buffer.getLong(i, 0));
+        assertEquals(6, buffer.getInt(i, 1));
+        assertEquals(7.0, buffer.getDouble(i, 2), 0.0);
+    }
+
+    /**
+     * Test the buffer grows beyond a single chunk.
+     */
+    @Test
+    public void testGrow() {
+        final TupleBuffer buffer = TupleBuffer.create(4, long.class, long.class);
+        for (long i = 0; i < 100; i++) {
+            buffer.add(Pair.of(i, -i));
+        }
+
+        assertEquals(100, buffer.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Pair.of((long) i, (long) -i), buffer.toPair(i));
+        }
+    }
+
+    /**
+     * Test conversion to and from the tuples.
+     */
+    @Test
+    public void testConversion() {
+        final TupleBuffer triples = TupleBuffer.create(int.class, long.class, double.class);
+        triples.add(Triple.of(1, 2L, 3.0));
+        final TupleBuffer quads = TupleBuffer.create(int.class, int.class, int.class, int.class);
+        quads.add(Quad.of(1, 2, 3, 4));
+        final TupleBuffer tuples = TupleBuffer.create(double.class);
+        tuples.add(NTuple.of(1.0));
+
+        assertEquals(Triple.of(1, 2L, 3.0), triples.toTriple(0));
+        assertEquals(NTuple.of(1, 2L, 3.0), triples.toNTuple(0));
+        assertEquals(Quad.of(1, 2, 3, 4), quads.toQuad(0));
+        assertEquals(NTuple.of(1.0), tuples.toNTuple(0));
+    }
+
+    /**
+     * Test adding a tuple of the wrong type does not add it.
+     */
+    @Test
+    public void testAddWrongType() {
+        final TupleBuffer buffer = TupleBuffer.create(long.class, long.class);
+        try {
+            buffer.add(Pair.of(1L, 2));
+        }
+        catch (ClassCastException e) {
+            assertEquals("Value 1 expected long but was java.lang.Integer", e.getMessage());
+            assertTrue(buffer.isEmpty());
+            return;
+        }
+        fail("Exception expected");
+    }
+
+    /**
+     * Test accessing a value as the wrong type throws exception.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testGetWrongType() {
+        final TupleBuffer buffer = TupleBuffer.create(long.class);
+        buffer.getInt(buffer.add(), 0);
+    }
+
+    /**
+     * Test adding a tuple of the wrong arity throws exception.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddWrongArity() {
+        TupleBuffer.create(long.class).add(Pair.of(1L, 2L));
+    }
+
+    /**
+     * Test accessing a tuple out of range throws exception.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        final TupleBuffer buffer = TupleBuffer.create(long.class);
+        buffer.add();
+        buffer.getLong(1, 0);
+    }
+
+    /**
+     * Test creating a buffer of references throws exception.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedType() {
+        TupleBuffer.create(long.class, String.class);
+    }
+
+    /**
+     * Test clearing and reusing the buffer.
+     */
+    @Test
+    public void testClear() {
+        final TupleBuffer buffer = TupleBuffer.create(long.class);
+        buffer.setLong(buffer.add(), 0, 5L);
+        buffer.clear();
+
+        assertTrue(buffer.isEmpty());
+        assertEquals(0L, buffer.getLong(buffer.add(), 0));
+    }
+
+    /**
+     * Test iterating and updating with a cursor.
+     */
+    @Test
+    public void testCursor() {
+        final TupleBuffer buffer = TupleBuffer.create(2, int.class, double.class);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(Pair.of(i, 0.0));
+        }
+
+        final TupleBuffer.Cursor cursor = buffer.cursor();
+        while (cursor.next()) {
+            cursor.setDouble(1, cursor.getInt(0) * 2.0);
+        }
+
+        assertFalse(cursor.next());
+        assertEquals(Pair.of(4, 8.0), cursor.toPair());
+        assertEquals(6.0, cursor.moveTo(3).getDouble(1), 0.0);
+        assertEquals(6.0, buffer.getDouble(3, 1), 0.0);
+    }
+}
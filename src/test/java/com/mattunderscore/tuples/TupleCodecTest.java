@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleCodec}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleCodecTest {
+
+    /**
+     * Test encoding and decoding a pair.
+     */
+    @Test
+    public void testPair() {
+        final TupleCodec<Pair<Integer, String>> codec = TupleCodec.pairs(ValueCodecs.ints(), ValueCodecs.strings());
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(Pair.of(-1, "aé"), buffer);
+        buffer.flip();
+
+        // Arity, bitmap, zigzag -1, length and three bytes of UTF-8
+        assertEquals(7, buffer.remaining());
+        assertEquals(Pair.of(-1, "aé"), codec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * Test encoding and decoding null values.
+     */
+    @Test
+    public void testNull() {
+        final TupleCodec<Triple<Long, String, Double>> codec =
+            TupleCodec.triples(ValueCodecs.longs(), ValueCodecs.strings(), ValueCodecs.doubles());
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        codec.encode(Triple.of(null, null, 1.5), buffer);
+        buffer.flip();
+
+        assertEquals(Triple.of(null, null, 1.5), codec.decode(buffer));
+    }
+
+    /**
+     * Test encoding and decoding a quad.
+     */
+    @Test
+    public void testQuad() {
+        final TupleCodec<Quad<Long, Long, Long, String>> codec =
+            TupleCodec.quads(ValueCodecs.longs(), ValueCodecs.longs(), ValueCodecs.longs(), ValueCodecs.strings());
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        final Quad<Long, Long, Long, String> quad = Quad.of(Long.MIN_VALUE, Long.MAX_VALUE, 0L, "");
+        codec.encode(quad, buffer);
+        buffer.flip();
+
+        assertEquals(quad, codec.decode(buffer));
+    }
+
+    /**
+     * Test encoding and decoding n-tuples wider than a byte of the null bitmap.
+     */
+    @Test
+    public void testNTuple() {
+        final ValueCodec<?>[] codecs = new ValueCodec<?>[10];
+        final Object[] values = new Object[10];
+        for (int i = 0; i < 10; i++) {
+            codecs[i] = ValueCodecs.ints();
+            values[i] = i % 3 == 0 ? null : i;
+        }
+        final TupleCodec<NTuple> codec = TupleCodec.nTuples(codecs);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(NTuple.of(values), buffer);
+        buffer.flip();
+
+        assertEquals(NTuple.of(values), codec.decode(buffer));
+    }
+
+    /**
+     * Test encoding and decoding batches.
+     */
+    @Test
+    public void testBatch() {
+        final TupleCodec<Pair<Integer, Integer>> codec = TupleCodec.pairs(ValueCodecs.ints(), ValueCodecs.ints());
+        final List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            pairs.add(Pair.of(i, -i * 1000));
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(1 << 14);
+        codec.encodeAll(pairs, buffer);
+        codec.encodeAll(asList(Pair.of(1, 2)), buffer);
+        buffer.flip();
+
+        final List<Pair<Integer, Integer>> decoded = new ArrayList<>();
+        assertEquals(1000, codec.decodeAll(buffer, decoded::add));
+        assertEquals(pairs, decoded);
+        assertEquals(1, codec.decodeAll(buffer, pair -> assertEquals(Pair.of(1, 2), pair)));
+    }
+
+    /**
+     * Test decoding a tuple of the wrong arity throws exception.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongArity() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        TupleCodec.pairs(ValueCodecs.ints(), ValueCodecs.ints()).encode(Pair.of(1, 2), buffer);
+        buffer.flip();
+
+        TupleCodec.nTuples(ValueCodecs.ints()).decode(buffer);
+    }
+
+    /**
+     * Test encoding an n-tuple of the wrong arity writes nothing.
+     */
+    @Test
+    public void testEncodeWrongArity() {
+        final TupleCodec<NTuple> codec = TupleCodec.nTuples(ValueCodecs.ints(), ValueCodecs.ints());
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        try {
+            codec.encode(NTuple.of(1), buffer);
+            fail("Exception expected");
+        }
+        catch (IllegalArgumentException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    /**
+     * Test encoding a batch containing an n-tuple of the wrong arity writes nothing.
+     */
+    @Test
+    public void testEncodeAllWrongArity() {
+        final TupleCodec<NTuple> codec = TupleCodec.nTuples(ValueCodecs.ints(), ValueCodecs.ints());
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        try {
+            codec.encodeAll(asList(NTuple.of(1, 2), NTuple.of(1, 2, 3)), buffer);
+            fail("Exception expected");
+        }
+        catch (IllegalArgumentException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    /**
+     * Test decoding a tuple cut inside the null bitmap.
+     */
+    @Test(expected = BufferUnderflowException.class)
+    public void testTruncatedBitmap() {
+        final ValueCodec<?>[] codecs = new ValueCodec<?>[10];
+        Arrays.fill(codecs, ValueCodecs.ints());
+        final TupleCodec<NTuple> codec = TupleCodec.nTuples(codecs);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(NTuple.of(new Object[10]), buffer);
+        buffer.flip();
+        // Arity and the first byte of the bitmap
+        buffer.limit(2);
+
+        codec.decode(buffer);
+    }
+
+    /**
+     * Test decoding a truncated string from a heap buffer.
+     */
+    @Test(expected = BufferUnderflowException.class)
+    public void testTruncatedString() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        ValueCodecs.strings().encode("abc", buffer);
+        buffer.flip();
+        buffer.limit(buffer.limit() - 1);
+
+        ValueCodecs.strings().decode(buffer);
+    }
+
+    /**
+     * Test decoding a string with a negative length.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStringLength() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        ValueCodecs.putVarLong(buffer, -1L);
+        buffer.put(new byte[16]);
+        buffer.flip();
+
+        ValueCodecs.strings().decode(buffer);
+    }
+
+    /**
+     * Test decoding a string with a length that does not fit in an {@code int}.
+     */
+    @Test(expected = BufferUnderflowException.class)
+    public void testOversizedStringLength() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        ValueCodecs.putVarLong(buffer, (1L << 32) + 3L);
+        buffer.put(new byte[] {'a', 'b', 'c'});
+        buffer.flip();
+
+        ValueCodecs.strings().decode(buffer);
+    }
+
+    /**
+     * Test decoding a string with a length that is negative as an {@code int}.
+     */
+    @Test(expected = BufferUnderflowException.class)
+    public void testIntOverflowStringLength() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        ValueCodecs.putVarLong(buffer, 1L << 31);
+        buffer.put(new byte[16]);
+        buffer.flip();
+
+        ValueCodecs.strings().decode(buffer);
+    }
+
+    /**
+     * Test variable length integers.
+     */
+    @Test
+    public void testVarLong() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        ValueCodecs.putVarLong(buffer, 127L);
+        ValueCodecs.putVarLong(buffer, 128L);
+        ValueCodecs.putVarLong(buffer, -1L);
+        buffer.flip();
+
+        assertEquals(13, buffer.remaining());
+        assertEquals(127L, ValueCodecs.getVarLong(buffer));
+        assertEquals(128L, ValueCodecs.getVarLong(buffer));
+        assertEquals(-1L, ValueCodecs.getVarLong(buffer));
+    }
+}
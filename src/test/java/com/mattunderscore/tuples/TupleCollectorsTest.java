@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.summingInt;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleCollectors}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleCollectorsTest {
+
+    /**
+     * Test unzipping pairs.
+     */
+    @Test
+    public void testUnzip() {
+        final Pair<List<Integer>, List<String>> lists = IntStream
+            .range(0, 1000)
+            .parallel()
+            .mapToObj(i -> Pair.of(i, Integer.toString(i)))
+            .collect(TupleCollectors.unzip());
+
+        assertEquals(range(1000), lists.v0());
+        assertEquals(range(1000).stream().map(Object::toString).collect(toList()), lists.v1());
+    }
+
+    /**
+     * Test unzipping triples.
+     */
+    @Test
+    public void testUnzip3() {
+        final Triple<List<Integer>, List<Integer>, List<Integer>> lists = IntStream
+            .range(0, 1000)
+            .parallel()
+            .mapToObj(i -> Triple.of(i, i * 2, i * 3))
+            .collect(TupleCollectors.unzip3());
+
+        assertEquals(range(1000), lists.v0());
+        assertEquals(range(1000).stream().map(i -> i * 2).collect(toList()), lists.v1());
+        assertEquals(range(1000).stream().map(i -> i * 3).collect(toList()), lists.v2());
+    }
+
+    /**
+     * Test partitioning.
+     */
+    @Test
+    public void testPartitioning() {
+        final Pair<List<Integer>, List<Integer>> partitions = range(10)
+            .parallelStream()
+            .collect(TupleCollectors.partitioningToPair(i -> i % 2 == 0));
+
+        assertEquals(asList(0, 2, 4, 6, 8), partitions.v0());
+        assertEquals(asList(1, 3, 5, 7, 9), partitions.v1());
+    }
+
+    /**
+     * Test partitioning with a downstream collector.
+     */
+    @Test
+    public void testPartitioningDownstream() {
+        final Pair<Long, Long> partitions = range(10)
+            .parallelStream()
+            .collect(TupleCollectors.partitioningToPair(i -> i < 3, counting()));
+
+        assertEquals(Pair.of(3L, 7L), partitions);
+    }
+
+    /**
+     * Test teeing to a pair.
+     */
+    @Test
+    public void testTeeingPair() {
+        final Pair<Long, Integer> results = range(1000)
+            .parallelStream()
+            .collect(TupleCollectors.teeing(counting(), summingInt(i -> i)));
+
+        assertEquals(Pair.of(1000L, 499500), results);
+    }
+
+    /**
+     * Test teeing to a triple.
+     */
+    @Test
+    public void testTeeingTriple() {
+        final Triple<Long, Integer, List<Integer>> results = range(1000)
+            .parallelStream()
+            .collect(TupleCollectors.teeing(counting(), summingInt(i -> i), toList()));
+
+        assertEquals(Triple.of(1000L, 499500, range(1000)), results);
+    }
+
+    /**
+     * Test teeing to a quad.
+     */
+    @Test
+    public void testTeeingQuad() {
+        final Quad<Long, Integer, List<Integer>, Set<Integer>> results = asList(1, 2, 2)
+            .parallelStream()
+            .collect(TupleCollectors.teeing(counting(), summingInt(i -> i), toList(), toSet()));
+
+        assertEquals(Quad.of(3L, 5, asList(1, 2, 2), new HashSet<>(asList(1, 2))), results);
+    }
+
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().collect(toList());
+    }
+}
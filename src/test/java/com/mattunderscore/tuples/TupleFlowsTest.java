@@ -0,0 +1,404 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleFlows}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleFlowsTest {
+
+    /**
+     * Test zipping two publishers completes with the shorter one.
+     */
+    @Test
+    public void testZipPairs() {
+        final RecordingSubscriber<Pair<Integer, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.zip(new RangePublisher(5), new RangePublisher(3)).subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(asList(Pair.of(0, 0), Pair.of(1, 1), Pair.of(2, 2)), subscriber.items);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    /**
+     * Test zipping three and four publishers.
+     */
+    @Test
+    public void testZipTriplesAndQuads() {
+        final RecordingSubscriber<Triple<Integer, Integer, Integer>> triples = new RecordingSubscriber<>();
+        TupleFlows.zip(new RangePublisher(2), new RangePublisher(2), new RangePublisher(2)).subscribe(triples);
+        final RecordingSubscriber<Quad<Integer, Integer, Integer, Integer>> quads = new RecordingSubscriber<>();
+        TupleFlows
+            .zip(new RangePublisher(1), new RangePublisher(2), new RangePublisher(3), new RangePublisher(4))
+            .subscribe(quads);
+
+        triples.request(10);
+        quads.request(10);
+        assertEquals(asList(Triple.of(0, 0, 0), Triple.of(1, 1, 1)), triples.items);
+        assertTrue(triples.completed);
+        assertEquals(asList(Quad.of(0, 0, 0, 0)), quads.items);
+        assertTrue(quads.completed);
+    }
+
+    /**
+     * Test tuples are only emitted when requested.
+     */
+    @Test
+    public void testZipDemand() {
+        final RecordingSubscriber<Pair<Integer, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.zip(new RangePublisher(5), new RangePublisher(5)).subscribe(subscriber);
+
+        assertEquals(0, subscriber.items.size());
+        subscriber.request(2);
+        assertEquals(2, subscriber.items.size());
+        assertFalse(subscriber.completed);
+        subscriber.request(3);
+        assertEquals(5, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Test sources are prefetched and replenished in batches.
+     */
+    @Test
+    public void testBatchedRequests() {
+        final RangePublisher source0 = new RangePublisher(1000);
+        final RangePublisher source1 = new RangePublisher(1000);
+        final RecordingSubscriber<Pair<Integer, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.zip(source0, source1).subscribe(subscriber);
+
+        assertEquals(asList((long) Flow.defaultBufferSize()), source0.requests);
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(1000, subscriber.items.size());
+        final long batch = Flow.defaultBufferSize() - Flow.defaultBufferSize() / 4;
+        for (final long request : source0.requests.subList(1, source0.requests.size())) {
+            assertEquals(batch, request);
+        }
+        assertEquals(source0.requests, source1.requests);
+    }
+
+    /**
+     * Test combining the latest items.
+     */
+    @Test
+    public void testCombineLatest() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.combineLatest(source0, source1).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        source0.emit("a");
+        assertEquals(0, subscriber.items.size());
+        source1.emit(1);
+        source0.emit("b");
+        source1.emit(2);
+        source0.complete();
+        assertFalse(subscriber.completed);
+        source1.emit(3);
+        source1.complete();
+        assertEquals(
+            asList(Pair.of("a", 1), Pair.of("b", 1), Pair.of("b", 2), Pair.of("b", 3)),
+            subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Test combining the latest items of three and four sources.
+     */
+    @Test
+    public void testCombineLatestTriplesAndQuads() {
+        final RecordingSubscriber<Triple<Integer, Integer, Integer>> triples = new RecordingSubscriber<>();
+        TupleFlows
+            .combineLatest(new RangePublisher(1), new RangePublisher(1), new RangePublisher(2))
+            .subscribe(triples);
+        final RecordingSubscriber<Quad<Integer, Integer, Integer, Integer>> quads = new RecordingSubscriber<>();
+        TupleFlows
+            .combineLatest(new RangePublisher(1), new RangePublisher(1), new RangePublisher(1), new RangePublisher(1))
+            .subscribe(quads);
+
+        triples.request(10);
+        quads.request(10);
+        assertEquals(asList(Triple.of(0, 0, 0), Triple.of(0, 0, 1)), triples.items);
+        assertTrue(triples.completed);
+        assertEquals(asList(Quad.of(0, 0, 0, 0)), quads.items);
+        assertTrue(quads.completed);
+    }
+
+    /**
+     * Test combining the latest items completes when a source completes without an item.
+     */
+    @Test
+    public void testCombineLatestEmptySource() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.combineLatest(source0, source1).subscribe(subscriber);
+
+        source1.emit(1);
+        source0.complete();
+        assertTrue(subscriber.completed);
+        assertTrue(source1.cancelled);
+    }
+
+    /**
+     * Test combining the latest items respects demand.
+     */
+    @Test
+    public void testCombineLatestDemand() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.combineLatest(source0, source1).subscribe(subscriber);
+
+        source0.emit("a");
+        source1.emit(1);
+        source1.emit(2);
+        assertEquals(0, subscriber.items.size());
+        subscriber.request(1);
+        assertEquals(asList(Pair.of("a", 1)), subscriber.items);
+        subscriber.request(1);
+        assertEquals(asList(Pair.of("a", 1), Pair.of("a", 2)), subscriber.items);
+    }
+
+    /**
+     * Test combining the latest items buffered before any demand in the order they arrived.
+     */
+    @Test
+    public void testCombineLatestArrivalOrder() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.combineLatest(source0, source1).subscribe(subscriber);
+
+        source0.emit("a1");
+        source1.emit(1);
+        source1.emit(2);
+        source0.emit("a2");
+        assertEquals(0, subscriber.items.size());
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(asList(Pair.of("a1", 1), Pair.of("a1", 2), Pair.of("a2", 2)), subscriber.items);
+    }
+
+    /**
+     * Test an error from a source is passed on and cancels the other sources.
+     */
+    @Test
+    public void testError() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.zip(source0, source1).subscribe(subscriber);
+        final IllegalStateException error = new IllegalStateException();
+
+        source0.emit("a");
+        source1.error(error);
+        assertTrue(error == subscriber.error);
+        assertTrue(source0.cancelled);
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * Test cancelling cancels the sources.
+     */
+    @Test
+    public void testCancel() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.zip(source0, source1).subscribe(subscriber);
+        subscriber.request(10);
+
+        subscriber.subscription.cancel();
+        assertTrue(source0.cancelled);
+        assertTrue(source1.cancelled);
+        source0.emit("a");
+        source1.emit(1);
+        assertEquals(0, subscriber.items.size());
+    }
+
+    /**
+     * Test a non-positive request signals an error.
+     */
+    @Test
+    public void testNonPositiveRequest() {
+        final ManualPublisher<String> source0 = new ManualPublisher<>();
+        final ManualPublisher<Integer> source1 = new ManualPublisher<>();
+        final RecordingSubscriber<Pair<String, Integer>> subscriber = new RecordingSubscriber<>();
+        TupleFlows.zip(source0, source1).subscribe(subscriber);
+
+        subscriber.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(source0.cancelled);
+    }
+
+    /**
+     * Test zipping publishers that emit from other threads.
+     */
+    @Test
+    public void testZipAsynchronous() throws InterruptedException {
+        final RecordingSubscriber<Pair<Integer, Integer>> subscriber = new RecordingSubscriber<>();
+        try (SubmissionPublisher<Integer> source0 = new SubmissionPublisher<>();
+             SubmissionPublisher<Integer> source1 = new SubmissionPublisher<>()) {
+            TupleFlows.zip(source0, source1).subscribe(subscriber);
+            subscriber.request(Long.MAX_VALUE);
+            final Thread producer = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    source1.submit(i);
+                }
+            });
+            producer.start();
+            for (int i = 0; i < 10000; i++) {
+                source0.submit(i);
+            }
+            producer.join();
+        }
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertEquals(10000, subscriber.items.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(Pair.of(i, i), subscriber.items.get(i));
+        }
+    }
+
+    /**
+     * Subscriber that records the signals it receives.
+     */
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription newSubscription) {
+            subscription = newSubscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+    }
+
+    /**
+     * Publisher of a range of integers that emits synchronously when items are requested.
+     */
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+        private final int count;
+        private final List<Long> requests = new ArrayList<>();
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long requested;
+                private int index;
+                private boolean emitting;
+                private boolean cancelled;
+
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    requested += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (requested > 0 && index < count && !cancelled) {
+                        requested--;
+                        subscriber.onNext(index++);
+                    }
+                    if (index == count && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * Publisher that emits when told to.
+     */
+    private static final class ManualPublisher<T> implements Flow.Publisher<T> {
+        private Flow.Subscriber<? super T> subscriber;
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> newSubscriber) {
+            subscriber = newSubscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        void emit(T item) {
+            if (!cancelled) {
+                subscriber.onNext(item);
+            }
+        }
+
+        void complete() {
+            subscriber.onComplete();
+        }
+
+        void error(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleInterner}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleInternerTest {
+
+    /**
+     * Test equal tuples are interned to the same instance.
+     */
+    @Test
+    public void testIntern() {
+        final TupleInterner<Pair<String, Integer>> interner = Tuples.interner();
+        final Pair<String, Integer> first = Pair.of("a", 1);
+
+        assertTrue(first == interner.intern(first));
+        assertTrue(first == interner.intern(Pair.of("a", 1)));
+        assertTrue(first != interner.intern(Pair.of("a", 2)));
+        assertEquals(1, interner.hits());
+        assertEquals(2, interner.misses());
+        assertEquals(2, interner.size());
+    }
+
+    /**
+     * Test interning many tuples of different types.
+     */
+    @Test
+    public void testInternMany() {
+        final TupleInterner<Object> interner = TupleInterner.create(1);
+        final List<Object> canonical = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            canonical.add(interner.intern(NTuple.of(i, "a")));
+            canonical.add(interner.intern(Triple.of(i, i, i)));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(canonical.get(i * 2) == interner.intern(NTuple.of(i, "a")));
+            assertTrue(canonical.get(i * 2 + 1) == interner.intern(Triple.of(i, i, i)));
+        }
+        assertEquals(2000, interner.hits());
+        assertEquals(2000, interner.misses());
+    }
+
+    /**
+     * Test concurrent interning returns a single canonical instance.
+     */
+    @Test
+    public void testConcurrentIntern() throws InterruptedException, ExecutionException {
+        final TupleInterner<Pair<Integer, Integer>> interner = Tuples.interner();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<Pair<Integer, Integer>>>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    final List<Pair<Integer, Integer>> interned = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        interned.add(interner.intern(Pair.of(i, i)));
+                    }
+                    return interned;
+                }));
+            }
+
+            final List<Pair<Integer, Integer>> expected = futures.get(0).get();
+            for (final Future<List<Pair<Integer, Integer>>> future : futures) {
+                final List<Pair<Integer, Integer>> actual = future.get();
+                for (int i = 0; i < 1000; i++) {
+                    assertTrue(expected.get(i) == actual.get(i));
+                }
+            }
+            assertEquals(1000, interner.misses());
+            assertEquals(3000, interner.hits());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test creating an interner with invalid concurrency throws exception.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidConcurrency() {
+        TupleInterner.create(3);
+    }
+
+    /**
+     * Test interning null throws exception.
+     */
+    @Test(expected = NullPointerException.class)
+    public void testNull() {
+        Tuples.interner().intern(null);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleMemoizer}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleMemoizerTest {
+
+    /**
+     * Test results of a function of two values are stored.
+     */
+    @Test
+    public void testPair() {
+        final AtomicInteger calls = new AtomicInteger();
+        final TupleMemoizer.PairMemoizer<String, Integer, String> memoizer = TupleMemoizer.of((String a, Integer b) -> {
+            calls.incrementAndGet();
+            return a + b;
+        });
+
+        assertEquals("a1", memoizer.apply("a", 1));
+        assertEquals("a1", memoizer.apply("a", 1));
+        assertEquals("a2", memoizer.apply("a", 2));
+        assertEquals(2, calls.get());
+        assertEquals(1, memoizer.hits());
+        assertEquals(2, memoizer.misses());
+        assertEquals(2, memoizer.size());
+    }
+
+    /**
+     * Test results of a function of three values are stored.
+     */
+    @Test
+    public void testTriple() {
+        final AtomicInteger calls = new AtomicInteger();
+        final TriFunction<Integer, Integer, Integer, Integer> memoizer =
+            TupleMemoizer.of((Integer a, Integer b, Integer c) -> calls.incrementAndGet() + a + b + c);
+
+        assertEquals(7, (int) memoizer.apply(1, 2, 3));
+        assertEquals(7, (int) memoizer.apply(1, 2, 3));
+        assertEquals(8, (int) memoizer.apply(3, 2, 1));
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Test results of a function of four values are stored.
+     */
+    @Test
+    public void testQuad() {
+        final AtomicInteger calls = new AtomicInteger();
+        final TupleMemoizer.QuadMemoizer<Integer, Integer, Integer, Integer, Integer> memoizer =
+            TupleMemoizer.of((Integer a, Integer b, Integer c, Integer d) -> calls.incrementAndGet() + a + b + c + d);
+
+        assertEquals(11, (int) memoizer.apply(1, 2, 3, 4));
+        assertEquals(11, (int) memoizer.apply(1, 2, 3, 4));
+        assertEquals(12, (int) memoizer.apply(4, 3, 2, 1));
+        assertEquals(2, calls.get());
+        assertEquals(1, memoizer.hits());
+    }
+
+    /**
+     * Test null values and results are stored.
+     */
+    @Test
+    public void testNulls() {
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunction<String, String, String> memoizer = TupleMemoizer.of((String a, String b) -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertNull(memoizer.apply(null, "a"));
+        assertNull(memoizer.apply(null, "a"));
+        assertNull(memoizer.apply("a", null));
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Test the number of results is bounded.
+     */
+    @Test
+    public void testMaximumSize() {
+        final TupleMemoizer.PairMemoizer<Integer, Integer, Integer> memoizer = TupleMemoizer
+            .builder()
+            .maximumSize(100)
+            .concurrency(4)
+            .of((Integer a, Integer b) -> a * b);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 2, (int) memoizer.apply(i, 2));
+        }
+        assertTrue(memoizer.size() <= 100);
+        assertEquals(1000 - memoizer.size(), memoizer.evictions());
+    }
+
+    /**
+     * Test results that have been used since the clock hand passed them are not evicted.
+     */
+    @Test
+    public void testEvictsUnused() {
+        final TupleMemoizer.PairMemoizer<Integer, Integer, Integer> memoizer = TupleMemoizer
+            .builder()
+            .maximumSize(4)
+            .concurrency(1)
+            .of((Integer a, Integer b) -> a + b);
+
+        for (int i = 0; i < 4; i++) {
+            memoizer.apply(i, 0);
+        }
+        memoizer.apply(0, 0);
+        memoizer.apply(4, 0);
+        final long misses = memoizer.misses();
+
+        memoizer.apply(0, 0);
+        assertEquals(misses, memoizer.misses());
+        memoizer.apply(1, 0);
+        assertEquals(misses + 1, memoizer.misses());
+        assertEquals(4, memoizer.size());
+    }
+
+    /**
+     * Test results expire.
+     */
+    @Test
+    public void testExpireAfterWrite() {
+        final AtomicLong time = new AtomicLong();
+        final AtomicInteger calls = new AtomicInteger();
+        final TupleMemoizer.PairMemoizer<String, String, Integer> memoizer = TupleMemoizer
+            .builder()
+            .expireAfterWrite(Duration.ofSeconds(1))
+            .ticker(time::get)
+            .of((String a, String b) -> calls.incrementAndGet());
+
+        assertEquals(1, (int) memoizer.apply("a", "b"));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(1, (int) memoizer.apply("a", "b"));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(2, (int) memoizer.apply("a", "b"));
+        assertEquals(1, memoizer.evictions());
+        assertEquals(1, memoizer.size());
+    }
+
+    /**
+     * Test exceptions are thrown and not stored.
+     */
+    @Test
+    public void testException() {
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunction<String, String, String> memoizer = TupleMemoizer.of((String a, String b) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return a + b;
+        });
+
+        try {
+            memoizer.apply("a", "b");
+            fail("Expected exception");
+        }
+        catch (IllegalStateException e) {
+            assertEquals(1, calls.get());
+        }
+        assertEquals("ab", memoizer.apply("a", "b"));
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Test a recursive call with the same values fails.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testRecursive() {
+        final List<BiFunction<String, String, String>> self = new ArrayList<>();
+        self.add(TupleMemoizer.of((String a, String b) -> self.get(0).apply(a, b)));
+
+        self.get(0).apply("a", "b");
+    }
+
+    /**
+     * Test concurrent calls with the same values compute the result once.
+     */
+    @Test
+    public void testSingleFlight() throws InterruptedException, ExecutionException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final TupleMemoizer.PairMemoizer<String, String, String> memoizer = TupleMemoizer.of((String a, String b) -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return a + b;
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> memoizer.apply("a", "b")));
+            started.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> memoizer.apply("a", "b")));
+            }
+            release.countDown();
+            for (final Future<String> result : results) {
+                assertEquals("ab", result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, memoizer.misses());
+        assertEquals(3, memoizer.hits());
+    }
+
+    /**
+     * Test clearing the results.
+     */
+    @Test
+    public void testClear() {
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunction<String, String, Integer> function = (a, b) -> calls.incrementAndGet();
+        final TupleMemoizer.PairMemoizer<String, String, Integer> memoizer = TupleMemoizer.of(function);
+
+        memoizer.apply("a", "b");
+        memoizer.clear();
+        assertEquals(0, memoizer.size());
+        assertEquals(2, (int) memoizer.apply("a", "b"));
+    }
+
+    /**
+     * Test the maximum size must be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveMaximumSize() {
+        TupleMemoizer.builder().maximumSize(0);
+    }
+
+    /**
+     * Test the concurrency must be a power of two.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConcurrencyNotPowerOfTwo() {
+        TupleMemoizer.builder().concurrency(3);
+    }
+
+    /**
+     * Test the expiry must be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveExpiry() {
+        TupleMemoizer.builder().expireAfterWrite(Duration.ZERO);
+    }
+}
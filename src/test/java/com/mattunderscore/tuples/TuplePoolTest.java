@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TuplePool}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TuplePoolTest {
+
+    /**
+     * Test the pool only creates tuples when none are available.
+     */
+    @Test
+    public void testReuse() {
+        final TuplePool<MutablePair<Integer, Integer>> pool = MutablePair.pool(2);
+
+        for (int i = 0; i < 100; i++) {
+            final MutablePair<Integer, Integer> first = pool.acquire().set(i, i);
+            final MutablePair<Integer, Integer> second = pool.acquire().set(i, i + 1);
+            pool.release(first);
+            pool.release(second);
+        }
+        assertEquals(2, pool.created());
+        assertEquals(2, pool.available());
+    }
+
+    /**
+     * Test tuples released to a full pool are dropped.
+     */
+    @Test
+    public void testFull() {
+        final TuplePool<MutablePair<Integer, Integer>> pool = MutablePair.pool(1);
+        final MutablePair<Integer, Integer> first = pool.acquire();
+        final MutablePair<Integer, Integer> second = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.available());
+        assertTrue(first == pool.acquire());
+        assertEquals(0, pool.available());
+    }
+
+    /**
+     * Test a tuple cannot be released twice.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleRelease() {
+        final TuplePool<MutablePair<Integer, Integer>> pool = MutablePair.pool(2);
+        final MutablePair<Integer, Integer> pair = pool.acquire();
+
+        pool.release(pair);
+        pool.release(pair);
+    }
+
+    /**
+     * Test the capacity must not be negative.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        MutablePair.pool(-1);
+    }
+
+    /**
+     * Test the pool cannot be used by another thread.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testOtherThread() throws Throwable {
+        final TuplePool<MutablePair<Integer, Integer>> pool = MutablePair.pool(2);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<MutablePair<Integer, Integer>> future = executor.submit(pool::acquire);
+            future.get();
+        }
+        catch (ExecutionException e) {
+            throw e.getCause();
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
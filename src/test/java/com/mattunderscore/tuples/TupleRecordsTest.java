@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleRecords}.
+ * <p>
+ * Compiles records when the tests run so they compile without record support, they are skipped before Java 16.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleRecordsTest {
+    private static final Class<Object> POINT = compileRecord("Point", "int x, String y");
+    private static final Class<Object> WIDE = compileRecord("Wide", "int a, int b, int c, String d, String e");
+
+    /**
+     * Test converters are cached.
+     */
+    @Test
+    public void testCached() {
+        final RecordConverter<Object> converter = converter(POINT);
+
+        assertSame(converter, TupleRecords.converter(POINT));
+        assertSame(converter, TupleRecords.converter(MethodHandles.lookup(), POINT));
+        assertEquals(2, converter.arity());
+    }
+
+    /**
+     * Test converting to and from a pair.
+     */
+    @Test
+    public void testPair() {
+        final RecordConverter<Object> converter = converter(POINT);
+        final Function<Pair<? extends Integer, ? extends String>, Object> fromPair = converter.fromPair();
+        final Function<Object, Pair<Integer, String>> toPair = converter.toPair();
+
+        final Object record = fromPair.apply(Pair.of(1, "a"));
+
+        assertEquals(POINT, record.getClass());
+        assertEquals(Pair.of(1, "a"), toPair.apply(record));
+    }
+
+    /**
+     * Test converting to and from a tuple.
+     */
+    @Test
+    public void testTuple() {
+        final RecordConverter<Object> converter = converter(POINT);
+
+        final Object record = converter.fromTuple(NTuple.of(1, "a"));
+
+        assertEquals(Pair.of(1, "a"), converter.toTuple(record));
+    }
+
+    /**
+     * Test converting a record with five components to and from a generated tuple.
+     */
+    @Test
+    public void testGeneratedTuple() {
+        final RecordConverter<Object> converter = converter(WIDE);
+
+        final Object record = converter.fromTuple(Quint.of(1, 2, 3, "d", "e"));
+        final Tuple tuple = converter.toTuple(record);
+
+        assertEquals(Quint.class, tuple.getClass());
+        assertEquals(Quint.of(1, 2, 3, "d", "e"), tuple);
+    }
+
+    /**
+     * Test converting a record using a lookup with access to it.
+     */
+    @Test
+    public void testLookup() {
+        assumeTrue(POINT != null);
+        final RecordConverter<Object> converter = TupleRecords.converter(MethodHandles.lookup(), POINT);
+
+        assertEquals(Pair.of(1, "a"), converter.toTuple(converter.fromTuple(Pair.of(1, "a"))));
+    }
+
+    /**
+     * Test a record that is not open to this library requires a lookup.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotOpen() throws ClassNotFoundException {
+        assumeTrue(POINT != null);
+        TupleRecords.converter(Class.forName("jdk.net.UnixDomainPrincipal"));
+    }
+
+    /**
+     * Test converting from a tuple with the wrong arity.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongArity() {
+        converter(POINT).fromTuple(Triple.of(1, "a", null));
+    }
+
+    /**
+     * Test converting from a tuple with a value of the wrong type.
+     */
+    @Test(expected = ClassCastException.class)
+    public void testWrongType() {
+        converter(POINT).fromTuple(Pair.of("a", "b"));
+    }
+
+    /**
+     * Test requesting a conversion to a tuple of the wrong arity.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testWrongConversion() {
+        converter(POINT).toTriple();
+    }
+
+    /**
+     * Test a class that is not a record.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotRecord() {
+        TupleRecords.converter(String.class);
+    }
+
+    private static RecordConverter<Object> converter(Class<Object> type) {
+        assumeTrue(type != null);
+        return TupleRecords.converter(type);
+    }
+
+    /**
+     * Compile a record in the package of this test and define it with the lookup of this test.
+     *
+     * @return the record or null if records or the compiler are not available
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<Object> compileRecord(String name, String components) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null || Runtime.version().feature() < 16) {
+            return null;
+        }
+        try {
+            final Path directory = Files.createTempDirectory("records");
+            final Path source = directory.resolve(name + ".java");
+            final Path compiled = directory.resolve(name + ".class");
+            try {
+                final String code = "package com.mattunderscore.tuples; record " + name + "(" + components + ") {}";
+                Files.write(source, code.getBytes(UTF_8));
+                assertEquals(0, compiler.run(null, null, null, source.toString()));
+                return (Class<Object>) MethodHandles.lookup().defineClass(Files.readAllBytes(compiled));
+            }
+            finally {
+                Files.deleteIfExists(source);
+                Files.deleteIfExists(compiled);
+                Files.delete(directory);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
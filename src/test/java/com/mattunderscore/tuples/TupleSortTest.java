@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleSort}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleSortTest {
+
+    /**
+     * Test ordering {@code int} keys, including negative values.
+     */
+    @Test
+    public void testOrderInts() {
+        final int[] order = TupleSort.order(TupleSort.key(new int[] {3, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 0}));
+
+        assertArrayEquals(new int[] {3, 1, 4, 0, 2}, order);
+    }
+
+    /**
+     * Test ordering {@code long} keys, including negative values.
+     */
+    @Test
+    public void testOrderLongs() {
+        final int[] order = TupleSort.order(TupleSort.key(new long[] {1L << 40, -1L, Long.MIN_VALUE, 7L}));
+
+        assertArrayEquals(new int[] {2, 1, 3, 0}, order);
+    }
+
+    /**
+     * Test ordering {@code double} keys is the same as {@link Double#compare(double, double)}.
+     */
+    @Test
+    public void testOrderDoubles() {
+        final int[] order = TupleSort.order(TupleSort.key(new double[] {1.5, -0.0, Double.NaN, -2.0, 0.0}));
+
+        assertArrayEquals(new int[] {3, 1, 4, 0, 2}, order);
+    }
+
+    /**
+     * Test ordering is stable.
+     */
+    @Test
+    public void testOrderStable() {
+        final int[] order = TupleSort.order(TupleSort.key(new int[] {1, 0, 1, 0}));
+
+        assertArrayEquals(new int[] {1, 3, 0, 2}, order);
+    }
+
+    /**
+     * Test ordering by two keys.
+     */
+    @Test
+    public void testOrderLexicographic() {
+        final long[] keys0 = {2L, 1L, 2L, 1L};
+        final long[] keys1 = {0L, 5L, -3L, 4L};
+        final int[] order = TupleSort.order(TupleSort.key(keys0), TupleSort.key(keys1));
+
+        assertArrayEquals(new int[] {3, 1, 2, 0}, order);
+        assertArrayEquals(new long[] {1L, 1L, 2L, 2L}, TupleSort.permute(keys0, order));
+        assertArrayEquals(new long[] {4L, 5L, -3L, 0L}, TupleSort.permute(keys1, order));
+    }
+
+    /**
+     * Test ordering in parallel gives the same order as sorting the indices.
+     */
+    @Test
+    public void testParallelOrder() {
+        final Random random = new Random(7L);
+        final int[] keys0 = random.ints(300000, 0, 100).toArray();
+        final double[] keys1 = random.doubles(300000).toArray();
+
+        final int[] order = TupleSort.parallelOrder(TupleSort.key(keys0), TupleSort.key(keys1));
+
+        final int[] expected = IntStream
+            .range(0, keys0.length)
+            .boxed()
+            .sorted(Comparator.<Integer>comparingInt(i -> keys0[i]).thenComparingDouble(i -> keys1[i]))
+            .mapToInt(i -> i)
+            .toArray();
+        assertArrayEquals(expected, order);
+        assertArrayEquals(expected, TupleSort.order(TupleSort.key(keys0), TupleSort.key(keys1)));
+    }
+
+    /**
+     * Test ordering an empty key.
+     */
+    @Test
+    public void testOrderEmpty() {
+        assertEquals(0, TupleSort.order(TupleSort.key(new long[0])).length);
+    }
+
+    /**
+     * Test ordering keys of different sizes.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOrderDifferentSizes() {
+        TupleSort.order(TupleSort.key(new int[1]), TupleSort.key(new int[2]));
+    }
+
+    /**
+     * Test ordering without keys.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOrderNoKeys() {
+        TupleSort.order();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Tuple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TupleTest {
+    private final List<Tuple> tuples = asList(
+        Container.of("a"),
+        Pair.of("a", "b"),
+        Triple.of("a", "b", "c"),
+        Quad.of("a", "b", "c", "d"),
+        Quint.of("a", "b", "c", "d", "e"),
+        NTuple.of("a", "b", "c", "d", "e", "f"),
+        NTuple.of("x", "a", "b", "c").slice(1, 4));
+
+    /**
+     * Test accessing the values by index.
+     */
+    @Test
+    public void testGet() {
+        for (final Tuple tuple : tuples) {
+            for (int i = 0; i < tuple.arity(); i++) {
+                assertEquals(String.valueOf((char) ('a' + i)), tuple.get(i));
+            }
+        }
+    }
+
+    /**
+     * Test accessing a value out of range.
+     */
+    @Test
+    public void testGetOutOfRange() {
+        for (final Tuple tuple : tuples) {
+            try {
+                tuple.get(tuple.arity());
+                fail("Expected exception for " + tuple);
+            }
+            catch (IndexOutOfBoundsException e) {
+                // Expected
+            }
+        }
+    }
+
+    /**
+     * Test converting to an array, an n-tuple and passing each value to a consumer.
+     */
+    @Test
+    public void testConversions() {
+        for (final Tuple tuple : tuples) {
+            final Object[] values = tuple.toArray();
+            final List<Object> consumed = new ArrayList<>();
+            tuple.forEach(consumed::add);
+
+            assertEquals(tuple.arity(), values.length);
+            assertEquals(asList(values), consumed);
+            assertEquals(NTuple.of(values), tuple.toNTuple());
+            assertArrayEquals(values, tuple.toNTuple().toArray());
+        }
+    }
+}
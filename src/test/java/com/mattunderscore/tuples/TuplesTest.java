@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Tuples}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TuplesTest {
+
+    /**
+     * Test zipping lists into pairs.
+     */
+    @Test
+    public void testZipLists() {
+        final List<Pair<Integer, String>> pairs = Tuples.zip(asList(1, 2, 3), asList("a", "b")).collect(toList());
+
+        assertEquals(asList(Pair.of(1, "a"), Pair.of(2, "b")), pairs);
+    }
+
+    /**
+     * Test zipping lists that do not support random access.
+     */
+    @Test
+    public void testZipLinkedLists() {
+        final List<Triple<Integer, String, Integer>> triples = Tuples
+            .zip(new LinkedList<>(asList(1, 2)), asList("a", "b"), asList(3, 4))
+            .collect(toList());
+
+        assertEquals(asList(Triple.of(1, "a", 3), Triple.of(2, "b", 4)), triples);
+    }
+
+    /**
+     * Test zipping arrays into quads.
+     */
+    @Test
+    public void testZipArrays() {
+        final List<Quad<Integer, String, Integer, String>> quads = Tuples
+            .zip(new Integer[] {1, 2}, new String[] {"a", "b"}, new Integer[] {3, 4}, new String[] {"c"})
+            .collect(toList());
+
+        assertEquals(asList(Quad.of(1, "a", 3, "c")), quads);
+    }
+
+    /**
+     * Test zipping in parallel splits the range evenly and keeps the order.
+     */
+    @Test
+    public void testZipParallel() {
+        final List<Integer> values = IntStream.range(0, 100000).boxed().collect(toList());
+        final Stream<Pair<Integer, Integer>> stream = Tuples.zip(values, values);
+        final Spliterator<Pair<Integer, Integer>> spliterator = stream.spliterator();
+        final Spliterator<Pair<Integer, Integer>> prefix = spliterator.trySplit();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(50000, prefix.estimateSize());
+        assertEquals(50000, spliterator.estimateSize());
+        assertEquals(
+            values.stream().map(v -> Pair.of(v, v)).collect(toList()),
+            Tuples.zip(values, values).parallel().collect(toList()));
+    }
+
+    /**
+     * Test zipping spliterators in parallel keeps the order.
+     */
+    @Test
+    public void testZipSpliteratorsParallel() {
+        final List<Integer> values = IntStream.range(0, 10000).boxed().collect(toList());
+        final List<Pair<Integer, Integer>> pairs = Tuples
+            .zip(new LinkedList<>(values).spliterator(), IntStream.range(0, 20000).boxed().spliterator())
+            .parallel()
+            .collect(toList());
+
+        assertEquals(values.stream().map(v -> Pair.of(v, v)).collect(toList()), pairs);
+    }
+
+    /**
+     * Test zipping four spliterators.
+     */
+    @Test
+    public void testZipSpliterators() {
+        final List<Quad<String, String, String, String>> quads = Tuples
+            .zip(asList("a").spliterator(), asList("b").spliterator(), asList("c").spliterator(), asList("d").spliterator())
+            .collect(toList());
+
+        assertEquals(asList(Quad.of("a", "b", "c", "d")), quads);
+    }
+}
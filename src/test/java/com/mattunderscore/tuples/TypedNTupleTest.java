@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Matt Champion
+ */
+
+package com.mattunderscore.tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TypedNTuple}.
+ *
+ * @author Matt Champion 18/10/2026
+ */
+public final class TypedNTupleTest {
+    private final NTupleSchema schema = NTupleSchema.of(int.class, double.class, Object.class);
+
+    /**
+     * Test equality.
+     */
+    @Test
+    public void testEquals() {
+        assertEquals(schema.create(1, Double.NaN, null), schema.create(1, Double.NaN, null));
+        assertNotEquals(schema.create(1, 0.0, null), schema.create(1, -0.0, null));
+        assertNotEquals(schema.create(1, 0.0, "a"), schema.create(1, 0.0, "b"));
+        assertNotEquals(
+            schema.create(1, 0.0, "a"),
+            NTupleSchema.of(int.class, double.class, String.class).create(1, 0.0, "a"));
+    }
+
+    /**
+     * Test the hash code is consistent with the boxed tuple.
+     */
+    @Test
+    public void testHashCode() {
+        assertEquals(NTuple.of(-7, 1.5, "a").hashCode(), schema.create(-7, 1.5, "a").hashCode());
+    }
+
+    /**
+     * Test reading boxed values.
+     */
+    @Test
+    public void testBoxedValues() {
+        final TypedNTuple tuple = schema.create(-7, 1.5, "a");
+
+        assertEquals(Integer.valueOf(-7), tuple.v(0));
+        assertEquals(Double.valueOf(1.5), tuple.v(1));
+        assertEquals(Object.class, tuple.schema().type(2));
+    }
+}